@@ -1,16 +1,22 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.spring.boot.autoconfigure;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.oracle.coherence.spring.CoherenceServer;
 import com.oracle.coherence.spring.boot.autoconfigure.messaging.CoherencePublisherAutoConfigurationScanRegistrar;
+import com.oracle.coherence.spring.boot.autoconfigure.support.BlockingListenerRejectionHandler;
 import com.oracle.coherence.spring.boot.config.CoherenceConfigClientProperties;
+import com.oracle.coherence.spring.cache.CacheWarmer;
+import com.oracle.coherence.spring.cache.CacheWarmupRunner;
 import com.oracle.coherence.spring.cache.CoherenceCacheConfiguration;
 import com.oracle.coherence.spring.cache.CoherenceCacheManager;
 import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
@@ -22,21 +28,32 @@ import com.oracle.coherence.spring.configuration.support.SpringSystemPropertyRes
 import com.oracle.coherence.spring.messaging.CoherencePublisherProxyFactoryBean;
 import com.tangosol.net.Coherence;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -61,21 +78,81 @@ public class CoherenceAutoConfiguration {
 	CoherenceCacheManager cacheManager(Coherence coherence, CoherenceProperties coherenceProperties) {
 		if (coherenceProperties.getCache() != null) {
 			final CoherenceProperties.CacheAbstractionProperties cacheProperties = coherenceProperties.getCache();
-			final CoherenceCacheConfiguration coherenceCacheConfiguration = new CoherenceCacheConfiguration();
-			coherenceCacheConfiguration.setCacheNamePrefix(cacheProperties.getCacheNamePrefix());
-			coherenceCacheConfiguration.setUseCacheNamePrefix(cacheProperties.isUseCacheNamePrefix());
-			coherenceCacheConfiguration.setTimeToLive(cacheProperties.getTimeToLive());
-			coherenceCacheConfiguration.setLockEntireCache(cacheProperties.isLockEntireCache());
-			coherenceCacheConfiguration.setLockTimeout(cacheProperties.getLockTimeout());
-			coherenceCacheConfiguration.setUseLocks(cacheProperties.isUseLocks());
-
-			return new CoherenceCacheManager(coherence, coherenceCacheConfiguration);
+			final CoherenceCacheConfiguration coherenceCacheConfiguration = createCacheConfiguration(cacheProperties);
+			final Map<String, CoherenceCacheConfiguration> cacheConfigurations = new HashMap<>();
+
+			cacheProperties.getCaches().forEach((cacheName, overrides) -> {
+				final CoherenceCacheConfiguration cacheConfiguration = createCacheConfiguration(cacheProperties);
+				applyCacheOverrides(cacheConfiguration, overrides);
+				cacheConfigurations.put(cacheName, cacheConfiguration);
+			});
+
+			final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence, coherenceCacheConfiguration,
+					cacheConfigurations);
+			cacheManager.setTransactionAware(cacheProperties.isTransactionAware());
+			return cacheManager;
 		}
 		else {
 			return new CoherenceCacheManager(coherence);
 		}
 	}
 
+	@Bean
+	@ConditionalOnBean({CoherenceCacheManager.class, CacheWarmer.class})
+	@DependsOn(CoherenceSpringConfiguration.COHERENCE_SERVER_BEAN_NAME)
+	CacheWarmupRunner cacheWarmupRunner(CoherenceCacheManager cacheManager, ObjectProvider<CacheWarmer<?, ?>> cacheWarmers,
+			CoherenceProperties coherenceProperties) {
+		final CacheWarmupRunner cacheWarmupRunner = new CacheWarmupRunner(cacheManager,
+				cacheWarmers.orderedStream().collect(Collectors.toList()));
+		final CoherenceProperties.CacheWarmupProperties warmupProperties = (coherenceProperties.getCache() != null)
+				? coherenceProperties.getCache().getWarmup() : new CoherenceProperties.CacheWarmupProperties();
+		cacheWarmupRunner.setParallelism(warmupProperties.getParallelism());
+		cacheWarmupRunner.setChunkSize(warmupProperties.getChunkSize());
+		cacheWarmupRunner.setTimeout(warmupProperties.getTimeout());
+		return cacheWarmupRunner;
+	}
+
+	private static CoherenceCacheConfiguration createCacheConfiguration(
+			CoherenceProperties.CacheAbstractionProperties cacheProperties) {
+		final CoherenceCacheConfiguration coherenceCacheConfiguration = new CoherenceCacheConfiguration();
+		coherenceCacheConfiguration.setCacheNamePrefix(cacheProperties.getCacheNamePrefix());
+		coherenceCacheConfiguration.setUseCacheNamePrefix(cacheProperties.isUseCacheNamePrefix());
+		coherenceCacheConfiguration.setTimeToLive(cacheProperties.getTimeToLive());
+		coherenceCacheConfiguration.setLockEntireCache(cacheProperties.isLockEntireCache());
+		coherenceCacheConfiguration.setLockTimeout(cacheProperties.getLockTimeout());
+		coherenceCacheConfiguration.setUseLocks(cacheProperties.isUseLocks());
+		coherenceCacheConfiguration.setUseLoadingLease(cacheProperties.isUseLoadingLease());
+		coherenceCacheConfiguration.setLoadingLeaseDuration(cacheProperties.getLoadingLeaseDuration());
+		coherenceCacheConfiguration.setUseLoadCoalescing(cacheProperties.isUseLoadCoalescing());
+		coherenceCacheConfiguration.setNearCacheHighUnits(cacheProperties.getNearCacheHighUnits());
+		coherenceCacheConfiguration.setNearCacheUnitCalculator(cacheProperties.getNearCacheUnitCalculator());
+		coherenceCacheConfiguration.setNearCacheExpiry(cacheProperties.getNearCacheExpiry());
+		coherenceCacheConfiguration.setRefreshAheadFactor(cacheProperties.getRefreshAheadFactor());
+		coherenceCacheConfiguration.setAllowNullValues(cacheProperties.isAllowNullValues());
+		coherenceCacheConfiguration.setNullValueTimeToLive(cacheProperties.getNullValueTimeToLive());
+		return coherenceCacheConfiguration;
+	}
+
+	private static void applyCacheOverrides(CoherenceCacheConfiguration cacheConfiguration,
+			CoherenceProperties.CacheOverrideProperties overrides) {
+		final PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		map.from(overrides::getCacheNamePrefix).to(cacheConfiguration::setCacheNamePrefix);
+		map.from(overrides::getUseCacheNamePrefix).to(cacheConfiguration::setUseCacheNamePrefix);
+		map.from(overrides::getTimeToLive).to(cacheConfiguration::setTimeToLive);
+		map.from(overrides::getLockEntireCache).to(cacheConfiguration::setLockEntireCache);
+		map.from(overrides::getLockTimeout).to(cacheConfiguration::setLockTimeout);
+		map.from(overrides::getUseLocks).to(cacheConfiguration::setUseLocks);
+		map.from(overrides::getUseLoadingLease).to(cacheConfiguration::setUseLoadingLease);
+		map.from(overrides::getLoadingLeaseDuration).to(cacheConfiguration::setLoadingLeaseDuration);
+		map.from(overrides::getUseLoadCoalescing).to(cacheConfiguration::setUseLoadCoalescing);
+		map.from(overrides::getNearCacheHighUnits).to(cacheConfiguration::setNearCacheHighUnits);
+		map.from(overrides::getNearCacheUnitCalculator).to(cacheConfiguration::setNearCacheUnitCalculator);
+		map.from(overrides::getNearCacheExpiry).to(cacheConfiguration::setNearCacheExpiry);
+		map.from(overrides::getRefreshAheadFactor).to(cacheConfiguration::setRefreshAheadFactor);
+		map.from(overrides::getAllowNullValues).to(cacheConfiguration::setAllowNullValues);
+		map.from(overrides::getNullValueTimeToLive).to(cacheConfiguration::setNullValueTimeToLive);
+	}
+
 	@Bean
 	public static BeanFactoryPostProcessor coherenceAutoConfigurationBeanFactoryPostProcessor(ConfigurableEnvironment environment) {
 		return (beanFactory) -> {
@@ -122,6 +199,53 @@ public class CoherenceAutoConfiguration {
 		};
 	}
 
+	/**
+	 * Runs listener methods on virtual threads if {@code coherence.listeners.execution} is {@code virtual}.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "coherence.listeners", name = "execution", havingValue = "virtual")
+	static class VirtualThreadListenerExecutorConfiguration {
+
+		@Bean(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME)
+		@ConditionalOnMissingBean(name = CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME)
+		TaskExecutor coherenceListenerExecutor(CoherenceProperties coherenceProperties) {
+			Assert.state(JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE),
+					"coherence.listeners.execution=virtual requires Java 21 or later");
+			return new VirtualThreadTaskExecutor(coherenceProperties.getListeners().getThreadNamePrefix());
+		}
+	}
+
+	/**
+	 * Runs listener methods on a bounded thread pool if {@code coherence.listeners.execution} is {@code bounded}.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "coherence.listeners", name = "execution", havingValue = "bounded")
+	static class BoundedListenerExecutorConfiguration {
+
+		private static final int LISTENER_EXECUTOR_AWAIT_TERMINATION_SECONDS = 30;
+
+		@Bean(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME)
+		@ConditionalOnMissingBean(name = CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME)
+		ThreadPoolTaskExecutor coherenceListenerExecutor(CoherenceProperties coherenceProperties) {
+			final CoherenceProperties.ListenerProperties listenerProperties = coherenceProperties.getListeners();
+			final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(listenerProperties.getMaxThreads());
+			executor.setMaxPoolSize(listenerProperties.getMaxThreads());
+			executor.setQueueCapacity(listenerProperties.getQueueCapacity());
+			executor.setThreadNamePrefix(listenerProperties.getThreadNamePrefix());
+			// a full queue makes the delivering Coherence thread wait for a bounded time instead of running the listener
+			final BlockingListenerRejectionHandler rejectionHandler =
+					new BlockingListenerRejectionHandler(listenerProperties.getQueueTimeout());
+			executor.setRejectedExecutionHandler(rejectionHandler);
+			executor.setTaskDecorator(rejectionHandler.taskDecorator());
+			// keep accepting and completing notifications until Coherence has stopped
+			executor.setAcceptTasksAfterContextClose(true);
+			executor.setWaitForTasksToCompleteOnShutdown(true);
+			executor.setAwaitTerminationSeconds(LISTENER_EXECUTOR_AWAIT_TERMINATION_SECONDS);
+			return executor;
+		}
+	}
+
 	@AutoConfiguration
 	@ConditionalOnMissingBean(CoherencePublisherProxyFactoryBean.class)
 	@Import(CoherencePublisherAutoConfigurationScanRegistrar.class)
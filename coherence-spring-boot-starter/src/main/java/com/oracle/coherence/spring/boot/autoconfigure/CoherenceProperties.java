@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -12,7 +12,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.oracle.coherence.spring.boot.autoconfigure.support.ListenerExecutionType;
 import com.oracle.coherence.spring.boot.autoconfigure.support.LogType;
+import com.oracle.coherence.spring.cache.NearCacheUnitCalculator;
 import com.oracle.coherence.spring.configuration.session.AbstractSessionConfigurationBean;
 import com.oracle.coherence.spring.configuration.session.ClientSessionConfigurationBean;
 import com.oracle.coherence.spring.configuration.session.ServerSessionConfigurationBean;
@@ -98,6 +100,11 @@ public class CoherenceProperties {
 	 */
 	private SessionProperties sessions = new SessionProperties();
 
+	/**
+	 * Execution of topic listener and asynchronous event listener methods.
+	 */
+	private ListenerProperties listeners = new ListenerProperties();
+
 	public SessionProperties getSessions() {
 		return this.sessions;
 	}
@@ -154,6 +161,14 @@ public class CoherenceProperties {
 		this.instance = instance;
 	}
 
+	public ListenerProperties getListeners() {
+		return this.listeners;
+	}
+
+	public void setListeners(ListenerProperties listeners) {
+		this.listeners = listeners;
+	}
+
 	/**
 	 * Returns a {@link Map} of Coherence properties using the format {@code coherence.properties.*}.
 	 * @return the Coherence properties as a {@link Map}. Never returns null.
@@ -353,6 +368,80 @@ public class CoherenceProperties {
 		 */
 		private long lockTimeout = 0;
 
+		/**
+		 * Disabled by default. Coordinate concurrent cache misses via a loading lease that is installed by a single entry
+		 * processor invocation instead of using locks. If enabled, the locking properties are ignored by the value-loader.
+		 */
+		private boolean useLoadingLease = false;
+
+		/**
+		 * The duration of a loading lease. If the lease owner does not install a value within that duration, another
+		 * caller may take over loading the value. Defaults to 10 seconds.
+		 */
+		private Duration loadingLeaseDuration = Duration.ofSeconds(10);
+
+		/**
+		 * Disabled by default. Coalesce concurrent cache misses for the same key within a single JVM, so that only one
+		 * thread retrieves the value from the cluster or invokes the value-loader.
+		 */
+		private boolean useLoadCoalescing = false;
+
+		/**
+		 * The maximum size of a local front tier (near cache) that holds deserialized values of each Spring cache.
+		 * Front tier entries are invalidated via Coherence map events. Defaults to 0, which means that no near cache is
+		 * used.
+		 */
+		private int nearCacheHighUnits = 0;
+
+		/**
+		 * Defines how the size of the near cache is calculated. FIXED bounds the near cache by the number of entries,
+		 * MEMORY by the approximate number of bytes. Defaults to FIXED.
+		 */
+		private NearCacheUnitCalculator nearCacheUnitCalculator = NearCacheUnitCalculator.FIXED;
+
+		/**
+		 * The expiration time for entries of the near cache. Defaults to {@link Duration#ZERO}, which means that near
+		 * cache entries only get evicted or invalidated.
+		 */
+		private Duration nearCacheExpiry = Duration.ZERO;
+
+		/**
+		 * The fraction of the time-to-live after which values read via a value-loader (e.g. {@code @Cacheable(sync =
+		 * true)}) are reloaded in the background, while the current value keeps being served. Defaults to 0, which
+		 * means that values are not refreshed ahead of their expiry.
+		 */
+		private double refreshAheadFactor = 0;
+
+		/**
+		 * Disabled by default. Cache null values, e.g. returned by a value-loader for non-existent entities, so that
+		 * repeated lookups do not invoke the value-loader again.
+		 */
+		private boolean allowNullValues = false;
+
+		/**
+		 * The expiration time for cached null values. Defaults to {@link Duration#ZERO}, which means that the
+		 * time-to-live of regular values applies.
+		 */
+		private Duration nullValueTimeToLive = Duration.ZERO;
+
+		/**
+		 * Disabled by default. Buffer cache puts and evictions that happen within a Spring-managed transaction and apply
+		 * them as a single bulk put and a single bulk removal after the transaction has committed. On rollback, the
+		 * buffered operations are discarded.
+		 */
+		private boolean transactionAware = false;
+
+		/**
+		 * Per-cache overrides of the cache abstraction properties, keyed by the Spring cache name. Properties that are
+		 * not specified for a cache fall back to the properties defined above.
+		 */
+		private Map<String, CacheOverrideProperties> caches = new HashMap<>();
+
+		/**
+		 * Pre-population of caches at application startup using {@code CacheWarmer} beans.
+		 */
+		private CacheWarmupProperties warmup = new CacheWarmupProperties();
+
 		public Duration getTimeToLive() {
 			return this.timeToLive;
 		}
@@ -400,6 +489,423 @@ public class CoherenceProperties {
 		public void setLockTimeout(long lockTimeout) {
 			this.lockTimeout = lockTimeout;
 		}
+
+		public boolean isUseLoadingLease() {
+			return this.useLoadingLease;
+		}
+
+		public void setUseLoadingLease(boolean useLoadingLease) {
+			this.useLoadingLease = useLoadingLease;
+		}
+
+		public Duration getLoadingLeaseDuration() {
+			return this.loadingLeaseDuration;
+		}
+
+		public void setLoadingLeaseDuration(Duration loadingLeaseDuration) {
+			this.loadingLeaseDuration = loadingLeaseDuration;
+		}
+
+		public boolean isUseLoadCoalescing() {
+			return this.useLoadCoalescing;
+		}
+
+		public void setUseLoadCoalescing(boolean useLoadCoalescing) {
+			this.useLoadCoalescing = useLoadCoalescing;
+		}
+
+		public int getNearCacheHighUnits() {
+			return this.nearCacheHighUnits;
+		}
+
+		public void setNearCacheHighUnits(int nearCacheHighUnits) {
+			this.nearCacheHighUnits = nearCacheHighUnits;
+		}
+
+		public NearCacheUnitCalculator getNearCacheUnitCalculator() {
+			return this.nearCacheUnitCalculator;
+		}
+
+		public void setNearCacheUnitCalculator(NearCacheUnitCalculator nearCacheUnitCalculator) {
+			this.nearCacheUnitCalculator = nearCacheUnitCalculator;
+		}
+
+		public Duration getNearCacheExpiry() {
+			return this.nearCacheExpiry;
+		}
+
+		public void setNearCacheExpiry(Duration nearCacheExpiry) {
+			this.nearCacheExpiry = nearCacheExpiry;
+		}
+
+		public double getRefreshAheadFactor() {
+			return this.refreshAheadFactor;
+		}
+
+		public void setRefreshAheadFactor(double refreshAheadFactor) {
+			this.refreshAheadFactor = refreshAheadFactor;
+		}
+
+		public boolean isAllowNullValues() {
+			return this.allowNullValues;
+		}
+
+		public void setAllowNullValues(boolean allowNullValues) {
+			this.allowNullValues = allowNullValues;
+		}
+
+		public Duration getNullValueTimeToLive() {
+			return this.nullValueTimeToLive;
+		}
+
+		public void setNullValueTimeToLive(Duration nullValueTimeToLive) {
+			this.nullValueTimeToLive = nullValueTimeToLive;
+		}
+
+		public boolean isTransactionAware() {
+			return this.transactionAware;
+		}
+
+		public void setTransactionAware(boolean transactionAware) {
+			this.transactionAware = transactionAware;
+		}
+
+		public CacheWarmupProperties getWarmup() {
+			return this.warmup;
+		}
+
+		public void setWarmup(CacheWarmupProperties warmup) {
+			this.warmup = warmup;
+		}
+
+		public Map<String, CacheOverrideProperties> getCaches() {
+			return this.caches;
+		}
+
+		public void setCaches(Map<String, CacheOverrideProperties> caches) {
+			this.caches = caches;
+		}
+	}
+
+	/**
+	 * Properties controlling the threads that invoke {@code @CoherenceTopicListener} methods and
+	 * asynchronous {@code @CoherenceEventListener} methods.
+	 */
+	public static class ListenerProperties {
+
+		/**
+		 * The execution strategy for listener methods.
+		 */
+		private ListenerExecutionType execution = ListenerExecutionType.DEFAULT;
+
+		/**
+		 * The prefix of the names of the listener threads.
+		 */
+		private String threadNamePrefix = "coherence-listener-";
+
+		/**
+		 * The maximum number of threads of the {@code bounded} execution strategy.
+		 */
+		private int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+		/**
+		 * The maximum number of queued invocations of the {@code bounded} execution strategy. Once the queue is full,
+		 * the Coherence thread that delivers the message or event waits up to the queue timeout for space.
+		 */
+		private int queueCapacity = 1000;
+
+		/**
+		 * The maximum time a Coherence thread waits for space in the queue of the {@code bounded} execution strategy,
+		 * before the invocation is rejected and logged.
+		 */
+		private Duration queueTimeout = Duration.ofMillis(100);
+
+		public ListenerExecutionType getExecution() {
+			return this.execution;
+		}
+
+		public void setExecution(ListenerExecutionType execution) {
+			this.execution = execution;
+		}
+
+		public String getThreadNamePrefix() {
+			return this.threadNamePrefix;
+		}
+
+		public void setThreadNamePrefix(String threadNamePrefix) {
+			this.threadNamePrefix = threadNamePrefix;
+		}
+
+		public int getMaxThreads() {
+			return this.maxThreads;
+		}
+
+		public void setMaxThreads(int maxThreads) {
+			this.maxThreads = maxThreads;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public Duration getQueueTimeout() {
+			return this.queueTimeout;
+		}
+
+		public void setQueueTimeout(Duration queueTimeout) {
+			this.queueTimeout = queueTimeout;
+		}
+	}
+
+	/**
+	 * Properties of the cache warm-up at application startup.
+	 */
+	public static class CacheWarmupProperties {
+
+		/**
+		 * The maximum number of chunks that are loaded concurrently. Defaults to the number of available processors.
+		 */
+		private int parallelism = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * The maximum number of keys that are loaded and stored at once.
+		 */
+		private int chunkSize = 1000;
+
+		/**
+		 * The maximum time to wait for the warm-up to complete, before the application continues to start.
+		 */
+		private Duration timeout = Duration.ofMinutes(10);
+
+		public int getParallelism() {
+			return this.parallelism;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+		public int getChunkSize() {
+			return this.chunkSize;
+		}
+
+		public void setChunkSize(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+	}
+
+	/**
+	 * Cache abstraction properties of a single Spring cache. Each property overrides the respective property of
+	 * {@link CacheAbstractionProperties} if specified.
+	 */
+	public static class CacheOverrideProperties {
+
+		/**
+		 * The time-to-live (ttl) value for entries of the cache.
+		 */
+		private Duration timeToLive;
+
+		/**
+		 * Prepend the cache name with a prefix.
+		 */
+		private Boolean useCacheNamePrefix;
+
+		/**
+		 * The String to prepend the cache name with.
+		 */
+		private String cacheNamePrefix;
+
+		/**
+		 * Lock cache entries. Disabling locks is useful for caches where loading a value more than once is cheap.
+		 */
+		private Boolean useLocks;
+
+		/**
+		 * Lock the entire cache.
+		 */
+		private Boolean lockEntireCache;
+
+		/**
+		 * The number of milliseconds to continue trying to obtain a lock.
+		 */
+		private Long lockTimeout;
+
+		/**
+		 * Coordinate concurrent cache misses via a loading lease instead of using locks.
+		 */
+		private Boolean useLoadingLease;
+
+		/**
+		 * The duration of a loading lease.
+		 */
+		private Duration loadingLeaseDuration;
+
+		/**
+		 * Coalesce concurrent cache misses for the same key within a single JVM.
+		 */
+		private Boolean useLoadCoalescing;
+
+		/**
+		 * The maximum size of the near cache of the cache.
+		 */
+		private Integer nearCacheHighUnits;
+
+		/**
+		 * Defines how the size of the near cache is calculated.
+		 */
+		private NearCacheUnitCalculator nearCacheUnitCalculator;
+
+		/**
+		 * The expiration time for entries of the near cache.
+		 */
+		private Duration nearCacheExpiry;
+
+		/**
+		 * The fraction of the time-to-live after which values are refreshed in the background.
+		 */
+		private Double refreshAheadFactor;
+
+		/**
+		 * Whether null values shall be cached.
+		 */
+		private Boolean allowNullValues;
+
+		/**
+		 * The expiration time for cached null values.
+		 */
+		private Duration nullValueTimeToLive;
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public Boolean getUseCacheNamePrefix() {
+			return this.useCacheNamePrefix;
+		}
+
+		public void setUseCacheNamePrefix(Boolean useCacheNamePrefix) {
+			this.useCacheNamePrefix = useCacheNamePrefix;
+		}
+
+		public String getCacheNamePrefix() {
+			return this.cacheNamePrefix;
+		}
+
+		public void setCacheNamePrefix(String cacheNamePrefix) {
+			this.cacheNamePrefix = cacheNamePrefix;
+		}
+
+		public Boolean getUseLocks() {
+			return this.useLocks;
+		}
+
+		public void setUseLocks(Boolean useLocks) {
+			this.useLocks = useLocks;
+		}
+
+		public Boolean getLockEntireCache() {
+			return this.lockEntireCache;
+		}
+
+		public void setLockEntireCache(Boolean lockEntireCache) {
+			this.lockEntireCache = lockEntireCache;
+		}
+
+		public Long getLockTimeout() {
+			return this.lockTimeout;
+		}
+
+		public void setLockTimeout(Long lockTimeout) {
+			this.lockTimeout = lockTimeout;
+		}
+
+		public Boolean getUseLoadingLease() {
+			return this.useLoadingLease;
+		}
+
+		public void setUseLoadingLease(Boolean useLoadingLease) {
+			this.useLoadingLease = useLoadingLease;
+		}
+
+		public Duration getLoadingLeaseDuration() {
+			return this.loadingLeaseDuration;
+		}
+
+		public void setLoadingLeaseDuration(Duration loadingLeaseDuration) {
+			this.loadingLeaseDuration = loadingLeaseDuration;
+		}
+
+		public Boolean getUseLoadCoalescing() {
+			return this.useLoadCoalescing;
+		}
+
+		public void setUseLoadCoalescing(Boolean useLoadCoalescing) {
+			this.useLoadCoalescing = useLoadCoalescing;
+		}
+
+		public Integer getNearCacheHighUnits() {
+			return this.nearCacheHighUnits;
+		}
+
+		public void setNearCacheHighUnits(Integer nearCacheHighUnits) {
+			this.nearCacheHighUnits = nearCacheHighUnits;
+		}
+
+		public NearCacheUnitCalculator getNearCacheUnitCalculator() {
+			return this.nearCacheUnitCalculator;
+		}
+
+		public void setNearCacheUnitCalculator(NearCacheUnitCalculator nearCacheUnitCalculator) {
+			this.nearCacheUnitCalculator = nearCacheUnitCalculator;
+		}
+
+		public Duration getNearCacheExpiry() {
+			return this.nearCacheExpiry;
+		}
+
+		public void setNearCacheExpiry(Duration nearCacheExpiry) {
+			this.nearCacheExpiry = nearCacheExpiry;
+		}
+
+		public Double getRefreshAheadFactor() {
+			return this.refreshAheadFactor;
+		}
+
+		public void setRefreshAheadFactor(Double refreshAheadFactor) {
+			this.refreshAheadFactor = refreshAheadFactor;
+		}
+
+		public Boolean getAllowNullValues() {
+			return this.allowNullValues;
+		}
+
+		public void setAllowNullValues(Boolean allowNullValues) {
+			this.allowNullValues = allowNullValues;
+		}
+
+		public Duration getNullValueTimeToLive() {
+			return this.nullValueTimeToLive;
+		}
+
+		public void setNullValueTimeToLive(Duration nullValueTimeToLive) {
+			this.nullValueTimeToLive = nullValueTimeToLive;
+		}
 	}
 
 	/**
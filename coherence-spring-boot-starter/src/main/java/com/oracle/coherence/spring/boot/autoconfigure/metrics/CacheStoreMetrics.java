@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.oracle.coherence.spring.cachestore.CacheStoreDecorator;
+import com.oracle.coherence.spring.cachestore.CacheStoreOperation;
+import com.tangosol.net.cache.CacheLoader;
+import com.tangosol.net.cache.CacheStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+
+/**
+ * A {@link CacheStoreDecorator} that records Micrometer metrics for the {@link CacheLoader}
+ * and {@link CacheStore} beans referenced from the Coherence cache configuration:
+ * <ul>
+ * <li>{@code coherence.cachestore.duration} - a timer of the time spent per operation</li>
+ * <li>{@code coherence.cachestore.failures} - the number of operations that failed with
+ * an exception</li>
+ * <li>{@code coherence.cachestore.batch.size} - the distribution of the number of entries
+ * passed to the {@code loadAll}, {@code storeAll} and {@code eraseAll} operations</li>
+ * </ul>
+ * All meters are tagged with the {@code cache} name and the {@code operation}, e.g.
+ * {@code storeAll}. The meters of a cache are resolved once, when the cache store is
+ * decorated, so recording an operation does not involve any meter lookups. Percentile
+ * histograms are not published by default, they can be enabled using a
+ * {@link io.micrometer.core.instrument.config.MeterFilter}.
+ * <p>
+ * The cache loaders are decorated using a JDK proxy that implements all interfaces of the
+ * cache loader, so that additional interfaces, e.g.
+ * {@link com.tangosol.net.cache.IterableCacheLoader}, remain visible to Coherence.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CacheStoreMetrics implements CacheStoreDecorator {
+
+	private final MeterRegistry registry;
+
+	private final Iterable<Tag> tags;
+
+	private final Map<String, CacheMeters> cacheMeters = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link CacheStoreMetrics} instance.
+	 * @param registry the registry to register the meters with
+	 * @param tags additional tags added to all meters
+	 */
+	public CacheStoreMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+		this.registry = registry;
+		this.tags = tags;
+	}
+
+	@Override
+	public CacheLoader<?, ?> decorate(CacheLoader<?, ?> cacheLoader, String cacheName) {
+		if (isInstrumented(cacheLoader)) {
+			return cacheLoader;
+		}
+		final CacheMeters meters = this.cacheMeters.computeIfAbsent(cacheName, this::createCacheMeters);
+		// a JDK proxy implementing all interfaces of the cache loader, e.g. IterableCacheLoader
+		final ProxyFactory proxyFactory = new ProxyFactory(cacheLoader);
+		proxyFactory.addAdvice(new CacheStoreMetricsInterceptor(meters));
+		return (CacheLoader<?, ?>) proxyFactory.getProxy();
+	}
+
+	private static boolean isInstrumented(CacheLoader<?, ?> cacheLoader) {
+		if (cacheLoader instanceof Advised) {
+			for (Advisor advisor : ((Advised) cacheLoader).getAdvisors()) {
+				if (advisor.getAdvice() instanceof CacheStoreMetricsInterceptor) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// registers the meters of all operations of the given cache
+	private CacheMeters createCacheMeters(String cacheName) {
+		final Tags cacheTags = Tags.concat(this.tags, "cache", cacheName);
+		final CacheMeters meters = new CacheMeters();
+		for (CacheStoreOperation operation : CacheStoreOperation.values()) {
+			final Tags operationTags = cacheTags.and("operation", operation.getMethodName());
+			meters.timers.put(operation, Timer.builder("coherence.cachestore.duration")
+				.tags(operationTags)
+				.description("The time spent in cache store operations")
+				.register(this.registry));
+			meters.failureCounters.put(operation, Counter.builder("coherence.cachestore.failures")
+				.tags(operationTags)
+				.description("The number of cache store operations that failed with an exception")
+				.register(this.registry));
+			if (isBulkOperation(operation)) {
+				meters.batchSizes.put(operation, DistributionSummary.builder("coherence.cachestore.batch.size")
+					.tags(operationTags)
+					.description("The number of entries passed to bulk cache store operations")
+					.baseUnit("entries")
+					.register(this.registry));
+			}
+		}
+		return meters;
+	}
+
+	private static boolean isBulkOperation(CacheStoreOperation operation) {
+		return operation == CacheStoreOperation.LOAD_ALL || operation == CacheStoreOperation.STORE_ALL
+				|| operation == CacheStoreOperation.ERASE_ALL;
+	}
+
+	/**
+	 * The meters of a single cache.
+	 */
+	static final class CacheMeters {
+
+		private final Map<CacheStoreOperation, Timer> timers = new EnumMap<>(CacheStoreOperation.class);
+
+		private final Map<CacheStoreOperation, Counter> failureCounters = new EnumMap<>(CacheStoreOperation.class);
+
+		private final Map<CacheStoreOperation, DistributionSummary> batchSizes =
+				new EnumMap<>(CacheStoreOperation.class);
+
+		Timer getTimer(CacheStoreOperation operation) {
+			return this.timers.get(operation);
+		}
+
+		Counter getFailureCounter(CacheStoreOperation operation) {
+			return this.failureCounters.get(operation);
+		}
+
+		void recordBatchSize(CacheStoreOperation operation, int size) {
+			this.batchSizes.get(operation).record(size);
+		}
+
+	}
+
+}
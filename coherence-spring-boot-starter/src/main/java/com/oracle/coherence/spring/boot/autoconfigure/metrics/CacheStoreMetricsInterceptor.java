@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.spring.cachestore.CacheStoreOperation;
+import com.tangosol.net.cache.CacheLoader;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * {@link MethodInterceptor} that records the {@link CacheStoreMetrics} of the {@link CacheLoader}
+ * and {@link com.tangosol.net.cache.CacheStore} operations of a proxied cache loader. All other
+ * methods, e.g. those of additional interfaces implemented by the cache loader, are passed
+ * through as is.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+class CacheStoreMetricsInterceptor implements MethodInterceptor {
+
+	/**
+	 * The meters of the cache, resolved once so that recording does not look up meters.
+	 */
+	private final CacheStoreMetrics.CacheMeters meters;
+
+	CacheStoreMetricsInterceptor(CacheStoreMetrics.CacheMeters meters) {
+		this.meters = meters;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		final CacheStoreOperation operation = getOperation(invocation.getMethod());
+		if (operation == null) {
+			return invocation.proceed();
+		}
+
+		if (operation == CacheStoreOperation.LOAD_ALL || operation == CacheStoreOperation.ERASE_ALL) {
+			this.meters.recordBatchSize(operation, ((Collection<?>) invocation.getArguments()[0]).size());
+		}
+		else if (operation == CacheStoreOperation.STORE_ALL) {
+			this.meters.recordBatchSize(operation, ((Map<?, ?>) invocation.getArguments()[0]).size());
+		}
+
+		final long start = System.nanoTime();
+		boolean successful = false;
+		try {
+			final Object result = invocation.proceed();
+			successful = true;
+			return result;
+		}
+		finally {
+			this.meters.getTimer(operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			if (!successful) {
+				this.meters.getFailureCounter(operation).increment();
+			}
+		}
+	}
+
+	// resolves the cache store operation of the given method, or null if it is not one
+	private static CacheStoreOperation getOperation(Method method) {
+		if (!CacheLoader.class.isAssignableFrom(method.getDeclaringClass())) {
+			return null;
+		}
+		final Class<?>[] parameterTypes = method.getParameterTypes();
+		final Class<?> firstParameterType = (parameterTypes.length == 1) ? parameterTypes[0] : null;
+		switch (method.getName()) {
+			case "load":
+				return (firstParameterType != null) ? CacheStoreOperation.LOAD : null;
+			case "loadAll":
+				return (firstParameterType == Collection.class) ? CacheStoreOperation.LOAD_ALL : null;
+			case "store":
+				return (parameterTypes.length == 2) ? CacheStoreOperation.STORE : null;
+			case "storeAll":
+				return (firstParameterType == Map.class) ? CacheStoreOperation.STORE_ALL : null;
+			case "erase":
+				return (firstParameterType != null) ? CacheStoreOperation.ERASE : null;
+			case "eraseAll":
+				return (firstParameterType == Collection.class) ? CacheStoreOperation.ERASE_ALL : null;
+			default:
+				return null;
+		}
+	}
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.metrics;
+
+import com.oracle.coherence.spring.cache.CoherenceCache;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * {@link CacheMeterBinderProvider} implementation for {@link CoherenceCache}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CoherenceCacheMeterBinderProvider implements CacheMeterBinderProvider<CoherenceCache> {
+
+	@Override
+	public MeterBinder getMeterBinder(CoherenceCache cache, Iterable<Tag> tags) {
+		return new CoherenceCacheMetrics(cache, tags);
+	}
+}
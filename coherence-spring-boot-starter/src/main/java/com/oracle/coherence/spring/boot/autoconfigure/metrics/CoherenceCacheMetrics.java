@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.spring.cache.CoherenceCache;
+import com.oracle.coherence.spring.cache.CoherenceCacheStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * {@link CacheMeterBinder} for {@link CoherenceCache}. All metrics are derived from the client-side
+ * {@link CoherenceCacheStatistics} of the cache and therefore reflect the operations of this application instance only.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CoherenceCacheMetrics extends CacheMeterBinder<CoherenceCache> {
+
+	private final CoherenceCacheStatistics statistics;
+
+	/**
+	 * Create a new CoherenceCacheMetrics instance.
+	 * @param cache the cache to instrument
+	 * @param tags additional tags
+	 */
+	public CoherenceCacheMetrics(CoherenceCache cache, Iterable<Tag> tags) {
+		super(cache, cache.getName(), tags);
+		this.statistics = cache.getStatistics();
+	}
+
+	@Override
+	protected Long size() {
+		return null;
+	}
+
+	@Override
+	protected long hitCount() {
+		return this.statistics.getHitCount();
+	}
+
+	@Override
+	protected Long missCount() {
+		return this.statistics.getMissCount();
+	}
+
+	@Override
+	protected Long evictionCount() {
+		return this.statistics.getEvictionCount();
+	}
+
+	@Override
+	protected long putCount() {
+		return this.statistics.getPutCount();
+	}
+
+	@Override
+	protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+		FunctionCounter.builder("cache.load", this.statistics, CoherenceCacheStatistics::getLoadSuccessCount)
+				.tags(getTagsWithCacheName()).tag("result", "success")
+				.description("The number of times cache lookup methods have successfully loaded a new value")
+				.register(registry);
+		FunctionCounter.builder("cache.load", this.statistics, CoherenceCacheStatistics::getLoadFailureCount)
+				.tags(getTagsWithCacheName()).tag("result", "failure")
+				.description("The number of times cache lookup methods failed to load a new value")
+				.register(registry);
+		FunctionTimer.builder("cache.load.duration", this.statistics,
+						(statistics) -> statistics.getLoadSuccessCount() + statistics.getLoadFailureCount(),
+						CoherenceCacheStatistics::getTotalLoadTimeNanos, TimeUnit.NANOSECONDS)
+				.tags(getTagsWithCacheName())
+				.description("The time the cache has spent loading new values")
+				.register(registry);
+		FunctionCounter.builder("cache.load.coalesced", this.statistics, CoherenceCacheStatistics::getCoalescedLoadCount)
+				.tags(getTagsWithCacheName())
+				.description("The number of cache misses that waited for a load of the same key in progress")
+				.register(registry);
+		FunctionCounter.builder("cache.refresh", this.statistics, CoherenceCacheStatistics::getRefreshAheadLoadCount)
+				.tags(getTagsWithCacheName()).tag("result", "success")
+				.description("The number of values refreshed ahead of their expiry")
+				.register(registry);
+		FunctionCounter.builder("cache.refresh", this.statistics,
+						CoherenceCacheStatistics::getRejectedRefreshAheadLoadCount)
+				.tags(getTagsWithCacheName()).tag("result", "rejected")
+				.description("The number of refreshes that were skipped because the refresh executor rejected them")
+				.register(registry);
+		FunctionTimer.builder("cache.lock.duration", this.statistics, CoherenceCacheStatistics::getLockAttemptCount,
+						CoherenceCacheStatistics::getTotalLockWaitTimeNanos, TimeUnit.NANOSECONDS)
+				.tags(getTagsWithCacheName())
+				.description("The time the cache has spent waiting on a lock")
+				.register(registry);
+		FunctionCounter.builder("cache.lock.timeouts", this.statistics, CoherenceCacheStatistics::getLockTimeoutCount)
+				.tags(getTagsWithCacheName())
+				.description("The number of lock attempts that timed out")
+				.register(registry);
+	}
+}
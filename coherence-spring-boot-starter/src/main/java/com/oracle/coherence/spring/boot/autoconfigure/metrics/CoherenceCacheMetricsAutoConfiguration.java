@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.metrics;
+
+import java.util.Map;
+
+import com.oracle.coherence.spring.boot.autoconfigure.CoherenceAutoConfiguration;
+import com.oracle.coherence.spring.cache.CacheWarmupRunner;
+import com.oracle.coherence.spring.cache.CoherenceCache;
+import com.oracle.coherence.spring.cache.CoherenceCacheManager;
+import com.oracle.coherence.spring.cache.TransactionAwareCoherenceCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cache.Cache;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for metrics of {@link CoherenceCache} instances. Besides providing
+ * the {@link CoherenceCacheMeterBinderProvider}, caches that are created on demand by a {@link CoherenceCacheManager}
+ * after startup are bound to the meter registry as well. The progress of a {@link CacheWarmupRunner} is published
+ * under the {@code coherence.cache.warmup} name.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+@AutoConfiguration(after = {CacheMetricsAutoConfiguration.class, CoherenceAutoConfiguration.class})
+@ConditionalOnClass({MeterBinder.class, CacheMetricsRegistrar.class, CoherenceCacheManager.class})
+public class CoherenceCacheMetricsAutoConfiguration {
+
+	private static final String CACHE_MANAGER_SUFFIX = "cacheManager";
+
+	@Bean
+	public CoherenceCacheMeterBinderProvider coherenceCacheMeterBinderProvider() {
+		return new CoherenceCacheMeterBinderProvider();
+	}
+
+	@Bean
+	@ConditionalOnBean({CacheMetricsRegistrar.class, CoherenceCacheManager.class})
+	SmartInitializingSingleton coherenceCacheMetricsBinder(Map<String, CoherenceCacheManager> cacheManagers,
+			CacheMetricsRegistrar cacheMetricsRegistrar) {
+		return () -> cacheManagers.forEach((beanName, cacheManager) -> {
+			final Tag cacheManagerTag = Tag.of("cache.manager", getCacheManagerName(beanName));
+			cacheManager.addCacheCreationCallback(
+					(cache) -> cacheMetricsRegistrar.bindCacheToRegistry(cache, cacheManagerTag));
+			for (String cacheName : cacheManager.getCacheNames()) {
+				Cache cache = cacheManager.getCache(cacheName);
+				if (cache instanceof TransactionAwareCoherenceCache) {
+					cache = ((TransactionAwareCoherenceCache) cache).getTargetCache();
+				}
+				cacheMetricsRegistrar.bindCacheToRegistry(cache, cacheManagerTag);
+			}
+		});
+	}
+
+	@Bean
+	@ConditionalOnBean(CacheWarmupRunner.class)
+	MeterBinder coherenceCacheWarmupMetrics(CacheWarmupRunner cacheWarmupRunner) {
+		return (registry) -> {
+			Gauge.builder("coherence.cache.warmup.chunks", cacheWarmupRunner, CacheWarmupRunner::getTotalChunkCount)
+					.description("The number of chunks scheduled for the cache warm-up")
+					.register(registry);
+			FunctionCounter.builder("coherence.cache.warmup.chunks.completed", cacheWarmupRunner,
+							CacheWarmupRunner::getLoadedChunkCount)
+					.tag("state", "loaded")
+					.description("The number of chunks loaded by the cache warm-up")
+					.register(registry);
+			FunctionCounter.builder("coherence.cache.warmup.chunks.completed", cacheWarmupRunner,
+							CacheWarmupRunner::getFailedChunkCount)
+					.tag("state", "failed")
+					.description("The number of chunks the cache warm-up failed to load")
+					.register(registry);
+			FunctionCounter.builder("coherence.cache.warmup.chunks.completed", cacheWarmupRunner,
+							CacheWarmupRunner::getCancelledChunkCount)
+					.tag("state", "cancelled")
+					.description("The number of chunks cancelled when the cache warm-up timed out")
+					.register(registry);
+			FunctionCounter.builder("coherence.cache.warmup.entries", cacheWarmupRunner,
+							CacheWarmupRunner::getLoadedEntryCount)
+					.description("The number of cache entries stored by the cache warm-up")
+					.register(registry);
+		};
+	}
+
+	// Same naming convention as used by Spring Boot for caches bound on startup.
+	private static String getCacheManagerName(String beanName) {
+		if (beanName.length() > CACHE_MANAGER_SUFFIX.length()
+				&& beanName.toLowerCase().endsWith(CACHE_MANAGER_SUFFIX.toLowerCase())) {
+			return beanName.substring(0, beanName.length() - CACHE_MANAGER_SUFFIX.length());
+		}
+		return beanName;
+	}
+}
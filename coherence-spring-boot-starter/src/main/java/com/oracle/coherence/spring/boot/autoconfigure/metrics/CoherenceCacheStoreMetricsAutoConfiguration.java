@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.metrics;
+
+import java.util.Collections;
+
+import com.oracle.coherence.spring.cachestore.CacheStoreDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for the {@link CacheStoreMetrics} of the
+ * cache loaders and cache stores referenced from the Coherence cache configuration. As the
+ * metrics decorate every cache loader and cache store bean, they must be enabled explicitly
+ * by setting {@code coherence.cachestore.metrics.enabled} to {@code true}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+@AutoConfiguration(after = {CompositeMeterRegistryAutoConfiguration.class, MetricsAutoConfiguration.class})
+@ConditionalOnClass({MeterRegistry.class, CacheStoreDecorator.class})
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(name = "coherence.cachestore.metrics.enabled", havingValue = "true")
+public class CoherenceCacheStoreMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CacheStoreMetrics coherenceCacheStoreMetrics(MeterRegistry meterRegistry) {
+		return new CacheStoreMetrics(meterRegistry, Collections.emptyList());
+	}
+
+}
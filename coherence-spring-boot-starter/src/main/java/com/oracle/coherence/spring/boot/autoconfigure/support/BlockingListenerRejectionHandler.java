@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.support;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RejectedExecutionHandler} for the bounded listener executor that applies
+ * bounded back-pressure instead of running listeners on the submitting thread. Once the
+ * queue of the executor is full, the Coherence thread delivering a message or event waits
+ * up to the configured timeout for space in the queue, so listener code never runs on
+ * Coherence threads and Coherence threads are never parked indefinitely. If the queue
+ * stays full for longer, or the executor has been shut down, the invocation is rejected
+ * with a {@link RejectedExecutionException} and logged.
+ * <p>
+ * Tasks submitted by the executor's own threads, e.g. a topic listener requesting its
+ * next message, are run on the submitting thread, as blocking them could leave no thread
+ * to drain the queue. This requires the {@link #taskDecorator() task decorator} of the
+ * handler to be set on the executor.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class BlockingListenerRejectionHandler implements RejectedExecutionHandler {
+
+	private static final Log logger = LogFactory.getLog(BlockingListenerRejectionHandler.class);
+
+	private final ThreadLocal<Boolean> executorThread = new ThreadLocal<>();
+
+	private final long queueTimeoutMillis;
+
+	/**
+	 * Create a new BlockingListenerRejectionHandler.
+	 * @param queueTimeout the maximum time to wait for space in the queue of the executor, must not be negative
+	 */
+	public BlockingListenerRejectionHandler(Duration queueTimeout) {
+		Assert.notNull(queueTimeout, "queueTimeout must not be null");
+		Assert.isTrue(!queueTimeout.isNegative(), "queueTimeout must not be negative");
+		this.queueTimeoutMillis = queueTimeout.toMillis();
+	}
+
+	/**
+	 * Return the {@link TaskDecorator} marking the threads of the executor, which must be
+	 * set on the executor using this handler.
+	 * @return the task decorator
+	 */
+	public TaskDecorator taskDecorator() {
+		return (task) -> () -> {
+			final Boolean previous = this.executorThread.get();
+			this.executorThread.set(Boolean.TRUE);
+			try {
+				task.run();
+			}
+			finally {
+				if (previous == null) {
+					this.executorThread.remove();
+				}
+			}
+		};
+	}
+
+	@Override
+	public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+		if (!executor.isShutdown()) {
+			if (this.executorThread.get() != null) {
+				task.run();
+				return;
+			}
+			try {
+				if (executor.getQueue().offer(task, this.queueTimeoutMillis, TimeUnit.MILLISECONDS)
+						// the executor may have been shut down while waiting, in which case the task might never run
+						&& (!executor.isShutdown() || !executor.remove(task))) {
+					return;
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (logger.isWarnEnabled()) {
+			logger.warn("Rejected listener invocation " + task + " as the listener executor is shut down or its queue"
+					+ " stayed full for " + this.queueTimeoutMillis + "ms");
+		}
+		throw new RejectedExecutionException("Listener invocation " + task + " rejected from " + executor);
+	}
+}
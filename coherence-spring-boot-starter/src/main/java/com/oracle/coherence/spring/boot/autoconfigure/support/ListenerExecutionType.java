@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.support;
+
+/**
+ * The strategies for invoking Coherence topic listener methods and asynchronous
+ * Coherence event listener methods.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public enum ListenerExecutionType {
+
+	/**
+	 * Topic listeners are invoked on the Coherence thread completing the receive and
+	 * asynchronous event listeners on the default {@link java.util.concurrent.CompletableFuture}
+	 * executor.
+	 */
+	DEFAULT,
+
+	/**
+	 * Every invocation runs on its own virtual thread. Requires Java 21 or later.
+	 */
+	VIRTUAL,
+
+	/**
+	 * Invocations run on a named thread pool with a bounded number of threads and a
+	 * bounded queue.
+	 */
+	BOUNDED
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.autoconfigure.support;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class BlockingListenerRejectionHandlerTests {
+
+	private static final Duration QUEUE_TIMEOUT = Duration.ofMillis(200);
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private ThreadPoolTaskExecutor executor;
+
+	@BeforeEach
+	public void setup() {
+		final BlockingListenerRejectionHandler handler = new BlockingListenerRejectionHandler(QUEUE_TIMEOUT);
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(1);
+		this.executor.setMaxPoolSize(1);
+		this.executor.setQueueCapacity(1);
+		this.executor.setRejectedExecutionHandler(handler);
+		this.executor.setTaskDecorator(handler.taskDecorator());
+		this.executor.initialize();
+	}
+
+	@AfterEach
+	public void cleanup() {
+		this.release.countDown();
+		this.executor.shutdown();
+	}
+
+	@Test
+	public void shouldRejectAfterQueueTimeout() {
+		this.executor.execute(this::awaitRelease);
+		this.executor.execute(() -> { });
+
+		final long start = System.nanoTime();
+		assertThatThrownBy(() -> this.executor.execute(() -> { })).hasCauseInstanceOf(RejectedExecutionException.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(QUEUE_TIMEOUT);
+	}
+
+	@Test
+	public void shouldQueueOnceSpaceIsAvailable() throws Exception {
+		final CountDownLatch executed = new CountDownLatch(1);
+		this.executor.execute(() -> {
+			awaitRelease();
+			sleep(QUEUE_TIMEOUT.toMillis() / 4);
+		});
+		this.executor.execute(() -> { });
+
+		this.release.countDown();
+		this.executor.execute(executed::countDown);
+		assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void shouldRunTasksOfExecutorThreadsInline() throws Exception {
+		final AtomicReference<Thread> submitter = new AtomicReference<>();
+		final AtomicReference<Thread> runner = new AtomicReference<>();
+		final CountDownLatch executed = new CountDownLatch(1);
+		this.executor.execute(() -> {
+			submitter.set(Thread.currentThread());
+			this.executor.execute(this::awaitRelease);
+			this.executor.execute(() -> {
+				runner.set(Thread.currentThread());
+				executed.countDown();
+			});
+		});
+
+		assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(runner.get()).isSameAs(submitter.get());
+	}
+
+	@Test
+	public void shouldRejectAfterShutdown() {
+		this.executor.shutdown();
+		assertThatThrownBy(() -> this.executor.execute(() -> { })).hasCauseInstanceOf(RejectedExecutionException.class);
+	}
+
+	private void awaitRelease() {
+		try {
+			this.release.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
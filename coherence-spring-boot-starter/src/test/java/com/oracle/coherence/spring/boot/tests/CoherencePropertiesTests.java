@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,6 +10,7 @@ import java.time.Duration;
 import java.util.List;
 
 import com.oracle.coherence.spring.boot.autoconfigure.CoherenceProperties;
+import com.oracle.coherence.spring.boot.autoconfigure.support.ListenerExecutionType;
 import com.oracle.coherence.spring.boot.autoconfigure.support.LogType;
 import com.oracle.coherence.spring.configuration.session.ClientSessionConfigurationBean;
 import com.oracle.coherence.spring.configuration.session.ServerSessionConfigurationBean;
@@ -148,4 +149,13 @@ public class CoherencePropertiesTests {
 		assertThat(this.coherenceProperties.getInstance().getType()).isEqualTo(CoherenceInstanceType.CLIENT);
 	}
 
+	@Test
+	void testListenerProperties() {
+		assertThat(this.coherenceProperties.getListeners().getExecution()).isEqualTo(ListenerExecutionType.BOUNDED);
+		assertThat(this.coherenceProperties.getListeners().getThreadNamePrefix()).isEqualTo("test-listener-");
+		assertThat(this.coherenceProperties.getListeners().getMaxThreads()).isEqualTo(4);
+		assertThat(this.coherenceProperties.getListeners().getQueueCapacity()).isEqualTo(50);
+		assertThat(this.coherenceProperties.getListeners().getQueueTimeout()).isEqualTo(Duration.ofMillis(250));
+	}
+
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.boot.tests.cache;
+
+import java.time.Duration;
+
+import com.oracle.coherence.spring.cache.CoherenceCache;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent (agent@local)
+ */
+@SpringBootTest(classes = CacheAbstractionWithPerCacheConfigurationTests.Config.class)
+@ActiveProfiles({"coherenceCacheTestsWithPerCacheConfiguration"})
+@DirtiesContext
+public class CacheAbstractionWithPerCacheConfigurationTests {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private Session session;
+
+	@Test
+	public void testDefaultCacheConfiguration() {
+		final CoherenceCache cache = (CoherenceCache) this.cacheManager.getCache("other");
+		assertThat(cache.getCacheConfiguration().getTimeToLive()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(cache.getCacheConfiguration().isUseLocks()).isTrue();
+		assertThat(cache.getCacheConfiguration().isUseCacheNamePrefix()).isFalse();
+	}
+
+	@Test
+	public void testVolatileCacheConfiguration() {
+		final CoherenceCache cache = (CoherenceCache) this.cacheManager.getCache("volatile");
+		assertThat(cache.getCacheConfiguration().getTimeToLive()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(cache.getCacheConfiguration().isUseLocks()).isFalse();
+		assertThat(cache.getCacheConfiguration().isUseCacheNamePrefix()).isFalse();
+	}
+
+	@Test
+	public void testReferenceCacheConfiguration() {
+		final CoherenceCache cache = (CoherenceCache) this.cacheManager.getCache("reference");
+		assertThat(cache.getCacheConfiguration().getTimeToLive()).isEqualTo(Duration.ofDays(1));
+		assertThat(cache.getCacheConfiguration().isUseLocks()).isTrue();
+		cache.put("key", "value");
+
+		final NamedCache<String, String> nativeCacheWithPrefix = this.session.getCache("Reference_reference");
+		assertThat(nativeCacheWithPrefix.get("key")).isEqualTo("value");
+	}
+
+	@Configuration
+	@EnableAutoConfiguration
+	@EnableCaching
+	static class Config {
+	}
+}
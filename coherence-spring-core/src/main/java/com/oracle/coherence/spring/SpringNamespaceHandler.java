@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,7 @@ import java.text.ParseException;
 import java.util.Arrays;
 import java.util.List;
 
+import com.oracle.coherence.spring.cachestore.CacheStoreDecorators;
 import com.tangosol.coherence.config.ParameterList;
 import com.tangosol.coherence.config.SimpleParameterList;
 import com.tangosol.coherence.config.builder.ParameterizedBuilder;
@@ -356,7 +357,8 @@ public class SpringNamespaceHandler extends AbstractNamespaceHandler {
 		public Object realize(ParameterResolver resolver, ClassLoader loader, ParameterList listParameters) {
 
 			String        sBeanName      = getBeanName().evaluate(resolver);
-			Object        oBean          = ensureBeanFactory(resolver, loader).getBean(sBeanName);
+			BeanFactory   factory        = ensureBeanFactory(resolver, loader);
+			Object        oBean          = factory.getBean(sBeanName);
 			ParameterList listPropParams = (listParameters != null) ? listParameters : this.m_listParameters;
 
 			if (listPropParams != null) {
@@ -386,7 +388,7 @@ public class SpringNamespaceHandler extends AbstractNamespaceHandler {
 				}
 			}
 
-			return oBean;
+			return CacheStoreDecorators.decorate(oBean, sBeanName, factory, resolver);
 		}
 
 		// ----- ParameterizedBuilder.ReflectionSupport interface -----------
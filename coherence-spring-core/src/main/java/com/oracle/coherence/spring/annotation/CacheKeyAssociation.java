@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter of a cached method whose value is used as the associated key of the cache key generated by the
+ * {@link com.oracle.coherence.spring.cache.CoherenceKeyGenerator}. Cache entries with the same associated key are
+ * stored in the same partition, e.g. all cached lookups for the same customer.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see com.oracle.coherence.spring.cache.CoherenceCacheKey#getAssociatedKey()
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheKeyAssociation {
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the result of a multi-key lookup method is cached per key in a
+ * {@link com.oracle.coherence.spring.cache.CoherenceCache}. The annotated method must declare a single
+ * {@link java.util.Collection} parameter holding the keys and return a {@link java.util.Map} of the values keyed by
+ * the respective key. All keys are looked up using a single batch operation and the method is only invoked with the
+ * keys that are missing in the cache.
+ * <p>
+ * Requires caching to be enabled, e.g. via {@code @EnableCaching}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see com.oracle.coherence.spring.cache.CoherenceCache#getAll(java.util.Collection, java.util.function.Function)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheableAll {
+	/**
+	 * The name of the cache the values are stored in.
+	 * @return the name of the cache
+	 */
+	String value();
+
+	/**
+	 * The bean name of the {@link org.springframework.cache.CacheManager} to use. If not specified, the single
+	 * {@link org.springframework.cache.CacheManager} of the application context is used.
+	 * @return the bean name of the cache manager
+	 */
+	String cacheManager() default "";
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import com.oracle.coherence.spring.configuration.CoalescingNamedCache;
+
+/**
+ * A qualifier annotation used when injecting a {@link com.tangosol.net.NamedCache} to
+ * indicate that updates should be coalesced on the client before being written to the
+ * cache. Repeated updates to the same key within the {@link #window()} are merged and
+ * written with a single {@code putAll} call.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoalescingNamedCache
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+	/**
+	 * The time window in milliseconds that updates are buffered for, measured from the
+	 * first update after a flush.
+	 * @return the coalescing window in milliseconds
+	 */
+	long window() default CoalescingNamedCache.DEFAULT_WINDOW_MILLIS;
+
+	/**
+	 * The maximum number of distinct keys that are buffered. Reaching this limit flushes
+	 * the buffer in the calling thread.
+	 * @return the maximum number of pending keys
+	 */
+	int maxPending() default CoalescingNamedCache.DEFAULT_MAX_PENDING;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -16,6 +16,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * <p>Annotation applied at the class level to indicate that a bean is a Coherence
  * topic {@link com.tangosol.net.topic.Subscriber}.</p>
+ * <p>A listener method that accepts a {@link java.util.List} of values, or a
+ * {@link java.util.List} of {@link com.tangosol.net.topic.Subscriber.Element elements},
+ * receives messages in batches of up to {@link #batchSize()} elements using
+ * {@link com.tangosol.net.topic.Subscriber#receive(int)}. Each batch is committed once,
+ * at the highest position received for each channel.</p>
  *
  * @author Jonathan Knight
  * @since 3.0
@@ -30,4 +35,50 @@ public @interface CoherenceTopicListener {
 	 * @return The {@link CommitStrategy}
 	 */
 	CommitStrategy commitStrategy() default CommitStrategy.SYNC;
+
+	/**
+	 * The maximum number of elements passed to a batch listener method, that is a
+	 * method accepting a {@link java.util.List}. Ignored for methods that receive a
+	 * single element.
+	 *
+	 * @return the maximum batch size
+	 */
+	int batchSize() default 100;
+
+	/**
+	 * The maximum time in milliseconds to wait for a batch to fill up once its first
+	 * element has been received. The default of {@code 0} passes whatever elements are
+	 * available to the listener method without waiting. Ignored for methods that
+	 * receive a single element.
+	 *
+	 * @return the maximum time to wait for a full batch in milliseconds
+	 */
+	long maxWait() default 0L;
+
+	/**
+	 * The number of subscribers to create for the listener method. Values greater than
+	 * {@code 1} require a {@link SubscriberGroup} so that the topic channels are
+	 * distributed across the subscribers. Each subscriber invokes the method on its own
+	 * executor lane, so messages from the same channel are still processed in order.
+	 *
+	 * @return the number of subscribers
+	 */
+	int concurrency() default 1;
+
+	/**
+	 * The number of processed messages after which positions are committed when using
+	 * {@link CommitStrategy#BATCH}.
+	 *
+	 * @return the number of messages processed between commits
+	 */
+	int commitEvery() default 100;
+
+	/**
+	 * The interval in milliseconds at which positions are committed when using
+	 * {@link CommitStrategy#BATCH}. A value of {@code 0} only commits by
+	 * {@link #commitEvery() count} and on close.
+	 *
+	 * @return the commit interval in milliseconds
+	 */
+	long commitInterval() default 1000L;
 }
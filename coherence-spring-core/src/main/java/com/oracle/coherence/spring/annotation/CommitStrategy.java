@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -14,7 +14,8 @@ package com.oracle.coherence.spring.annotation;
  * <p>Depending on requirements you may wish the commit more or less frequently and you may not care whether the
  * commit was successful or not. This enum allows configuring a range of policies for a Coherence topic subscriber
  * from leaving it down to the client to synchronously commit (with {@link #SYNC}) or asynchronously commit
- * (with {@link #ASYNC}) after each message is consumed, through to manually handling commits (with {@link #MANUAL}).</p>
+ * (with {@link #ASYNC}) after each message is consumed, committing periodically (with {@link #BATCH}), through to
+ * manually handling commits (with {@link #MANUAL}).</p>
  *
  * @author Jonathan Knight
  * @since 3.0
@@ -34,4 +35,12 @@ public enum CommitStrategy {
 	 * Asynchronously commit using {@link com.tangosol.net.topic.Subscriber.Element#commitAsync()} after each messages is processed.
 	 */
 	ASYNC,
+	/**
+	 * Asynchronously commit the highest processed position of each channel once
+	 * {@link CoherenceTopicListener#commitEvery()} messages have been processed, every
+	 * {@link CoherenceTopicListener#commitInterval()} milliseconds and when the subscriber is
+	 * closed. Messages processed since the last commit are redelivered after a failure or
+	 * when their channels are reassigned to another subscriber in the group.
+	 */
+	BATCH,
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.Base;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that acquires the {@link LoadingLease} of a key in the lease cache of
+ * a {@link CoherenceCache}. The processor installs a new lease owned by the caller unless the entry holds a lease
+ * that has not expired yet, and returns the lease held by the entry after processing:
+ * <ul>
+ * <li>a {@link LoadingLease} owned by the caller, if the caller acquired the lease and shall load the value</li>
+ * <li>a {@link LoadingLease} owned by another caller, if the value is currently being loaded elsewhere</li>
+ * </ul>
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see ReleaseLoadingLeaseProcessor
+ * @see CoherenceCache#get(Object, java.util.concurrent.Callable)
+ */
+public class AcquireLoadingLeaseProcessor extends AbstractProcessor<Object, Object, Object>
+		implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private String owner;
+
+	private long leaseMillis;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public AcquireLoadingLeaseProcessor() {
+	}
+
+	/**
+	 * Create a new AcquireLoadingLeaseProcessor.
+	 * @param owner the unique identifier of the lease owner
+	 * @param leaseMillis the duration of the lease in milliseconds
+	 */
+	public AcquireLoadingLeaseProcessor(String owner, long leaseMillis) {
+		this.owner = owner;
+		this.leaseMillis = leaseMillis;
+	}
+
+	@Override
+	public Object process(InvocableMap.Entry<Object, Object> entry) {
+		final long now = Base.getSafeTimeMillis();
+		final Object currentLease = entry.getValue();
+
+		if (currentLease instanceof LoadingLease && !((LoadingLease) currentLease).isExpired(now)) {
+			return currentLease;
+		}
+
+		final LoadingLease lease = new LoadingLease(this.owner, now + this.leaseMillis);
+		entry.setValue(lease, true);
+		if (entry instanceof BinaryEntry) {
+			((BinaryEntry<Object, Object>) entry).expire(this.leaseMillis);
+		}
+		return lease;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.owner = pofReader.readString(0);
+		this.leaseMillis = pofReader.readLong(1);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeString(0, this.owner);
+		pofWriter.writeLong(1, this.leaseMillis);
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Strategy interface to pre-populate a Spring cache backed by a {@link CoherenceCache} at application startup. The
+ * {@link CacheWarmupRunner} splits the {@link #getKeys() keys} into chunks, loads the chunks in parallel via
+ * {@link #loadAll(Collection)} and stores each chunk using a single bulk put.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cache values
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public interface CacheWarmer<K, V> {
+
+	/**
+	 * Return the name of the Spring cache to pre-populate.
+	 * @return the cache name, never null
+	 */
+	String getCacheName();
+
+	/**
+	 * Return the keys of the values to pre-populate the cache with, e.g. the ids of the most frequently used
+	 * entities.
+	 * @return the keys, never null
+	 */
+	Collection<K> getKeys();
+
+	/**
+	 * Load the values of a chunk of keys. This method is invoked concurrently for different chunks and must therefore
+	 * be thread-safe.
+	 * @param keys the chunk of keys to load
+	 * @return the loaded values keyed by their keys, keys without a value may be omitted
+	 */
+	Map<K, V> loadAll(Collection<K> keys);
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Pre-populates caches of a {@link CoherenceCacheManager} using the registered {@link CacheWarmer}s when the
+ * application context starts. The keys of each warmer are split into chunks of {@link #setChunkSize(int) chunkSize}
+ * keys, which are loaded by up to {@link #setParallelism(int) parallelism} threads and stored using a single bulk put
+ * per chunk, applying the configuration of the respective {@link CoherenceCache}.
+ * <p>
+ * The runner starts in an early {@link #getPhase() phase}, i.e. before web servers start accepting requests, and
+ * blocks until all chunks have been loaded or the {@link #setTimeout(Duration) timeout} has elapsed. Chunks that fail
+ * to load are logged and skipped, so that a failing data source does not prevent the application from starting.
+ * Chunks that have not completed when the timeout elapses are cancelled and counted as
+ * {@link #getCancelledChunkCount() cancelled}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CacheWarmupRunner implements SmartLifecycle {
+
+	/**
+	 * The phase of the runner, which is before the phase of embedded web servers.
+	 */
+	public static final int DEFAULT_PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+	private static final Log logger = LogFactory.getLog(CacheWarmupRunner.class);
+
+	private final CoherenceCacheManager cacheManager;
+
+	private final List<CacheWarmer<?, ?>> cacheWarmers;
+
+	private final LongAdder totalChunks = new LongAdder();
+
+	private final LongAdder loadedChunks = new LongAdder();
+
+	private final LongAdder failedChunks = new LongAdder();
+
+	private final LongAdder cancelledChunks = new LongAdder();
+
+	private final LongAdder loadedEntries = new LongAdder();
+
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	private int chunkSize = 1000;
+
+	private Duration timeout = Duration.ofMinutes(10);
+
+	private volatile boolean running;
+
+	/**
+	 * Create a new CacheWarmupRunner.
+	 * @param cacheManager the cache manager owning the caches to pre-populate, must not be null
+	 * @param cacheWarmers the cache warmers, must not be null
+	 */
+	public CacheWarmupRunner(CoherenceCacheManager cacheManager, List<CacheWarmer<?, ?>> cacheWarmers) {
+		Assert.notNull(cacheManager, "cacheManager must not be null.");
+		Assert.notNull(cacheWarmers, "cacheWarmers must not be null.");
+		this.cacheManager = cacheManager;
+		this.cacheWarmers = new ArrayList<>(cacheWarmers);
+	}
+
+	/**
+	 * Set the maximum number of chunks that are loaded concurrently. Defaults to the number of available processors.
+	 * @param parallelism must be greater than zero
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than zero.");
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Set the maximum number of keys that are loaded and stored at once. Defaults to 1000.
+	 * @param chunkSize must be greater than zero
+	 */
+	public void setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "chunkSize must be greater than zero.");
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for the warm-up to complete. Defaults to 10 minutes.
+	 * @param timeout must neither be null nor negative
+	 */
+	public void setTimeout(Duration timeout) {
+		Assert.notNull(timeout, "timeout must not be null.");
+		Assert.isTrue(!timeout.isNegative(), "timeout must not be negative.");
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Return the number of chunks scheduled for loading.
+	 * @return the total number of chunks
+	 */
+	public long getTotalChunkCount() {
+		return this.totalChunks.sum();
+	}
+
+	/**
+	 * Return the number of chunks that have been loaded and stored successfully.
+	 * @return the number of loaded chunks
+	 */
+	public long getLoadedChunkCount() {
+		return this.loadedChunks.sum();
+	}
+
+	/**
+	 * Return the number of chunks that failed to load or store.
+	 * @return the number of failed chunks
+	 */
+	public long getFailedChunkCount() {
+		return this.failedChunks.sum();
+	}
+
+	/**
+	 * Return the number of chunks that were cancelled, because they had not completed when the timeout elapsed. A
+	 * cancelled chunk that was already being loaded may still have been stored in part.
+	 * @return the number of cancelled chunks
+	 */
+	public long getCancelledChunkCount() {
+		return this.cancelledChunks.sum();
+	}
+
+	/**
+	 * Return the number of cache entries that have been stored.
+	 * @return the number of loaded entries
+	 */
+	public long getLoadedEntryCount() {
+		return this.loadedEntries.sum();
+	}
+
+	@Override
+	public void start() {
+		if (this.running) {
+			return;
+		}
+		this.running = true;
+		if (this.cacheWarmers.isEmpty()) {
+			return;
+		}
+
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-cache-warmup-");
+		threadFactory.setDaemon(true);
+		final ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, threadFactory);
+		final long start = System.nanoTime();
+		final List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+		final List<CompletableFuture<Void>> completions = new ArrayList<>();
+		try {
+			for (CacheWarmer<?, ?> cacheWarmer : this.cacheWarmers) {
+				scheduleChunks(cacheWarmer, executor, chunks, completions);
+			}
+			CompletableFuture.allOf(completions.toArray(new CompletableFuture[0]))
+					.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			logger.warn("Interrupted while warming up caches.");
+		}
+		catch (ExecutionException ex) {
+			// not expected, as the outcome of each chunk is recorded by the chunk itself
+			logger.warn("Unable to warm up caches.", ex.getCause());
+		}
+		catch (TimeoutException ex) {
+			logger.warn(String.format("Cache warm-up did not complete within %sms, cancelling the remaining chunks.",
+					this.timeout.toMillis()));
+		}
+		finally {
+			// chunks that have completed are not affected, the others are recorded as cancelled
+			chunks.forEach((chunk) -> chunk.cancel(true));
+			executor.shutdownNow();
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Warmed up %s caches with %s entries in %sms (%s of %s chunks failed, %s cancelled).",
+					this.cacheWarmers.size(), getLoadedEntryCount(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), getFailedChunkCount(),
+					getTotalChunkCount(), getCancelledChunkCount()));
+		}
+	}
+
+	private <K, V> void scheduleChunks(CacheWarmer<K, V> cacheWarmer, ExecutorService executor,
+			List<CompletableFuture<Integer>> chunks, List<CompletableFuture<Void>> completions) {
+		final CoherenceCache cache = getCoherenceCache(cacheWarmer.getCacheName());
+		List<K> chunk = new ArrayList<>(this.chunkSize);
+
+		for (K key : cacheWarmer.getKeys()) {
+			chunk.add(key);
+			if (chunk.size() == this.chunkSize) {
+				scheduleChunk(cacheWarmer, cache, chunk, executor, chunks, completions);
+				chunk = new ArrayList<>(this.chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			scheduleChunk(cacheWarmer, cache, chunk, executor, chunks, completions);
+		}
+	}
+
+	private <K, V> void scheduleChunk(CacheWarmer<K, V> cacheWarmer, CoherenceCache cache, Collection<K> keys,
+			ExecutorService executor, List<CompletableFuture<Integer>> chunks,
+			List<CompletableFuture<Void>> completions) {
+		this.totalChunks.increment();
+		final CompletableFuture<Integer> chunk = CompletableFuture.supplyAsync(() -> {
+			final Map<K, V> values = cacheWarmer.loadAll(keys);
+			if (values == null || values.isEmpty()) {
+				return 0;
+			}
+			cache.putAll(new HashMap<Object, Object>(values));
+			return values.size();
+		}, executor);
+		chunks.add(chunk);
+		// the outcome is recorded once, when the chunk completes, fails or is cancelled
+		completions.add(chunk.handle((entries, ex) -> {
+			recordChunk(cacheWarmer.getCacheName(), keys.size(), entries, ex);
+			return null;
+		}));
+	}
+
+	private void recordChunk(String cacheName, int keys, Integer entries, Throwable ex) {
+		if (ex == null) {
+			this.loadedEntries.add(entries);
+			this.loadedChunks.increment();
+		}
+		else if (ex instanceof CancellationException) {
+			this.cancelledChunks.increment();
+		}
+		else {
+			this.failedChunks.increment();
+			logger.warn(String.format("Unable to warm up %s keys of cache '%s'.", keys, cacheName),
+					(ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex);
+		}
+	}
+
+	private CoherenceCache getCoherenceCache(String cacheName) {
+		final Cache cache = this.cacheManager.getCache(cacheName);
+		if (cache instanceof TransactionAwareCoherenceCache) {
+			return ((TransactionAwareCoherenceCache) cache).getTargetCache();
+		}
+		return (CoherenceCache) cache;
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return DEFAULT_PHASE;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import com.oracle.coherence.spring.annotation.CacheableAll;
+import org.aopalliance.aop.Advice;
+
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+
+/**
+ * Advisor that applies the {@link CacheableAllInterceptor} to methods annotated with {@link CacheableAll}. Like the
+ * advisors of Spring's cache abstraction, this advisor is an infrastructure bean and gets applied by the auto-proxy
+ * creator registered via {@code @EnableCaching}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CacheableAllAdvisor extends AbstractPointcutAdvisor implements BeanFactoryAware {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Pointcut pointcut = new AnnotationMatchingPointcut(null, CacheableAll.class, true);
+
+	private transient CacheableAllInterceptor interceptor;
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.interceptor = new CacheableAllInterceptor(beanFactory);
+	}
+
+	@Override
+	public Pointcut getPointcut() {
+		return this.pointcut;
+	}
+
+	@Override
+	public Advice getAdvice() {
+		return this.interceptor;
+	}
+}
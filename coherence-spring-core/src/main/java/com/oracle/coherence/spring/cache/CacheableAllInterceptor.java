@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import com.oracle.coherence.spring.annotation.CacheableAll;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link MethodInterceptor} that executes methods annotated with {@link CacheableAll} using
+ * {@link CoherenceCache#getAll(Collection, java.util.function.Function)}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CacheableAllAdvisor
+ */
+public class CacheableAllInterceptor implements MethodInterceptor {
+
+	private final BeanFactory beanFactory;
+
+	/**
+	 * Create a new CacheableAllInterceptor.
+	 * @param beanFactory used to look up the {@link CacheManager}, must not be null
+	 */
+	public CacheableAllInterceptor(BeanFactory beanFactory) {
+		Assert.notNull(beanFactory, "beanFactory must not be null.");
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		final Class<?> targetClass = (invocation.getThis() != null) ? AopUtils.getTargetClass(invocation.getThis()) : null;
+		final Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+		final CacheableAll cacheableAll = AnnotatedElementUtils.findMergedAnnotation(method, CacheableAll.class);
+
+		if (cacheableAll == null) {
+			return invocation.proceed();
+		}
+
+		final Class<?>[] parameterTypes = method.getParameterTypes();
+		if (parameterTypes.length != 1 || !Collection.class.isAssignableFrom(parameterTypes[0])
+				|| !Map.class.isAssignableFrom(method.getReturnType())) {
+			throw new IllegalStateException(String.format("Method '%s' annotated with @CacheableAll must declare a "
+					+ "single Collection parameter and return a Map.", method));
+		}
+
+		final Collection<?> keys = (Collection<?>) invocation.getArguments()[0];
+		if (keys == null) {
+			return invocation.proceed();
+		}
+
+		final CoherenceCache cache = getCoherenceCache(cacheableAll);
+		try {
+			return cache.getAll(keys, (missingKeys) -> invokeWithKeys(invocation, parameterTypes[0], missingKeys));
+		}
+		catch (InvocationFailedException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private CoherenceCache getCoherenceCache(CacheableAll cacheableAll) {
+		final CacheManager cacheManager = (StringUtils.hasText(cacheableAll.cacheManager()))
+				? this.beanFactory.getBean(cacheableAll.cacheManager(), CacheManager.class)
+				: this.beanFactory.getBean(CacheManager.class);
+		Cache cache = cacheManager.getCache(cacheableAll.value());
+		if (cache instanceof TransactionAwareCoherenceCache) {
+			cache = ((TransactionAwareCoherenceCache) cache).getTargetCache();
+		}
+
+		if (!(cache instanceof CoherenceCache)) {
+			throw new IllegalStateException(String.format("@CacheableAll requires cache '%s' to be a CoherenceCache "
+					+ "but was %s.", cacheableAll.value(), cache));
+		}
+		return (CoherenceCache) cache;
+	}
+
+	// Invokes the annotated method with the missing keys, converted to the declared parameter type.
+	@SuppressWarnings("unchecked")
+	private static <K, V> Map<K, V> invokeWithKeys(MethodInvocation invocation, Class<?> parameterType,
+			Collection<?> missingKeys) {
+		final Collection<?> keys;
+		if (parameterType.isAssignableFrom(ArrayList.class)) {
+			keys = new ArrayList<>(missingKeys);
+		}
+		else if (parameterType.isAssignableFrom(LinkedHashSet.class)) {
+			keys = new LinkedHashSet<>(missingKeys);
+		}
+		else {
+			throw new IllegalStateException(String.format("Unsupported key collection type %s.", parameterType.getName()));
+		}
+
+		Assert.state(invocation instanceof ProxyMethodInvocation,
+				"@CacheableAll requires a ProxyMethodInvocation to invoke the method with the missing keys.");
+		try {
+			return (Map<K, V>) ((ProxyMethodInvocation) invocation).invocableClone(keys).proceed();
+		}
+		catch (RuntimeException | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			throw new InvocationFailedException(ex);
+		}
+	}
+
+	// Transports checked exceptions of the annotated method through the value loader.
+	private static final class InvocationFailedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		InvocationFailedException(Throwable cause) {
+			super(cause);
+		}
+	}
+}
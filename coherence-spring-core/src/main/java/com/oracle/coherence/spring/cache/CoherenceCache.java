@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,14 +7,41 @@
 package com.oracle.coherence.spring.cache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.net.cache.CachingMap;
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.NearCache;
+import com.tangosol.net.cache.SimpleMemoryCalculator;
 import com.tangosol.util.ConcurrentMap;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
@@ -25,25 +52,93 @@ import org.springframework.util.Assert;
  */
 public class CoherenceCache implements Cache {
 
+	private static final Log logger = LogFactory.getLog(CoherenceCache.class);
+
+	private static final long MIN_LEASE_POLL_MILLIS = 5;
+	private static final long MAX_LEASE_POLL_MILLIS = 100;
+
+	private static final String LOADING_LEASE_CACHE_SUFFIX = "-loading-leases";
+
+	private final NamedCache<Object, Object> nativeCache;
 	private final NamedCache<Object, Object> cache;
+	private final NamedCache<Object, Object> leaseCache;
+	private final FrontedNearCache nearCache;
 	private final CoherenceCacheConfiguration cacheConfiguration;
+	private final CoherenceCacheStatistics statistics = new CoherenceCacheStatistics();
+	private final Map<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
 
 	/**
-	 * Construct the CoherenceCache.
+	 * Construct the CoherenceCache. If {@link CoherenceCacheConfiguration#isUseNearCache()} returns true, the provided
+	 * {@link NamedCache} is fronted by a {@link NearCache} holding deserialized values, which must be released using
+	 * {@link #release()} once the cache is no longer used. If
+	 * {@link CoherenceCacheConfiguration#isUseLoadingLease()} returns true, the loading leases are held by the cache
+	 * named {@link #getLoadingLeaseCacheName(String)} of the cache service of the provided {@link NamedCache}.
 	 * @param cache must not be null
 	 * @param cacheConfiguration must not be null
 	 */
 	public CoherenceCache(NamedCache<Object, Object> cache, CoherenceCacheConfiguration cacheConfiguration) {
+		this(cache, ensureLeaseCache(cache, cacheConfiguration), cacheConfiguration);
+	}
+
+	/**
+	 * Construct the CoherenceCache using a dedicated {@link NamedCache} for the loading leases, which keeps the leases
+	 * out of the cache holding the values.
+	 * @param cache must not be null
+	 * @param leaseCache the cache holding the {@link LoadingLease loading leases}, must not be null if
+	 * {@link CoherenceCacheConfiguration#isUseLoadingLease()} returns true
+	 * @param cacheConfiguration must not be null
+	 * @since 4.3.2
+	 */
+	public CoherenceCache(NamedCache<Object, Object> cache, NamedCache<Object, Object> leaseCache,
+			CoherenceCacheConfiguration cacheConfiguration) {
 		super();
 
 		Assert.notNull(cache, "The NamedCache must not be null.");
-		Assert.notNull(cache, "cacheConfiguration must not be null.");
+		Assert.notNull(cacheConfiguration, "cacheConfiguration must not be null.");
+		Assert.isTrue(!cacheConfiguration.isUseNearCache() || !cacheConfiguration.isUseRefreshAhead(),
+				"A near cache cannot be combined with refresh-ahead, as refresh-ahead reads bypass the near cache.");
+		Assert.isTrue(!cacheConfiguration.isUseLoadingLease() || leaseCache != null,
+				"The lease cache must not be null if loading leases are used.");
 
-		this.cache = cache;
+		this.nativeCache = cache;
+		this.leaseCache = leaseCache;
+		this.nearCache = (cacheConfiguration.isUseNearCache()) ? createNearCache(cache, cacheConfiguration) : null;
+		this.cache = (this.nearCache != null) ? this.nearCache : cache;
 		this.cacheConfiguration = cacheConfiguration;
 
 	}
 
+	/**
+	 * Return the name of the cache holding the {@link LoadingLease loading leases} of the specified cache, if
+	 * {@link CoherenceCacheConfiguration#isUseLoadingLease() loading leases} are used.
+	 * @param cacheName the name of the cache holding the values
+	 * @return the name of the lease cache
+	 * @since 4.3.2
+	 */
+	public static String getLoadingLeaseCacheName(String cacheName) {
+		return cacheName + LOADING_LEASE_CACHE_SUFFIX;
+	}
+
+	private static NamedCache<Object, Object> ensureLeaseCache(NamedCache<Object, Object> cache,
+			CoherenceCacheConfiguration cacheConfiguration) {
+		if (cache == null || cacheConfiguration == null || !cacheConfiguration.isUseLoadingLease()) {
+			return null;
+		}
+		final CacheService cacheService = cache.getCacheService();
+		return cacheService.ensureCache(getLoadingLeaseCacheName(cache.getCacheName()),
+				cacheService.getContextClassLoader());
+	}
+
+	private static FrontedNearCache createNearCache(NamedCache<Object, Object> backCache,
+			CoherenceCacheConfiguration cacheConfiguration) {
+		final LocalCache frontCache = new LocalCache(cacheConfiguration.getNearCacheHighUnits(),
+				(int) cacheConfiguration.getNearCacheExpiry().toMillis());
+		if (cacheConfiguration.getNearCacheUnitCalculator() == NearCacheUnitCalculator.MEMORY) {
+			frontCache.setUnitCalculator(new SimpleMemoryCalculator());
+		}
+		return new FrontedNearCache(frontCache, backCache);
+	}
+
 	@Override
 	public void clear() {
 		this.cache.clear();
@@ -51,19 +146,50 @@ public class CoherenceCache implements Cache {
 
 	@Override
 	public void evict(Object key) {
-		this.cache.remove(key);
+		if (this.cache.remove(key) != null) {
+			this.statistics.recordEviction();
+		}
+	}
+
+	/**
+	 * Evict the mapping for this key from this cache if it is present. The check and the removal are executed
+	 * atomically by a single {@link EvictIfPresentProcessor} invocation.
+	 * @param key the key whose mapping is to be removed from the cache
+	 * @return true if the cache held a value for the key
+	 * @since 4.3.2
+	 */
+	@Override
+	public boolean evictIfPresent(Object key) {
+		final boolean evicted = Boolean.TRUE.equals(this.cache.invoke(key, EvictIfPresentProcessor.INSTANCE));
+		if (evicted) {
+			this.statistics.recordEviction();
+		}
+		return evicted;
+	}
+
+	/**
+	 * Invalidate the cache through removing all mappings. In contrast to {@link #clear()}, this method reports whether
+	 * the cache held any mappings before.
+	 * @return true if the cache was known to have mappings before
+	 * @since 4.3.2
+	 */
+	@Override
+	public boolean invalidate() {
+		final boolean notEmpty = !this.cache.isEmpty();
+		this.cache.clear();
+		return notEmpty;
 	}
 
 	@Override
 	public ValueWrapper get(Object key) {
-		final Object value = this.cache.get(key);
-		return (value != null) ? new SimpleValueWrapper(value) : null;
+		final Object storeValue = recordLookup(this.cache.get(key));
+		return (storeValue != null) ? new SimpleValueWrapper(fromStoreValue(storeValue)) : null;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(Object key, Class<T> type) {
-		final Object value = this.cache.get(key);
+		final Object value = fromStoreValue(recordLookup(this.cache.get(key)));
 		if (type != null && value != null && !type.isInstance(value)) {
 			throw new IllegalStateException(
 				String.format("Cached value '%s' is not of required type '%s'.", value, type.getName()));
@@ -74,7 +200,14 @@ public class CoherenceCache implements Cache {
 	/**
 	 * Return the value to which this cache maps the specified key. If the key does not exist in the cache, the method
 	 * will obtain that value using the provided valueLoader. In that case, the key will be locked, unless
-	 * {@link CoherenceCacheConfiguration#isUseLocks()} returns false.
+	 * {@link CoherenceCacheConfiguration#isUseLocks()} returns false. If
+	 * {@link CoherenceCacheConfiguration#isUseLoadingLease()} returns true, concurrent cache misses are coordinated
+	 * via a {@link LoadingLease} instead of locks. If {@link CoherenceCacheConfiguration#isUseLoadCoalescing()} returns
+	 * true, concurrent cache misses for the same key within this JVM wait for a single thread to load the value. If
+	 * {@link CoherenceCacheConfiguration#isUseRefreshAhead()} returns true, values that are due for refresh are
+	 * returned immediately and reloaded in the background using the valueLoader. If
+	 * {@link CoherenceCacheConfiguration#isAllowNullValues()} returns true, {@code null} values returned by the
+	 * valueLoader are cached as well.
 	 * @param key might be null. See {@link NamedCache#get(Object)}.
 	 * @param valueLoader must not be null.
 	 * @param <T> type of the return value.
@@ -83,33 +216,253 @@ public class CoherenceCache implements Cache {
 	@Override
 	public <T> T get(Object key, Callable<T> valueLoader) {
 		Assert.notNull(valueLoader, "valueLoader must not be null.");
-		final Object value = this.cache.get(key);
-		if (value != null) {
-			return (T) value;
+		final boolean coalesceLoads = this.cacheConfiguration.isUseLoadCoalescing() && key != null;
+		if (coalesceLoads) {
+			final CompletableFuture<Object> inFlightLoad = this.inFlightLoads.get(key);
+			if (inFlightLoad != null) {
+				this.statistics.recordMiss();
+				this.statistics.recordCoalescedLoad();
+				return awaitInFlightLoad(key, valueLoader, inFlightLoad);
+			}
+		}
+		final Object storeValue = recordLookup(lookup(key, valueLoader));
+		if (storeValue != null) {
+			return (T) fromStoreValue(storeValue);
+		}
+		else if (coalesceLoads) {
+			return loadMissingValueCoalesced(key, valueLoader);
 		}
 		else {
+			return loadMissingValue(key, valueLoader);
+		}
+	}
+
+	// Reads the store value of the key. If refresh-ahead is enabled and the value is due for refresh, the value gets reloaded
+	// in the background while the current value is returned. The value is read using a lock-free aggregator, only values
+	// that are due for refresh are claimed using the locking entry processor.
+	private Object lookup(Object key, Callable<?> valueLoader) {
+		if (!this.cacheConfiguration.isUseRefreshAhead()) {
+			return this.cache.get(key);
+		}
+		final long timeToLiveMillis = this.cacheConfiguration.getTimeToLive().toMillis();
+		final long refreshThresholdMillis =
+				timeToLiveMillis - (long) (timeToLiveMillis * this.cacheConfiguration.getRefreshAheadFactor());
+		final Object value = this.cache.aggregate(Collections.singleton(key),
+				new RefreshAheadAggregator(refreshThresholdMillis));
+		if (!(value instanceof RefreshAheadValue)) {
+			return value;
+		}
+		final Object result = this.cache.invoke(key, new RefreshAheadProcessor(refreshThresholdMillis,
+				this.cacheConfiguration.getLoadingLeaseDuration().toMillis()));
+
+		if (result instanceof RefreshAheadValue) {
+			refreshAhead(key, valueLoader);
+			return ((RefreshAheadValue) result).getValue();
+		}
+		return result;
+	}
+
+	private void refreshAhead(Object key, Callable<?> valueLoader) {
+		final Executor executor = (this.cacheConfiguration.getRefreshAheadExecutor() != null)
+				? this.cacheConfiguration.getRefreshAheadExecutor() : DefaultRefreshAheadExecutor.INSTANCE;
+		try {
+			executor.execute(() -> {
+				try {
+					put(key, callValueLoader(valueLoader));
+					this.statistics.recordRefreshAhead();
+				}
+				catch (Exception ex) {
+					logger.warn(String.format("Unable to refresh the value of key '%s' in cache '%s'.",
+							key, getName()), ex);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.statistics.recordRejectedRefreshAhead();
+		}
+	}
+
+	/**
+	 * Return the values to which this cache maps the specified keys. All keys are looked up using a single
+	 * {@link NamedCache#getAll(Collection)} call. The valueLoader is only invoked once for the keys that are missing in
+	 * the cache, and the loaded values are stored using a single {@code putAll} call that applies the configured
+	 * {@link CoherenceCacheConfiguration#getTimeToLive() time-to-live}. Keys for which the valueLoader returns no
+	 * value are only cached if {@link CoherenceCacheConfiguration#isAllowNullValues() null values are allowed}. Keys
+	 * are neither locked nor coordinated via leases.
+	 * @param keys the keys whose associated values are to be returned, must not be null
+	 * @param valueLoader loads the values of the missing keys, must not be null
+	 * @param <K> the type of the keys
+	 * @param <V> the type of the values
+	 * @return the cached and loaded values in the iteration order of the keys, never null. Keys without a value,
+	 * including keys with a cached {@code null} value, are not contained in the returned map.
+	 * @since 4.3.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> Map<K, V> getAll(Collection<? extends K> keys,
+			Function<? super Collection<K>, ? extends Map<? extends K, ? extends V>> valueLoader) {
+		Assert.notNull(keys, "keys must not be null.");
+		Assert.notNull(valueLoader, "valueLoader must not be null.");
+
+		final Map<Object, Object> cachedValues = (keys.isEmpty()) ? Collections.emptyMap() : this.cache.getAll(keys);
+		final Map<K, V> values = new LinkedHashMap<>();
+		final Set<K> missingKeys = new LinkedHashSet<>();
+		int hits = 0;
+
+		for (K key : keys) {
+			final Object storeValue = cachedValues.get(key);
+			if (storeValue == null) {
+				missingKeys.add(key);
+				continue;
+			}
+			hits++;
+			if (!(storeValue instanceof CoherenceNullValue)) {
+				values.put(key, (V) storeValue);
+			}
+		}
+		this.statistics.recordHits(hits);
+		this.statistics.recordMisses(missingKeys.size());
+
+		if (!missingKeys.isEmpty()) {
+			final Map<? extends K, ? extends V> loadedValues;
+			final long start = System.nanoTime();
+			boolean successful = false;
 			try {
-				return this.lockIfNecessary(key, () -> {
-					final Object value2 = this.cache.get(key);
-					if (value2 != null) {
-						return (T) value2;
-					}
-					else {
-						return loadValue(key, valueLoader);
+				loadedValues = valueLoader.apply(Collections.unmodifiableSet(missingKeys));
+				successful = true;
+			}
+			finally {
+				this.statistics.recordLoad(successful, System.nanoTime() - start);
+			}
+			if (loadedValues != null) {
+				final Map<Object, Object> valuesToCache = new HashMap<>();
+				for (K key : missingKeys) {
+					final V value = loadedValues.get(key);
+					if (value != null) {
+						values.put(key, value);
 					}
-				});
+					valuesToCache.put(key, value);
+				}
+				putAll(valuesToCache);
 			}
-			catch (Exception ex) {
-				if (ex instanceof ValueRetrievalException) {
-					throw ex;
+		}
+		return values;
+	}
+
+	private <T> T loadMissingValue(Object key, Callable<T> valueLoader) {
+		try {
+			if (this.cacheConfiguration.isUseLoadingLease()) {
+				return loadValueUsingLease(key, valueLoader);
+			}
+			return this.lockIfNecessary(key, () -> {
+				final Object storeValue = this.cache.get(key);
+				if (storeValue != null) {
+					return (T) fromStoreValue(storeValue);
 				}
 				else {
-					throw new ValueRetrievalException(key, valueLoader, ex);
+					return loadValue(key, valueLoader);
 				}
+			});
+		}
+		catch (Exception ex) {
+			if (ex instanceof ValueRetrievalException) {
+				throw ex;
+			}
+			else {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+		}
+	}
+
+	// Only a single thread per key (the leader) goes to the cluster, all other threads wait for the leader's result.
+	// The in-flight load is completed for any outcome of the leader, including errors, so that no waiter is left blocked.
+	private <T> T loadMissingValueCoalesced(Object key, Callable<T> valueLoader) {
+		final CompletableFuture<Object> load = new CompletableFuture<>();
+		final CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+		if (inFlightLoad != null) {
+			this.statistics.recordCoalescedLoad();
+			return awaitInFlightLoad(key, valueLoader, inFlightLoad);
+		}
+		this.statistics.recordLeaderLoad();
+		try {
+			final T value = loadMissingValue(key, valueLoader);
+			load.complete(value);
+			return value;
+		}
+		catch (Throwable ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightLoads.remove(key, load);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T awaitInFlightLoad(Object key, Callable<T> valueLoader, CompletableFuture<Object> inFlightLoad) {
+		try {
+			return (T) inFlightLoad.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ValueRetrievalException(key, valueLoader, ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof ValueRetrievalException) {
+				throw (ValueRetrievalException) ex.getCause();
 			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw new ValueRetrievalException(key, valueLoader, ex.getCause());
 		}
 	}
 
+	/**
+	 * Return the value to which this cache maps the specified key, using the {@link AsyncNamedCache} of the underlying
+	 * {@link NamedCache}. The returned {@link CompletableFuture} completes with {@code null} in case of a cache miss.
+	 * If {@link CoherenceCacheConfiguration#isAllowNullValues() null values are allowed}, cached values are wrapped in
+	 * a {@link ValueWrapper}, so that cached {@code null} values can be distinguished from cache misses.
+	 * @param key the key whose associated value is to be returned
+	 * @return the {@link CompletableFuture} holding the cached value, never {@code null}
+	 * @since 4.3.2
+	 */
+	@Override
+	public CompletableFuture<?> retrieve(Object key) {
+		return this.cache.async().get(key).thenApply((value) -> {
+			final Object storeValue = recordLookup(value);
+			if (storeValue != null && this.cacheConfiguration.isAllowNullValues()) {
+				return new SimpleValueWrapper(fromStoreValue(storeValue));
+			}
+			return fromStoreValue(storeValue);
+		});
+	}
+
+	/**
+	 * Return the value to which this cache maps the specified key, obtaining that value from the provided valueLoader
+	 * if necessary. Both the lookup and the subsequent storing of the loaded value are executed asynchronously via
+	 * the {@link AsyncNamedCache} of the underlying {@link NamedCache}. As Coherence does not support asynchronous
+	 * locking, the {@link CoherenceCacheConfiguration#isUseLocks()} setting is not applied.
+	 * @param key the key whose associated value is to be returned
+	 * @param valueLoader must not be null
+	 * @param <T> type of the return value
+	 * @return the {@link CompletableFuture} holding the cached or loaded value, never {@code null}
+	 * @since 4.3.2
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		Assert.notNull(valueLoader, "valueLoader must not be null.");
+		return this.cache.async().get(key).thenApply((value) -> recordLookup(value)).thenCompose((storeValue) -> {
+			if (storeValue != null) {
+				return CompletableFuture.completedFuture((T) fromStoreValue(storeValue));
+			}
+			final long start = System.nanoTime();
+			return valueLoader.get()
+					.whenComplete((loadedValue, ex) -> this.statistics.recordLoad(ex == null, System.nanoTime() - start))
+					.thenCompose((loadedValue) -> putAsync(key, loadedValue).thenApply((ignored) -> loadedValue));
+		});
+	}
+
 	private <T> T lockIfNecessary(Object key, Supplier<T> runnable) {
 		if (!this.cacheConfiguration.isUseLocks()) {
 			return runnable.get();
@@ -124,12 +477,16 @@ public class CoherenceCache implements Cache {
 			lockKey = key;
 		}
 
-		if (this.cache.lock(lockKey, this.cacheConfiguration.getLockTimeout())) {
+		final long lockStart = System.nanoTime();
+		final boolean locked = this.cache.lock(lockKey, this.cacheConfiguration.getLockTimeout());
+		this.statistics.recordLockAttempt(locked, System.nanoTime() - lockStart);
+
+		if (locked) {
 			try {
 				return runnable.get();
 			}
 			finally {
-				this.cache.unlock(key);
+				this.cache.unlock(lockKey);
 			}
 		}
 		else {
@@ -147,20 +504,124 @@ public class CoherenceCache implements Cache {
 		}
 	}
 
+	// The first caller acquires the lease and loads the value, while concurrent callers poll for the installed value
+	// until the lease is released or expired. The leases are held by the lease cache, so that readers of the cache
+	// never see them.
+	@SuppressWarnings("unchecked")
+	private <T> T loadValueUsingLease(Object key, Callable<T> valueLoader) {
+		final String owner = UUID.randomUUID().toString();
+		final long leaseMillis = this.cacheConfiguration.getLoadingLeaseDuration().toMillis();
+
+		while (true) {
+			final LoadingLease lease = (LoadingLease) this.leaseCache.invoke(key,
+					new AcquireLoadingLeaseProcessor(owner, leaseMillis));
+
+			if (lease.isOwnedBy(owner)) {
+				return loadValueAndReleaseLease(key, valueLoader, owner);
+			}
+
+			final Object loadedValue = awaitLoadedValue(key, lease, leaseMillis);
+			if (loadedValue != null) {
+				return (T) fromStoreValue(loadedValue);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T loadValueAndReleaseLease(Object key, Callable<T> valueLoader, String owner) {
+		try {
+			// the previous lease owner may have installed the value before the lease was acquired
+			final Object cachedValue = this.cache.get(key);
+			if (cachedValue != null) {
+				return (T) fromStoreValue(cachedValue);
+			}
+			final T value;
+			try {
+				value = callValueLoader(valueLoader);
+			}
+			catch (Exception ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+			final Object storeValue = toStoreValue(value);
+			// a value that was put into the cache concurrently is never overwritten
+			if (storeValue != null && this.cache.invoke(key,
+					new PutIfAbsentProcessor(storeValue, getTimeToLiveMillis(storeValue))) == null) {
+				this.statistics.recordPuts(1);
+			}
+			return value;
+		}
+		finally {
+			this.leaseCache.invoke(key, new ReleaseLoadingLeaseProcessor(owner));
+		}
+	}
+
+	// Returns null if the lease held by another caller was released, or if no value was installed within the lease
+	// duration, so that the caller tries to take over the lease once it has expired.
+	private Object awaitLoadedValue(Object key, LoadingLease lease, long leaseMillis) {
+		final long deadline = System.currentTimeMillis() + leaseMillis;
+		long backoffMillis = MIN_LEASE_POLL_MILLIS;
+		while (true) {
+			try {
+				Thread.sleep(backoffMillis);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(
+						String.format("Interrupted while waiting for the value of key '%s' to be loaded.", key), ex);
+			}
+			final Object value = this.cache.get(key);
+			if (value != null || !lease.equals(this.leaseCache.get(key))) {
+				return value;
+			}
+			final long remainingMillis = deadline - System.currentTimeMillis();
+			if (remainingMillis <= 0) {
+				return null;
+			}
+			backoffMillis = Math.min(Math.min(backoffMillis * 2, MAX_LEASE_POLL_MILLIS), remainingMillis);
+		}
+	}
+
 	@Override
 	public String getName() {
 		return this.cache.getCacheName();
 	}
 
+	/**
+	 * Return the underlying {@link NamedCache}. If a near cache is used, this is the back cache of the
+	 * {@link #getNearCache() near cache}.
+	 * @return the underlying {@link NamedCache}
+	 */
 	@Override
 	public Object getNativeCache() {
-		return this.cache;
+		return this.nativeCache;
+	}
+
+	/**
+	 * Return the {@link NearCache} fronting the {@link #getNativeCache() native cache}, if
+	 * {@link CoherenceCacheConfiguration#isUseNearCache() a near cache is used}.
+	 * @return the near cache or null if no near cache is used
+	 * @since 4.3.2
+	 */
+	public NearCache<Object, Object> getNearCache() {
+		return this.nearCache;
+	}
+
+	/**
+	 * Release the local resources held by this cache, i.e. the front tier of the {@link #getNearCache() near cache}
+	 * and its listeners on the native cache. The {@link #getNativeCache() native cache} itself is owned by the
+	 * Coherence session and therefore not released. Calling this method if no near cache is used has no effect.
+	 * @since 4.3.2
+	 */
+	public void release() {
+		if (this.nearCache != null) {
+			this.nearCache.releaseFrontTier();
+		}
 	}
 
 	private <T> T loadValue(Object key, Callable<T> valueLoader) {
 		T value;
 		try {
-			value = valueLoader.call();
+			value = callValueLoader(valueLoader);
 		}
 		catch (Exception ex) {
 			throw new ValueRetrievalException(key, valueLoader, ex);
@@ -169,19 +630,116 @@ public class CoherenceCache implements Cache {
 		return value;
 	}
 
+	// Invokes the value-loader and records its latency and outcome.
+	private <T> T callValueLoader(Callable<T> valueLoader) throws Exception {
+		final long start = System.nanoTime();
+		boolean successful = false;
+		try {
+			final T value = valueLoader.call();
+			successful = true;
+			return value;
+		}
+		finally {
+			this.statistics.recordLoad(successful, System.nanoTime() - start);
+		}
+	}
+
 	@Override
 	public void put(Object key, Object value) {
-		if (value == null) {
+		final Object storeValue = toStoreValue(value);
+		if (storeValue == null) {
+			return;
+		}
+		final Duration timeToLive = getTimeToLive(storeValue);
+		if (isUsingTtl(timeToLive)) {
+			this.cache.put(key, storeValue, timeToLive.toMillis());
+		}
+		else {
+			this.cache.put(key, storeValue);
+		}
+		this.statistics.recordPuts(1);
+	}
+
+	/**
+	 * Atomically associate the specified value with the specified key in this cache if it is not set already. The
+	 * check and the put are executed by a single {@link PutIfAbsentProcessor} invocation, applying the configured
+	 * {@link CoherenceCacheConfiguration#getTimeToLive() time-to-live}.
+	 * @param key the key with which the specified value is to be associated
+	 * @param value the value to be associated with the specified key
+	 * @return the value to which this cache maps the specified key, or {@code null} if the cache contained no mapping
+	 * for this key
+	 * @since 4.3.2
+	 */
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		final Object storeValue = toStoreValue(value);
+		if (storeValue == null) {
+			return get(key);
+		}
+		final Object existingValue = this.cache.invoke(key,
+				new PutIfAbsentProcessor(storeValue, getTimeToLiveMillis(storeValue)));
+		if (existingValue == null) {
+			this.statistics.recordPuts(1);
+		}
+		return (existingValue != null) ? new SimpleValueWrapper(fromStoreValue(existingValue)) : null;
+	}
+
+	// Stores the values using a single putAll call. Null values are stored with their own time-to-live using a
+	// second putAll call, if null values are allowed.
+	void putAll(Map<Object, Object> values) {
+		final Map<Object, Object> storeValues = new HashMap<>();
+		final Map<Object, Object> nullValues = new HashMap<>();
+		values.forEach((key, value) -> {
+			final Object storeValue = toStoreValue(value);
+			if (storeValue instanceof CoherenceNullValue) {
+				nullValues.put(key, storeValue);
+			}
+			else if (storeValue != null) {
+				storeValues.put(key, storeValue);
+			}
+		});
+		putAll(storeValues, this.cacheConfiguration.getTimeToLive());
+		putAll(nullValues, getTimeToLive(CoherenceNullValue.INSTANCE));
+	}
+
+	private void putAll(Map<Object, Object> storeValues, Duration timeToLive) {
+		if (storeValues.isEmpty()) {
 			return;
 		}
-		if (isUsingTtl(this.cacheConfiguration.getTimeToLive())) {
-			this.cache.put(key, value, this.cacheConfiguration.getTimeToLive().toMillis());
+		if (isUsingTtl(timeToLive)) {
+			this.cache.async().putAll(storeValues, timeToLive.toMillis()).join();
 		}
 		else {
-			this.cache.put(key, value);
+			this.cache.putAll(storeValues);
+		}
+		this.statistics.recordPuts(storeValues.size());
+	}
+
+	// Removes the mappings for all specified keys using a single entry processor invocation, counting the removed values.
+	void evictAll(Collection<Object> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		final Map<Object, Boolean> results = this.cache.invokeAll(keys, EvictIfPresentProcessor.INSTANCE);
+		final long evictions = results.values().stream().filter(Boolean.TRUE::equals).count();
+		if (evictions > 0) {
+			this.statistics.recordEvictions(evictions);
 		}
 	}
 
+	private CompletableFuture<Void> putAsync(Object key, Object value) {
+		final Object storeValue = toStoreValue(value);
+		if (storeValue == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		final AsyncNamedCache<Object, Object> asyncCache = this.cache.async();
+		final Duration timeToLive = getTimeToLive(storeValue);
+		final CompletableFuture<Void> put = (isUsingTtl(timeToLive))
+				? asyncCache.put(key, storeValue, timeToLive.toMillis())
+				: asyncCache.put(key, storeValue);
+		return put.thenRun(() -> this.statistics.recordPuts(1));
+	}
+
 	/**
 	 * Returns the number of key-value mappings of the underlying {@link NamedCache}.
 	 * @return the number of key-value mappings in this map
@@ -190,6 +748,15 @@ public class CoherenceCache implements Cache {
 		return this.cache.size();
 	}
 
+	/**
+	 * Return the client-side statistics of this cache.
+	 * @return never returns {@code null}.
+	 * @since 4.3.2
+	 */
+	public CoherenceCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	/**
 	 * Return the used {@link CoherenceCacheConfiguration}.
 	 * @return never returns {@code null}.
@@ -198,7 +765,106 @@ public class CoherenceCache implements Cache {
 		return this.cacheConfiguration;
 	}
 
+	private Object recordLookup(Object value) {
+		if (value != null) {
+			this.statistics.recordHit();
+		}
+		else {
+			this.statistics.recordMiss();
+		}
+		return value;
+	}
+
+	// Returns the time-to-live for the store value, cached null values may use a shorter time-to-live.
+	private Duration getTimeToLive(Object storeValue) {
+		if (storeValue instanceof CoherenceNullValue && !this.cacheConfiguration.getNullValueTimeToLive().isZero()) {
+			return this.cacheConfiguration.getNullValueTimeToLive();
+		}
+		return this.cacheConfiguration.getTimeToLive();
+	}
+
+	private long getTimeToLiveMillis(Object storeValue) {
+		final Duration timeToLive = getTimeToLive(storeValue);
+		return (isUsingTtl(timeToLive)) ? timeToLive.toMillis() : CacheMap.EXPIRY_DEFAULT;
+	}
+
+	// Converts the value to the value stored in the cache, which is the null value sentinel for null values if null
+	// values are allowed.
+	private Object toStoreValue(Object value) {
+		if (value == null && this.cacheConfiguration.isAllowNullValues()) {
+			return CoherenceNullValue.INSTANCE;
+		}
+		return value;
+	}
+
+	private static Object fromStoreValue(Object storeValue) {
+		return (storeValue instanceof CoherenceNullValue) ? null : storeValue;
+	}
+
+	// -1 milliseconds is passed on as CacheMap.EXPIRY_NEVER, zero uses the expiry configured for the cache
 	private static boolean isUsingTtl(Duration timeTolive) {
-		return timeTolive != null && !timeTolive.isZero() && !timeTolive.isNegative();
+		return timeTolive != null && !timeTolive.isZero();
+	}
+
+	// A near cache whose release only affects the front tier and the listeners registered on the back cache, as
+	// NearCache#release() would also release the back cache, which is shared by all users of the Coherence session.
+	private static final class FrontedNearCache extends NearCache<Object, Object> {
+
+		@SuppressWarnings("unchecked")
+		FrontedNearCache(LocalCache frontCache, NamedCache<Object, Object> backCache) {
+			super(frontCache, backCache, CachingMap.LISTEN_AUTO);
+		}
+
+		// Mirrors CachingMap#release() without releasing the back cache.
+		void releaseFrontTier() {
+			final ConcurrentMap controlMap = getControlMap();
+			if (!controlMap.lock(ConcurrentMap.LOCK_ALL, 0L)) {
+				throw new IllegalStateException("Near cache is in active use by other threads.");
+			}
+			try {
+				switch (this.m_nStrategyCurrent) {
+					case LISTEN_PRESENT:
+						unregisterFrontListener();
+						unregisterListeners(getFrontMap().keySet());
+						break;
+					case LISTEN_ALL:
+					case LISTEN_LOGICAL:
+						unregisterListener();
+						break;
+					default:
+						break;
+				}
+				unregisterDeactivationListener();
+				unregisterBackServiceListener();
+				unregisterMBean();
+				this.m_nStrategyCurrent = LISTEN_NONE;
+				getFrontMap().clear();
+			}
+			finally {
+				controlMap.unlock(ConcurrentMap.LOCK_ALL);
+			}
+		}
+	}
+
+	// Shared executor used if no refresh-ahead executor is configured. Both the number of threads and the queue are
+	// bounded, refreshes exceeding the queue capacity are rejected and therefore skipped.
+	private static final class DefaultRefreshAheadExecutor {
+
+		private static final int QUEUE_CAPACITY = 1024;
+
+		static final Executor INSTANCE = createExecutor();
+
+		private DefaultRefreshAheadExecutor() {
+		}
+
+		private static Executor createExecutor() {
+			final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+			final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-refresh-ahead-");
+			threadFactory.setDaemon(true);
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,7 @@ package com.oracle.coherence.spring.cache;
 
 import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import org.springframework.util.Assert;
 
@@ -50,6 +51,56 @@ public class CoherenceCacheConfiguration {
 	 */
 	private String cacheNamePrefix = "";
 
+	/**
+	 * see {@link #isUseLoadingLease()}.
+	 */
+	private boolean useLoadingLease = false;
+
+	/**
+	 * see {@link #getLoadingLeaseDuration()}.
+	 */
+	private Duration loadingLeaseDuration = Duration.ofSeconds(10);
+
+	/**
+	 * see {@link #isUseLoadCoalescing()}.
+	 */
+	private boolean useLoadCoalescing = false;
+
+	/**
+	 * see {@link #getNearCacheHighUnits()}.
+	 */
+	private int nearCacheHighUnits = 0;
+
+	/**
+	 * see {@link #getNearCacheUnitCalculator()}.
+	 */
+	private NearCacheUnitCalculator nearCacheUnitCalculator = NearCacheUnitCalculator.FIXED;
+
+	/**
+	 * see {@link #getNearCacheExpiry()}.
+	 */
+	private Duration nearCacheExpiry = Duration.ZERO;
+
+	/**
+	 * see {@link #getRefreshAheadFactor()}.
+	 */
+	private double refreshAheadFactor = 0;
+
+	/**
+	 * see {@link #getRefreshAheadExecutor()}.
+	 */
+	private Executor refreshAheadExecutor;
+
+	/**
+	 * see {@link #isAllowNullValues()}.
+	 */
+	private boolean allowNullValues = false;
+
+	/**
+	 * see {@link #getNullValueTimeToLive()}.
+	 */
+	private Duration nullValueTimeToLive = Duration.ZERO;
+
 	/**
 	 * The default constructor.
 	 */
@@ -192,4 +243,256 @@ public class CoherenceCacheConfiguration {
 	public void setLockTimeout(long lockTimeout) {
 		this.lockTimeout = lockTimeout;
 	}
+
+	/**
+	 * If true, cache misses in {@link CoherenceCache#get(Object, Callable)} are coordinated via a {@link LoadingLease}
+	 * that is acquired by a single entry processor invocation, instead of using explicit locks. Concurrent cache
+	 * misses for the same key will then wait for the lease owner to install the loaded value. The leases are held by a
+	 * separate cache named {@link CoherenceCache#getLoadingLeaseCacheName(String)}, so that they are never visible to
+	 * readers of the cache. This property returns false by default. If true, {@link #isUseLocks()} is ignored by the
+	 * value-loader.
+	 * @return true if loading leases shall be used
+	 * @since 4.3.2
+	 */
+	public boolean isUseLoadingLease() {
+		return this.useLoadingLease;
+	}
+
+	/**
+	 * If set to true, cache misses in {@link CoherenceCache#get(Object, Callable)} are coordinated via a
+	 * {@link LoadingLease} instead of explicit locks. If not set, this property defaults to false.
+	 * @param useLoadingLease shall loading leases be used
+	 * @since 4.3.2
+	 */
+	public void setUseLoadingLease(boolean useLoadingLease) {
+		this.useLoadingLease = useLoadingLease;
+	}
+
+	/**
+	 * Returns the duration of a {@link LoadingLease}. If the lease owner does not install a value within that
+	 * duration, e.g. because the owning member left the cluster, another caller may take over loading the value.
+	 * Defaults to 10 seconds. This property is only used if {@link #isUseLoadingLease()} returns true.
+	 * @return the loading lease duration
+	 * @since 4.3.2
+	 */
+	public Duration getLoadingLeaseDuration() {
+		return this.loadingLeaseDuration;
+	}
+
+	/**
+	 * Sets the duration of a {@link LoadingLease}. If not set, it will default to 10 seconds.
+	 * @param loadingLeaseDuration must not be null and must be positive
+	 * @since 4.3.2
+	 */
+	public void setLoadingLeaseDuration(Duration loadingLeaseDuration) {
+		Assert.notNull(loadingLeaseDuration, "loadingLeaseDuration must not be null.");
+		Assert.isTrue(!loadingLeaseDuration.isNegative() && !loadingLeaseDuration.isZero(),
+				"loadingLeaseDuration must be positive.");
+		this.loadingLeaseDuration = loadingLeaseDuration;
+	}
+
+	/**
+	 * If true, concurrent cache misses for the same key within a single JVM are coalesced in
+	 * {@link CoherenceCache#get(Object, Callable)}: only one thread retrieves the value from the cluster or invokes the
+	 * value-loader, while all other threads wait for its result. This avoids lock contention for hot keys, e.g. after
+	 * the mass-expiry of cache entries. This property returns false by default.
+	 * @return true if cache misses shall be coalesced
+	 * @since 4.3.2
+	 * @see CoherenceCacheStatistics#getCoalescedLoadCount()
+	 */
+	public boolean isUseLoadCoalescing() {
+		return this.useLoadCoalescing;
+	}
+
+	/**
+	 * If set to true, concurrent cache misses for the same key within a single JVM are coalesced. If not set, this
+	 * property defaults to false.
+	 * @param useLoadCoalescing shall cache misses be coalesced
+	 * @since 4.3.2
+	 */
+	public void setUseLoadCoalescing(boolean useLoadCoalescing) {
+		this.useLoadCoalescing = useLoadCoalescing;
+	}
+
+	/**
+	 * Returns true if the {@link CoherenceCache} shall hold deserialized values in a bounded local front tier, which
+	 * is the case if {@link #getNearCacheHighUnits()} is greater than zero. A near cache cannot be combined with
+	 * {@link #isUseRefreshAhead() refresh-ahead}, as refresh-ahead reads are aggregator invocations that bypass the
+	 * front tier. With {@link #isUseLoadingLease() loading leases}, only cache misses bypass the front tier.
+	 * @return true if a near cache shall be used
+	 * @since 4.3.2
+	 */
+	public boolean isUseNearCache() {
+		return this.nearCacheHighUnits > 0;
+	}
+
+	/**
+	 * Returns the maximum size of the local front tier (near cache) of the {@link CoherenceCache}. The unit of this
+	 * value depends on {@link #getNearCacheUnitCalculator()}. Front tier entries are invalidated via Coherence map
+	 * events. Defaults to 0, which means that no near cache is used.
+	 * @return the high-units of the near cache
+	 * @since 4.3.2
+	 */
+	public int getNearCacheHighUnits() {
+		return this.nearCacheHighUnits;
+	}
+
+	/**
+	 * Sets the maximum size of the local front tier (near cache). If not set, this property defaults to 0, which
+	 * means that no near cache is used.
+	 * @param nearCacheHighUnits must not be negative
+	 * @since 4.3.2
+	 */
+	public void setNearCacheHighUnits(int nearCacheHighUnits) {
+		Assert.isTrue(nearCacheHighUnits >= 0, "nearCacheHighUnits must not be negative.");
+		this.nearCacheHighUnits = nearCacheHighUnits;
+	}
+
+	/**
+	 * Returns how the size of the near cache is calculated. Defaults to {@link NearCacheUnitCalculator#FIXED}, which
+	 * bounds the near cache by the number of entries.
+	 * @return the unit calculator of the near cache
+	 * @since 4.3.2
+	 */
+	public NearCacheUnitCalculator getNearCacheUnitCalculator() {
+		return this.nearCacheUnitCalculator;
+	}
+
+	/**
+	 * Sets how the size of the near cache is calculated. If not set, defaults to {@link NearCacheUnitCalculator#FIXED}.
+	 * @param nearCacheUnitCalculator must not be null
+	 * @since 4.3.2
+	 */
+	public void setNearCacheUnitCalculator(NearCacheUnitCalculator nearCacheUnitCalculator) {
+		Assert.notNull(nearCacheUnitCalculator, "nearCacheUnitCalculator must not be null.");
+		this.nearCacheUnitCalculator = nearCacheUnitCalculator;
+	}
+
+	/**
+	 * Returns the expiration time for entries of the near cache. Defaults to {@link Duration#ZERO}, which means that
+	 * near cache entries only get evicted or invalidated.
+	 * @return the expiry of near cache entries
+	 * @since 4.3.2
+	 */
+	public Duration getNearCacheExpiry() {
+		return this.nearCacheExpiry;
+	}
+
+	/**
+	 * Sets the expiration time for entries of the near cache. If not set, it will default to {@link Duration#ZERO}.
+	 * @param nearCacheExpiry must neither be null nor negative
+	 * @since 4.3.2
+	 */
+	public void setNearCacheExpiry(Duration nearCacheExpiry) {
+		Assert.notNull(nearCacheExpiry, "nearCacheExpiry must not be null.");
+		Assert.isTrue(!nearCacheExpiry.isNegative(), "nearCacheExpiry must not be negative.");
+		this.nearCacheExpiry = nearCacheExpiry;
+	}
+
+	/**
+	 * Returns true if values shall be refreshed ahead of their expiry, which is the case if
+	 * {@link #getRefreshAheadFactor()} is greater than zero and a {@link #getTimeToLive() time-to-live} is specified.
+	 * @return true if refresh-ahead is enabled
+	 * @since 4.3.2
+	 */
+	public boolean isUseRefreshAhead() {
+		return this.refreshAheadFactor > 0 && this.timeToLive.toMillis() > 0;
+	}
+
+	/**
+	 * Returns the fraction of the {@link #getTimeToLive() time-to-live} after which a value that is read via
+	 * {@link CoherenceCache#get(Object, Callable)} is reloaded in the background using the value-loader, while the
+	 * current value keeps being served. Only a single refresh per key is triggered across the cluster. For example, a
+	 * value of 0.75 with a time-to-live of 60 seconds refreshes entries that are read 45 seconds or more after being
+	 * stored. Defaults to 0, which means that values are not refreshed ahead of their expiry. Refresh-ahead cannot be
+	 * combined with a {@link #isUseNearCache() near cache}.
+	 * <p>
+	 * With refresh-ahead, each read via {@link CoherenceCache#get(Object, Callable)} is a lock-free aggregator
+	 * invocation instead of a plain get. Only values that are due for refresh are additionally claimed by an entry
+	 * processor, which locks the entry and extends its expiry. The value-loader of a refresh is invoked on a thread of
+	 * the {@link #getRefreshAheadExecutor() refresh-ahead executor}, so thread-bound state of the reading thread, such
+	 * as the security context or an active transaction, is not available to the value-loader.
+	 * @return the refresh-ahead factor
+	 * @since 4.3.2
+	 */
+	public double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Sets the fraction of the time-to-live after which values are refreshed in the background. If not set, defaults
+	 * to 0, which disables refresh-ahead.
+	 * @param refreshAheadFactor must be greater than or equal to 0 and smaller than 1
+	 * @since 4.3.2
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+		Assert.isTrue(refreshAheadFactor >= 0 && refreshAheadFactor < 1,
+				"refreshAheadFactor must be greater than or equal to 0 and smaller than 1.");
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to refresh values ahead of their expiry. If not set, a shared, bounded executor
+	 * backed by daemon threads is used. Refreshes rejected by the executor are skipped, so the executor should be
+	 * bounded to protect the application from refresh storms.
+	 * @return the refresh-ahead executor, may be null
+	 * @since 4.3.2
+	 */
+	public Executor getRefreshAheadExecutor() {
+		return this.refreshAheadExecutor;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to refresh values ahead of their expiry.
+	 * @param refreshAheadExecutor the executor, may be null to use the shared default executor
+	 * @since 4.3.2
+	 */
+	public void setRefreshAheadExecutor(Executor refreshAheadExecutor) {
+		this.refreshAheadExecutor = refreshAheadExecutor;
+	}
+
+	/**
+	 * If true, {@code null} values are cached as {@link CoherenceNullValue#INSTANCE} and returned as {@code null} on
+	 * lookups, so that repeated lookups of non-existent values do not invoke the value-loader again. This property
+	 * returns false by default, in which case {@code null} values are not cached.
+	 * @return true if null values shall be cached
+	 * @since 4.3.2
+	 * @see #getNullValueTimeToLive()
+	 */
+	public boolean isAllowNullValues() {
+		return this.allowNullValues;
+	}
+
+	/**
+	 * If set to true, {@code null} values are cached. If not set, this property defaults to false.
+	 * @param allowNullValues shall null values be cached
+	 * @since 4.3.2
+	 */
+	public void setAllowNullValues(boolean allowNullValues) {
+		this.allowNullValues = allowNullValues;
+	}
+
+	/**
+	 * Returns the expiration time for cached {@code null} values, which is typically shorter than the
+	 * {@link #getTimeToLive() time-to-live} of regular values, so that values created after a negative lookup become
+	 * visible quickly. Defaults to {@link Duration#ZERO}, which means that the time-to-live of regular values applies. A
+	 * value of -1 milliseconds means that cached null values never expire.
+	 * @return the time-to-live for cached null values
+	 * @since 4.3.2
+	 * @see #isAllowNullValues()
+	 */
+	public Duration getNullValueTimeToLive() {
+		return this.nullValueTimeToLive;
+	}
+
+	/**
+	 * Sets the expiration time for cached {@code null} values. If not set, it will default to {@link Duration#ZERO}.
+	 * @param nullValueTimeToLive must neither be null nor smaller than -1 milliseconds.
+	 * @since 4.3.2
+	 */
+	public void setNullValueTimeToLive(Duration nullValueTimeToLive) {
+		Assert.notNull(nullValueTimeToLive, "nullValueTimeToLive must not be null.");
+		Assert.isTrue(nullValueTimeToLive.toMillis() >= -1, "nullValueTimeToLive must be bigger than -1.");
+		this.nullValueTimeToLive = nullValueTimeToLive;
+	}
 }
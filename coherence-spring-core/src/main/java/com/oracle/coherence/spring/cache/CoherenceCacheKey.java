@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.net.cache.KeyAssociation;
+
+/**
+ * Composite cache key of a cached method invocation with multiple parameters, generated by the
+ * {@link CoherenceKeyGenerator}. In contrast to Spring's {@link org.springframework.cache.interceptor.SimpleKey},
+ * the key is {@link PortableObject POF}-portable, so that the parameters are serialized using compact POF encoding
+ * instead of Java serialization, provided the key is registered in the POF configuration. The hash code is derived
+ * from the parameters only and therefore stable across JVMs as long as the hash codes of the parameters are.
+ * <p>
+ * If an associated key is set, Coherence stores the entry in the partition of the associated key.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public final class CoherenceCacheKey implements KeyAssociation<Object>, PortableObject, Serializable {
+
+	/**
+	 * A key for methods without parameters.
+	 */
+	public static final CoherenceCacheKey EMPTY = new CoherenceCacheKey(null);
+
+	private static final long serialVersionUID = 1L;
+
+	private Object[] params;
+
+	private Object associatedKey;
+
+	private transient int hashCode;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public CoherenceCacheKey() {
+		this.params = new Object[0];
+	}
+
+	/**
+	 * Create a new CoherenceCacheKey.
+	 * @param associatedKey the associated key, may be null
+	 * @param params the method parameters, must not be null
+	 */
+	public CoherenceCacheKey(Object associatedKey, Object... params) {
+		this.params = params.clone();
+		this.associatedKey = associatedKey;
+		this.hashCode = Arrays.deepHashCode(this.params);
+	}
+
+	/**
+	 * Return a copy of the method parameters of this key.
+	 * @return the method parameters
+	 */
+	public Object[] getParams() {
+		return this.params.clone();
+	}
+
+	/**
+	 * Return the key that determines the partition of the cache entry, or {@code null} if the partition is determined
+	 * by this key itself.
+	 * @return the associated key, may be null
+	 */
+	@Override
+	public Object getAssociatedKey() {
+		return this.associatedKey;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.params = pofReader.readArray(0, Object[]::new);
+		this.associatedKey = pofReader.readObject(1);
+		this.hashCode = Arrays.deepHashCode(this.params);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeObjectArray(0, this.params);
+		pofWriter.writeObject(1, this.associatedKey);
+	}
+
+	private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+		inputStream.defaultReadObject();
+		this.hashCode = Arrays.deepHashCode(this.params);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof CoherenceCacheKey)) {
+			return false;
+		}
+		final CoherenceCacheKey that = (CoherenceCacheKey) other;
+		return this.hashCode == that.hashCode && Arrays.deepEquals(this.params, that.params)
+				&& Objects.equals(this.associatedKey, that.associatedKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "CoherenceCacheKey " + Arrays.deepToString(this.params);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,30 +8,42 @@ package com.oracle.coherence.spring.cache;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import com.tangosol.net.Coherence;
 import com.tangosol.net.NamedCache;
 import com.tangosol.net.Session;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.util.Assert;
 
 /**
  *
- * Implementation of the {@link CacheManager} for Oracle Coherence.
+ * Implementation of the {@link CacheManager} for Oracle Coherence. Once the cache manager is destroyed, the local
+ * resources of its caches, such as near caches, are released.
  *
  * @author Gunnar Hillert
  * @since 3.0
  */
-public class CoherenceCacheManager implements CacheManager {
+public class CoherenceCacheManager implements CacheManager, DisposableBean {
 
 	private final Coherence coherence;
 	private final CoherenceCacheConfiguration defaultCacheConfiguration;
+	private final Map<String, CoherenceCacheConfiguration> cacheConfigurations;
 
-	private final Map<String, CoherenceCache> coherenceCacheMap = new ConcurrentHashMap<String, CoherenceCache>(16);
+	private final Map<String, Cache> coherenceCacheMap = new ConcurrentHashMap<String, Cache>(16);
+
+	private final List<Consumer<CoherenceCache>> cacheCreationCallbacks = new CopyOnWriteArrayList<>();
+
+	private boolean transactionAware;
 
 	/**
 	 * Constructs a new {@link CoherenceCacheManager} using the provided {@link Coherence} instance. The underlying
@@ -50,10 +62,26 @@ public class CoherenceCacheManager implements CacheManager {
 	 * @param defaultCacheConfiguration must not be null
 	 */
 	public CoherenceCacheManager(Coherence coherence, CoherenceCacheConfiguration defaultCacheConfiguration) {
+		this(coherence, defaultCacheConfiguration, Collections.emptyMap());
+	}
+
+	/**
+	 * Constructs a new {@link CoherenceCacheManager} using the provided {@link Coherence} instance. Caches whose name
+	 * is contained in the provided map of cache configurations use the respective {@link CoherenceCacheConfiguration},
+	 * all other caches use the {@code defaultCacheConfiguration}.
+	 * @param coherence must not be null
+	 * @param defaultCacheConfiguration must not be null
+	 * @param cacheConfigurations the cache configurations keyed by the Spring cache name, must not be null
+	 * @since 4.3.2
+	 */
+	public CoherenceCacheManager(Coherence coherence, CoherenceCacheConfiguration defaultCacheConfiguration,
+			Map<String, CoherenceCacheConfiguration> cacheConfigurations) {
 		Assert.notNull(coherence, "The coherence instance must not be null.");
-		Assert.notNull(coherence, "defaultCacheConfiguration must not be null.");
+		Assert.notNull(defaultCacheConfiguration, "defaultCacheConfiguration must not be null.");
+		Assert.notNull(cacheConfigurations, "cacheConfigurations must not be null.");
 		this.coherence = coherence;
 		this.defaultCacheConfiguration = defaultCacheConfiguration;
+		this.cacheConfigurations = new HashMap<>(cacheConfigurations);
 	}
 
 	/**
@@ -61,20 +89,71 @@ public class CoherenceCacheManager implements CacheManager {
 	 */
 	@Override
 	public Cache getCache(String name) {
-		final CoherenceCache cache = this.coherenceCacheMap.get(name);
+		final Cache cache = this.coherenceCacheMap.get(name);
+		if (cache != null) {
+			return cache;
+		}
 
-		if (cache == null) {
+		// the cache is created at most once, as a discarded near cache would leak its listener on the back cache
+		final CoherenceCache[] createdCache = new CoherenceCache[1];
+		final Cache cacheToUse = this.coherenceCacheMap.computeIfAbsent(name, (key) -> {
+			final CoherenceCacheConfiguration cacheConfiguration = getCacheConfiguration(key);
+			final String cacheNameToUse = cacheConfiguration.getCacheName(key);
 			final Session session = this.coherence.getSession();
-			final String cacheNameToUse = this.defaultCacheConfiguration.getCacheName(name);
 			final NamedCache<Object, Object> namedCache = session.getCache(cacheNameToUse);
-			final CoherenceCache coherenceCache = new CoherenceCache(namedCache, this.defaultCacheConfiguration);
-			final CoherenceCache preExistingCoherenceCache = this.coherenceCacheMap.putIfAbsent(name, coherenceCache);
+			final NamedCache<Object, Object> leaseCache = (cacheConfiguration.isUseLoadingLease())
+					? session.getCache(CoherenceCache.getLoadingLeaseCacheName(cacheNameToUse)) : null;
+			createdCache[0] = new CoherenceCache(namedCache, leaseCache, cacheConfiguration);
+			return (this.transactionAware) ? new TransactionAwareCoherenceCache(createdCache[0]) : createdCache[0];
+		});
 
-			return (preExistingCoherenceCache != null) ? preExistingCoherenceCache : coherenceCache;
-		}
-		else {
-			return cache;
+		if (createdCache[0] != null) {
+			this.cacheCreationCallbacks.forEach((callback) -> callback.accept(createdCache[0]));
 		}
+		return cacheToUse;
+	}
+
+	/**
+	 * Set whether this cache manager should expose transaction-aware caches, that buffer puts and evictions within a
+	 * Spring-managed transaction and apply them in bulk after a successful commit. Requires {@code spring-tx} on the
+	 * classpath. Only affects caches that are created after this property was set. Default is {@code false}.
+	 * @param transactionAware true to decorate caches with a {@link TransactionAwareCoherenceCache}
+	 * @since 4.3.2
+	 */
+	public void setTransactionAware(boolean transactionAware) {
+		this.transactionAware = transactionAware;
+	}
+
+	/**
+	 * Return whether this cache manager exposes transaction-aware caches.
+	 * @return true if caches are decorated with a {@link TransactionAwareCoherenceCache}
+	 * @since 4.3.2
+	 * @see #setTransactionAware(boolean)
+	 */
+	public boolean isTransactionAware() {
+		return this.transactionAware;
+	}
+
+	/**
+	 * Register a callback that is invoked whenever this cache manager creates a new {@link CoherenceCache}, e.g. to bind
+	 * cache metrics of caches that are created on demand. The callback is not invoked for caches created before.
+	 * @param callback the callback, must not be null
+	 * @since 4.3.2
+	 */
+	public void addCacheCreationCallback(Consumer<CoherenceCache> callback) {
+		Assert.notNull(callback, "callback must not be null.");
+		this.cacheCreationCallbacks.add(callback);
+	}
+
+	/**
+	 * Return the {@link CoherenceCacheConfiguration} used for the cache with the specified name. If no configuration
+	 * was registered for the cache, the default cache configuration is returned.
+	 * @param name the name of the Spring cache
+	 * @return the cache configuration, never null
+	 * @since 4.3.2
+	 */
+	public CoherenceCacheConfiguration getCacheConfiguration(String name) {
+		return this.cacheConfigurations.getOrDefault(name, this.defaultCacheConfiguration);
 	}
 
 	/**
@@ -85,4 +164,22 @@ public class CoherenceCacheManager implements CacheManager {
 		return this.coherenceCacheMap.keySet();
 	}
 
+	/**
+	 * Release the local resources of all caches created by this cache manager, e.g. their near caches. The underlying
+	 * {@link NamedCache NamedCaches} are owned by the Coherence session and therefore not released.
+	 * @since 4.3.2
+	 */
+	@Override
+	public void destroy() {
+		for (Cache cache : this.coherenceCacheMap.values()) {
+			if (cache instanceof TransactionAwareCoherenceCache) {
+				((TransactionAwareCoherenceCache) cache).getTargetCache().release();
+			}
+			else if (cache instanceof CoherenceCache) {
+				((CoherenceCache) cache).release();
+			}
+		}
+		this.coherenceCacheMap.clear();
+	}
+
 }
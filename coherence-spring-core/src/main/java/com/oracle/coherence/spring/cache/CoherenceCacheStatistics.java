@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side statistics of a {@link CoherenceCache}. All counters are striped ({@link LongAdder}) and can therefore
+ * be updated from many threads without contention.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCache#getStatistics()
+ */
+public class CoherenceCacheStatistics {
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder puts = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final LongAdder successfulLoads = new LongAdder();
+
+	private final LongAdder failedLoads = new LongAdder();
+
+	private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+	private final LongAdder lockAcquisitions = new LongAdder();
+
+	private final LongAdder totalLockWaitTimeNanos = new LongAdder();
+
+	private final LongAdder lockTimeouts = new LongAdder();
+
+	private final LongAdder leaderLoads = new LongAdder();
+
+	private final LongAdder coalescedLoads = new LongAdder();
+
+	private final LongAdder refreshAheadLoads = new LongAdder();
+
+	private final LongAdder rejectedRefreshAheadLoads = new LongAdder();
+
+	/**
+	 * Return the number of lookups that found a value in the cache.
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a value in the cache.
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Return the number of values stored in the cache, including values stored after being loaded by a value-loader.
+	 * @return the number of cache puts
+	 */
+	public long getPutCount() {
+		return this.puts.sum();
+	}
+
+	/**
+	 * Return the number of explicit evictions of single entries. Entries removed by clearing the cache or by the
+	 * expiry and eviction policies of the underlying cache are not included.
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Return the number of value-loader invocations that completed successfully.
+	 * @return the number of successful loads
+	 */
+	public long getLoadSuccessCount() {
+		return this.successfulLoads.sum();
+	}
+
+	/**
+	 * Return the number of value-loader invocations that failed with an exception.
+	 * @return the number of failed loads
+	 */
+	public long getLoadFailureCount() {
+		return this.failedLoads.sum();
+	}
+
+	/**
+	 * Return the total time spent in value-loader invocations, both successful and failed.
+	 * @return the total load time in nanoseconds
+	 */
+	public long getTotalLoadTimeNanos() {
+		return this.totalLoadTimeNanos.sum();
+	}
+
+	/**
+	 * Return the number of attempts to lock a key or the entire cache before invoking a value-loader.
+	 * @return the number of lock attempts
+	 * @see CoherenceCacheConfiguration#isUseLocks()
+	 */
+	public long getLockAttemptCount() {
+		return this.lockAcquisitions.sum();
+	}
+
+	/**
+	 * Return the total time spent waiting for locks, both successful and timed out.
+	 * @return the total lock wait time in nanoseconds
+	 */
+	public long getTotalLockWaitTimeNanos() {
+		return this.totalLockWaitTimeNanos.sum();
+	}
+
+	/**
+	 * Return the number of lock attempts that did not acquire the lock within the
+	 * {@link CoherenceCacheConfiguration#getLockTimeout() lock timeout}.
+	 * @return the number of lock timeouts
+	 */
+	public long getLockTimeoutCount() {
+		return this.lockTimeouts.sum();
+	}
+
+	/**
+	 * Return the number of value-loader invocations that were executed by this JVM because no other thread was
+	 * loading the value for the same key at that time.
+	 * @return the number of leader loads
+	 */
+	public long getLeaderLoadCount() {
+		return this.leaderLoads.sum();
+	}
+
+	/**
+	 * Return the number of cache misses that did not invoke the value-loader but waited for another thread of this JVM
+	 * that was already loading the value for the same key.
+	 * @return the number of coalesced loads
+	 */
+	public long getCoalescedLoadCount() {
+		return this.coalescedLoads.sum();
+	}
+
+	/**
+	 * Return the number of values that were successfully refreshed ahead of their expiry.
+	 * @return the number of refresh-ahead loads
+	 * @see CoherenceCacheConfiguration#getRefreshAheadFactor()
+	 */
+	public long getRefreshAheadLoadCount() {
+		return this.refreshAheadLoads.sum();
+	}
+
+	/**
+	 * Return the number of refresh-ahead loads that were skipped because the refresh-ahead executor rejected them.
+	 * @return the number of rejected refresh-ahead loads
+	 * @see CoherenceCacheConfiguration#getRefreshAheadExecutor()
+	 */
+	public long getRejectedRefreshAheadLoadCount() {
+		return this.rejectedRefreshAheadLoads.sum();
+	}
+
+	void recordHit() {
+		this.hits.increment();
+	}
+
+	void recordMiss() {
+		this.misses.increment();
+	}
+
+	void recordHits(long count) {
+		this.hits.add(count);
+	}
+
+	void recordMisses(long count) {
+		this.misses.add(count);
+	}
+
+	void recordPuts(long count) {
+		this.puts.add(count);
+	}
+
+	void recordEviction() {
+		this.evictions.increment();
+	}
+
+	void recordEvictions(long count) {
+		this.evictions.add(count);
+	}
+
+	void recordLoad(boolean successful, long loadTimeNanos) {
+		if (successful) {
+			this.successfulLoads.increment();
+		}
+		else {
+			this.failedLoads.increment();
+		}
+		this.totalLoadTimeNanos.add(loadTimeNanos);
+	}
+
+	void recordLockAttempt(boolean acquired, long waitTimeNanos) {
+		this.lockAcquisitions.increment();
+		this.totalLockWaitTimeNanos.add(waitTimeNanos);
+		if (!acquired) {
+			this.lockTimeouts.increment();
+		}
+	}
+
+	void recordLeaderLoad() {
+		this.leaderLoads.increment();
+	}
+
+	void recordCoalescedLoad() {
+		this.coalescedLoads.increment();
+	}
+
+	void recordRefreshAhead() {
+		this.refreshAheadLoads.increment();
+	}
+
+	void recordRejectedRefreshAhead() {
+		this.rejectedRefreshAheadLoads.increment();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.oracle.coherence.spring.annotation.CacheKeyAssociation;
+
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+/**
+ * {@link KeyGenerator} that generates {@link CoherenceCacheKey compact composite keys} for cached methods. As with
+ * Spring's {@link org.springframework.cache.interceptor.SimpleKeyGenerator}, the single parameter of a method is used
+ * as key as is. Methods without parameters use {@link CoherenceCacheKey#EMPTY}, methods with multiple parameters a
+ * {@link CoherenceCacheKey} holding all parameters.
+ * <p>
+ * If a parameter is annotated with {@link CacheKeyAssociation}, a {@link CoherenceCacheKey} associated with the value
+ * of that parameter is generated for any number of parameters, so that related cache entries are stored in the same
+ * partition.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CoherenceKeyGenerator implements KeyGenerator {
+
+	private static final int NO_ASSOCIATION = -1;
+
+	private final Map<Method, Integer> associatedKeyIndexes = new ConcurrentHashMap<>();
+
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		final int associatedKeyIndex = this.associatedKeyIndexes.computeIfAbsent(method,
+				(key) -> findAssociatedKeyIndex(target, method));
+
+		if (associatedKeyIndex != NO_ASSOCIATION) {
+			return new CoherenceCacheKey(params[associatedKeyIndex], params);
+		}
+		if (params.length == 0) {
+			return CoherenceCacheKey.EMPTY;
+		}
+		if (params.length == 1 && params[0] != null && !params[0].getClass().isArray()) {
+			return params[0];
+		}
+		return new CoherenceCacheKey(null, params);
+	}
+
+	// The annotation may be declared on the invoked (e.g. interface) method or on the implementation of the target.
+	private static int findAssociatedKeyIndex(Object target, Method method) {
+		final int associatedKeyIndex = findAnnotatedParameterIndex(method);
+		if (associatedKeyIndex != NO_ASSOCIATION || target == null) {
+			return associatedKeyIndex;
+		}
+		return findAnnotatedParameterIndex(
+				AopUtils.getMostSpecificMethod(method, AopProxyUtils.ultimateTargetClass(target)));
+	}
+
+	private static int findAnnotatedParameterIndex(Method method) {
+		final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+		for (int i = 0; i < parameterAnnotations.length; i++) {
+			for (Annotation annotation : parameterAnnotations[i]) {
+				if (annotation instanceof CacheKeyAssociation) {
+					return i;
+				}
+			}
+		}
+		return NO_ASSOCIATION;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+/**
+ * Sentinel that is stored in a cache in place of a {@code null} value, if
+ * {@link CoherenceCacheConfiguration#isAllowNullValues() null values are allowed}. The sentinel has no state, so its
+ * serialized form is minimal. All instances are equal, as deserialization via POF creates new instances.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCacheConfiguration#getNullValueTimeToLive()
+ */
+public final class CoherenceNullValue implements PortableObject, Serializable {
+
+	/**
+	 * The shared instance that is stored in caches.
+	 */
+	public static final CoherenceNullValue INSTANCE = new CoherenceNullValue();
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Default constructor required for serialization. Use {@link #INSTANCE} instead.
+	 */
+	public CoherenceNullValue() {
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+	}
+
+	private Object readResolve() {
+		return INSTANCE;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return this == other || other instanceof CoherenceNullValue;
+	}
+
+	@Override
+	public int hashCode() {
+		return CoherenceNullValue.class.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "CoherenceNullValue";
+	}
+}
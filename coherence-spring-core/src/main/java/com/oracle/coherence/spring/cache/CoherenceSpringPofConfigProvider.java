@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import com.tangosol.io.pof.PofConfigProvider;
+
+/**
+ * A {@link PofConfigProvider} that adds the POF types of the Spring cache support, e.g. the entry processors used by
+ * {@link CoherenceCache}, to every POF configuration. It is discovered by Coherence using the
+ * {@link java.util.ServiceLoader}. The type ids 18000 to 18099 are reserved for Coherence Spring.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CoherenceSpringPofConfigProvider implements PofConfigProvider {
+
+	/**
+	 * The URI of the POF configuration holding the POF types of Coherence Spring.
+	 */
+	public static final String CONFIG_URI = "coherence-spring-pof-config.xml";
+
+	@Override
+	public String getConfigURI() {
+		return CONFIG_URI;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that atomically removes an entry if it holds a value. The processor
+ * returns {@link Boolean#TRUE} if a value was removed.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCache#evictIfPresent(Object)
+ */
+public class EvictIfPresentProcessor extends AbstractProcessor<Object, Object, Boolean>
+		implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The singleton instance of the EvictIfPresentProcessor.
+	 */
+	public static final EvictIfPresentProcessor INSTANCE = new EvictIfPresentProcessor();
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public EvictIfPresentProcessor() {
+	}
+
+	@Override
+	public Boolean process(InvocableMap.Entry<Object, Object> entry) {
+		if (!entry.isPresent()) {
+			return Boolean.FALSE;
+		}
+		entry.remove(false);
+		return Boolean.TRUE;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+/**
+ * Marker that is stored in the lease cache of a {@link CoherenceCache} while a value for the respective key is being
+ * loaded by a cluster member. Leases are never stored in the cache holding the values. The lease is owned by a single {@link CoherenceCache#get(Object, java.util.concurrent.Callable) value-loader}
+ * invocation and expires after the configured {@link CoherenceCacheConfiguration#getLoadingLeaseDuration()}, so that
+ * other members may take over if the owner fails to install a value.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see AcquireLoadingLeaseProcessor
+ * @see ReleaseLoadingLeaseProcessor
+ */
+public class LoadingLease implements PortableObject, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String owner;
+
+	private long expiryMillis;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public LoadingLease() {
+	}
+
+	/**
+	 * Create a new LoadingLease.
+	 * @param owner the unique identifier of the lease owner
+	 * @param expiryMillis the time in milliseconds at which the lease expires
+	 */
+	public LoadingLease(String owner, long expiryMillis) {
+		this.owner = owner;
+		this.expiryMillis = expiryMillis;
+	}
+
+	/**
+	 * Return the unique identifier of the lease owner.
+	 * @return the lease owner
+	 */
+	public String getOwner() {
+		return this.owner;
+	}
+
+	/**
+	 * Return the time in milliseconds at which the lease expires.
+	 * @return the expiry time in milliseconds
+	 */
+	public long getExpiryMillis() {
+		return this.expiryMillis;
+	}
+
+	/**
+	 * Return whether the lease is owned by the specified owner.
+	 * @param owner the owner to check
+	 * @return true if the lease is owned by the specified owner
+	 */
+	public boolean isOwnedBy(String owner) {
+		return Objects.equals(this.owner, owner);
+	}
+
+	/**
+	 * Return whether the lease has expired at the specified point in time.
+	 * @param currentTimeMillis the current time in milliseconds
+	 * @return true if the lease has expired
+	 */
+	public boolean isExpired(long currentTimeMillis) {
+		return currentTimeMillis >= this.expiryMillis;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.owner = pofReader.readString(0);
+		this.expiryMillis = pofReader.readLong(1);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeString(0, this.owner);
+		pofWriter.writeLong(1, this.expiryMillis);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (other == null || getClass() != other.getClass()) {
+			return false;
+		}
+		final LoadingLease that = (LoadingLease) other;
+		return this.expiryMillis == that.expiryMillis && Objects.equals(this.owner, that.owner);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.owner, this.expiryMillis);
+	}
+
+	@Override
+	public String toString() {
+		return "LoadingLease{owner='" + this.owner + "', expiryMillis=" + this.expiryMillis + '}';
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+/**
+ * Defines how the size of the local front tier of a {@link CoherenceCache} is calculated.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCacheConfiguration#getNearCacheUnitCalculator()
+ */
+public enum NearCacheUnitCalculator {
+
+	/**
+	 * Each cache entry accounts for a single unit. The high-units of the front tier are therefore the maximum number
+	 * of entries.
+	 */
+	FIXED,
+
+	/**
+	 * Each cache entry accounts for its estimated memory footprint in bytes, see
+	 * {@link com.tangosol.net.cache.SimpleMemoryCalculator}. The high-units of the front tier are therefore the maximum
+	 * number of bytes.
+	 */
+	MEMORY
+}
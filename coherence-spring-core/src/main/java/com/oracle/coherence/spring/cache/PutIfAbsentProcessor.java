@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that atomically stores a value using the specified time-to-live,
+ * unless the entry already holds a value. The processor returns the existing value or {@code null} if the provided
+ * value was stored.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCache#putIfAbsent(Object, Object)
+ * @see CoherenceCache#get(Object, java.util.concurrent.Callable)
+ */
+public class PutIfAbsentProcessor extends AbstractProcessor<Object, Object, Object>
+		implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private Object value;
+
+	private long timeToLiveMillis;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public PutIfAbsentProcessor() {
+	}
+
+	/**
+	 * Create a new PutIfAbsentProcessor.
+	 * @param value the value to store, must not be null
+	 * @param timeToLiveMillis the expiration time of the value in milliseconds, see
+	 * {@link com.tangosol.net.NamedCache#put(Object, Object, long)}
+	 */
+	public PutIfAbsentProcessor(Object value, long timeToLiveMillis) {
+		this.value = value;
+		this.timeToLiveMillis = timeToLiveMillis;
+	}
+
+	@Override
+	public Object process(InvocableMap.Entry<Object, Object> entry) {
+		final Object currentValue = entry.getValue();
+
+		if (currentValue != null) {
+			return currentValue;
+		}
+
+		entry.setValue(this.value);
+		if (entry instanceof BinaryEntry) {
+			((BinaryEntry<Object, Object>) entry).expire(this.timeToLiveMillis);
+		}
+		return null;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.value = pofReader.readObject(0);
+		this.timeToLiveMillis = pofReader.readLong(1);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeObject(0, this.value);
+		pofWriter.writeLong(1, this.timeToLiveMillis);
+	}
+}
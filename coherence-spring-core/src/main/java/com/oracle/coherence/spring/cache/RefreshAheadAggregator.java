@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+/**
+ * Read-only Coherence {@link InvocableMap.StreamingAggregator} that returns the value of a single entry and whether
+ * the value is due for a refresh ahead of its expiry, using the same rules as the {@link RefreshAheadProcessor}. In
+ * contrast to the entry processor, the aggregator neither locks the entry nor modifies it, so that reads of values
+ * that are not due for refresh cause no contention and no backup traffic.
+ * <p>
+ * The aggregator returns {@code null} if the entry is absent, the plain value if no refresh is due, or a
+ * {@link RefreshAheadValue} if the value is due for refresh. In the latter case, the refresh must still be claimed
+ * using the {@link RefreshAheadProcessor}, so that only a single caller refreshes the value.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCacheConfiguration#getRefreshAheadFactor()
+ */
+public class RefreshAheadAggregator
+		implements InvocableMap.StreamingAggregator<Object, Object, Object, Object>, PortableObject, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private long refreshThresholdMillis;
+
+	private transient Object result;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public RefreshAheadAggregator() {
+	}
+
+	/**
+	 * Create a new RefreshAheadAggregator.
+	 * @param refreshThresholdMillis the remaining time-to-live in milliseconds at which a refresh is due
+	 */
+	public RefreshAheadAggregator(long refreshThresholdMillis) {
+		this.refreshThresholdMillis = refreshThresholdMillis;
+	}
+
+	@Override
+	public InvocableMap.StreamingAggregator<Object, Object, Object, Object> supply() {
+		return new RefreshAheadAggregator(this.refreshThresholdMillis);
+	}
+
+	@Override
+	public boolean accumulate(InvocableMap.Entry<?, ?> entry) {
+		final Object value = entry.getValue();
+
+		if (value == null || value instanceof CoherenceNullValue || !(entry instanceof BinaryEntry)) {
+			this.result = value;
+			return true;
+		}
+
+		final long remainingMillis = ((BinaryEntry<?, ?>) entry).getExpiry();
+		this.result = (remainingMillis > 0 && remainingMillis <= this.refreshThresholdMillis)
+				? new RefreshAheadValue(value) : value;
+		return true;
+	}
+
+	@Override
+	public boolean combine(Object partialResult) {
+		if (partialResult != null) {
+			this.result = partialResult;
+		}
+		return true;
+	}
+
+	@Override
+	public Object getPartialResult() {
+		return this.result;
+	}
+
+	@Override
+	public Object finalizeResult() {
+		return this.result;
+	}
+
+	@Override
+	public int characteristics() {
+		return PARALLEL | PRESENT_ONLY;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.refreshThresholdMillis = pofReader.readLong(0);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeLong(0, this.refreshThresholdMillis);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that returns the value of an entry and decides whether the value
+ * shall be refreshed ahead of its expiry. A refresh is due once the remaining time-to-live of the entry drops to the
+ * specified threshold. In that case the processor extends the expiry of the entry beyond the threshold by the
+ * specified refresh lease, so that the value keeps being served while it is refreshed and no other caller triggers a
+ * refresh of the same entry within that period.
+ * <p>
+ * The processor returns {@code null} if the entry is absent, the plain value if no refresh is due, or a
+ * {@link RefreshAheadValue} if the caller shall refresh the value. Cached {@link CoherenceNullValue null values} are
+ * never refreshed but expire.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCacheConfiguration#getRefreshAheadFactor()
+ */
+public class RefreshAheadProcessor extends AbstractProcessor<Object, Object, Object>
+		implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private long refreshThresholdMillis;
+
+	private long refreshLeaseMillis;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public RefreshAheadProcessor() {
+	}
+
+	/**
+	 * Create a new RefreshAheadProcessor.
+	 * @param refreshThresholdMillis the remaining time-to-live in milliseconds at which a refresh is due
+	 * @param refreshLeaseMillis the time in milliseconds the caller has to refresh the value
+	 */
+	public RefreshAheadProcessor(long refreshThresholdMillis, long refreshLeaseMillis) {
+		this.refreshThresholdMillis = refreshThresholdMillis;
+		this.refreshLeaseMillis = refreshLeaseMillis;
+	}
+
+	@Override
+	public Object process(InvocableMap.Entry<Object, Object> entry) {
+		final Object value = entry.getValue();
+
+		if (value == null || value instanceof CoherenceNullValue || !(entry instanceof BinaryEntry)) {
+			return value;
+		}
+
+		final BinaryEntry<Object, Object> binaryEntry = (BinaryEntry<Object, Object>) entry;
+		final long remainingMillis = binaryEntry.getExpiry();
+
+		if (remainingMillis <= 0 || remainingMillis > this.refreshThresholdMillis) {
+			return value;
+		}
+
+		binaryEntry.updateBinaryValue(binaryEntry.getBinaryValue(), true);
+		binaryEntry.expire(this.refreshThresholdMillis + this.refreshLeaseMillis);
+		return new RefreshAheadValue(value);
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.refreshThresholdMillis = pofReader.readLong(0);
+		this.refreshLeaseMillis = pofReader.readLong(1);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeLong(0, this.refreshThresholdMillis);
+		pofWriter.writeLong(1, this.refreshLeaseMillis);
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+/**
+ * Result of the {@link RefreshAheadProcessor} indicating that the contained, still valid, value shall be refreshed
+ * by the caller.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class RefreshAheadValue implements PortableObject, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Object value;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public RefreshAheadValue() {
+	}
+
+	/**
+	 * Create a new RefreshAheadValue.
+	 * @param value the current value of the entry
+	 */
+	public RefreshAheadValue(Object value) {
+		this.value = value;
+	}
+
+	/**
+	 * Return the current value of the entry.
+	 * @return the current value
+	 */
+	public Object getValue() {
+		return this.value;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.value = pofReader.readObject(0);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeObject(0, this.value);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.io.IOException;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * Coherence {@link InvocableMap.EntryProcessor} that releases a {@link LoadingLease} acquired by
+ * {@link AcquireLoadingLeaseProcessor}, once the loaded value was installed or the value-loader failed. A lease that
+ * was taken over by another caller after it had expired is left in place. The processor returns {@link Boolean#TRUE}
+ * if the lease was released.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCache#get(Object, java.util.concurrent.Callable)
+ */
+public class ReleaseLoadingLeaseProcessor extends AbstractProcessor<Object, Object, Boolean>
+		implements PortableObject {
+
+	private static final long serialVersionUID = 1L;
+
+	private String owner;
+
+	/**
+	 * Default constructor required for serialization.
+	 */
+	public ReleaseLoadingLeaseProcessor() {
+	}
+
+	/**
+	 * Create a new ReleaseLoadingLeaseProcessor.
+	 * @param owner the unique identifier of the lease owner
+	 */
+	public ReleaseLoadingLeaseProcessor(String owner) {
+		this.owner = owner;
+	}
+
+	@Override
+	public Boolean process(InvocableMap.Entry<Object, Object> entry) {
+		final Object currentLease = entry.getValue();
+
+		if (currentLease instanceof LoadingLease && ((LoadingLease) currentLease).isOwnedBy(this.owner)) {
+			entry.remove(false);
+			return Boolean.TRUE;
+		}
+		return Boolean.FALSE;
+	}
+
+	@Override
+	public void readExternal(PofReader pofReader) throws IOException {
+		this.owner = pofReader.readString(0);
+	}
+
+	@Override
+	public void writeExternal(PofWriter pofWriter) throws IOException {
+		pofWriter.writeString(0, this.owner);
+	}
+}
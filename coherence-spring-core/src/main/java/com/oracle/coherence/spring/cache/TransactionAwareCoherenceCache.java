@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Cache decorator which buffers {@link #put(Object, Object)}, {@link #evict(Object)} and {@link #clear()} operations
+ * of a {@link CoherenceCache} that are executed within a Spring-managed transaction. After a successful commit, the
+ * buffered operations are applied using a single bulk put and a single bulk removal per cache. If the transaction is
+ * rolled back, the buffered operations are discarded. Outside of transactions, all operations are delegated to the
+ * target cache immediately.
+ * <p>
+ * As with Spring's {@code TransactionAwareCacheDecorator}, lookups are not aware of buffered operations, and
+ * {@link #putIfAbsent(Object, Object)}, {@link #evictIfPresent(Object)} as well as {@link #invalidate()} are executed
+ * immediately. The latter two discard buffered operations they would otherwise be overridden by.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CoherenceCacheManager#setTransactionAware(boolean)
+ */
+public class TransactionAwareCoherenceCache implements Cache {
+
+	private static final Object EVICTION = new Object();
+
+	private final CoherenceCache targetCache;
+
+	/**
+	 * Create a new TransactionAwareCoherenceCache for the given target cache.
+	 * @param targetCache the target cache, must not be null
+	 */
+	public TransactionAwareCoherenceCache(CoherenceCache targetCache) {
+		Assert.notNull(targetCache, "targetCache must not be null.");
+		this.targetCache = targetCache;
+	}
+
+	/**
+	 * Return the target cache that this decorator delegates to.
+	 * @return the target cache
+	 */
+	public CoherenceCache getTargetCache() {
+		return this.targetCache;
+	}
+
+	@Override
+	public String getName() {
+		return this.targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this.targetCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		return this.targetCache.get(key);
+	}
+
+	@Override
+	public <T> T get(Object key, Class<T> type) {
+		return this.targetCache.get(key, type);
+	}
+
+	@Override
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return this.targetCache.get(key, valueLoader);
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(Object key) {
+		return this.targetCache.retrieve(key);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return this.targetCache.retrieve(key, valueLoader);
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			if (value != null || this.targetCache.getCacheConfiguration().isAllowNullValues()) {
+				getPendingOperations().operations.put(key, value);
+			}
+		}
+		else {
+			this.targetCache.put(key, value);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		return this.targetCache.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void evict(Object key) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			getPendingOperations().operations.put(key, EVICTION);
+		}
+		else {
+			this.targetCache.evict(key);
+		}
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			getPendingOperations().operations.remove(key);
+		}
+		return this.targetCache.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			final PendingOperations pendingOperations = getPendingOperations();
+			pendingOperations.operations.clear();
+			pendingOperations.clear = true;
+		}
+		else {
+			this.targetCache.clear();
+		}
+	}
+
+	@Override
+	public boolean invalidate() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			final PendingOperations pendingOperations = getPendingOperations();
+			pendingOperations.operations.clear();
+			pendingOperations.clear = false;
+		}
+		return this.targetCache.invalidate();
+	}
+
+	// Returns the operations buffered for the current transaction, registering a synchronization on first use.
+	private PendingOperations getPendingOperations() {
+		PendingOperations pendingOperations = (PendingOperations) TransactionSynchronizationManager.getResource(this);
+		if (pendingOperations == null) {
+			pendingOperations = new PendingOperations();
+			TransactionSynchronizationManager.bindResource(this, pendingOperations);
+			TransactionSynchronizationManager.registerSynchronization(pendingOperations);
+		}
+		return pendingOperations;
+	}
+
+	/**
+	 * Operations buffered for a single transaction, applied to the target cache after commit.
+	 */
+	private final class PendingOperations implements TransactionSynchronization {
+
+		private final Map<Object, Object> operations = new LinkedHashMap<>();
+
+		private boolean clear;
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(TransactionAwareCoherenceCache.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(TransactionAwareCoherenceCache.this, this);
+		}
+
+		@Override
+		public void afterCommit() {
+			final Map<Object, Object> puts = new HashMap<>();
+			final List<Object> evictions = new ArrayList<>();
+			this.operations.forEach((key, value) -> {
+				if (value == EVICTION) {
+					evictions.add(key);
+				}
+				else {
+					puts.put(key, value);
+				}
+			});
+
+			if (this.clear) {
+				TransactionAwareCoherenceCache.this.targetCache.clear();
+			}
+			TransactionAwareCoherenceCache.this.targetCache.putAll(puts);
+			TransactionAwareCoherenceCache.this.targetCache.evictAll(evictions);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(TransactionAwareCoherenceCache.this);
+		}
+	}
+}
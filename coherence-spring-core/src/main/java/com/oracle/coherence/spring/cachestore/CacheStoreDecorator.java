@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import com.tangosol.net.cache.CacheLoader;
+import com.tangosol.net.cache.CacheStore;
+
+/**
+ * Strategy interface for decorating the {@link CacheLoader} and {@link CacheStore} beans
+ * that are referenced from a Coherence cache configuration file, e.g. to instrument them.
+ * All beans of this type are applied, in order, by the Spring namespace handlers
+ * whenever a {@link CacheLoader} bean is realized for a cache.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CacheStoreDecorators
+ */
+@FunctionalInterface
+public interface CacheStoreDecorator {
+
+	/**
+	 * Decorate the given {@link CacheLoader} used by the given cache. If the given
+	 * {@link CacheLoader} is a {@link CacheStore}, the returned instance must be a
+	 * {@link CacheStore} as well.
+	 * @param cacheLoader the cache loader or cache store to decorate
+	 * @param cacheName the name of the cache the cache loader is used for
+	 * @return the decorated cache loader or the given cache loader
+	 */
+	CacheLoader<?, ?> decorate(CacheLoader<?, ?> cacheLoader, String cacheName);
+
+}
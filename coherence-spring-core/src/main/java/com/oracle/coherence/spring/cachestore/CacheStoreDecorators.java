@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.Iterator;
+
+import com.tangosol.config.expression.Parameter;
+import com.tangosol.config.expression.ParameterResolver;
+import com.tangosol.net.cache.CacheLoader;
+import com.tangosol.net.cache.CacheStore;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Applies the {@link CacheStoreDecorator} beans of a {@link BeanFactory} to the beans
+ * realized from a Coherence cache configuration file.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public final class CacheStoreDecorators {
+
+	/**
+	 * The name of the cache configuration parameter holding the name of the cache.
+	 */
+	public static final String CACHE_NAME_PARAMETER = "cache-name";
+
+	private CacheStoreDecorators() {
+	}
+
+	/**
+	 * Apply the {@link CacheStoreDecorator} beans of the given {@link BeanFactory} to the
+	 * given bean, if it is a {@link CacheLoader}. Other beans are returned as is.
+	 * @param bean the bean realized from the cache configuration
+	 * @param beanName the name of the bean, used as cache name if the cache name cannot be
+	 * resolved
+	 * @param beanFactory the bean factory providing the decorators
+	 * @param resolver the resolver of the cache configuration parameters
+	 * @return the decorated bean or the given bean
+	 */
+	public static Object decorate(Object bean, String beanName, BeanFactory beanFactory, ParameterResolver resolver) {
+		if (!(bean instanceof CacheLoader)) {
+			return bean;
+		}
+		final Iterator<CacheStoreDecorator> decorators = beanFactory.getBeanProvider(CacheStoreDecorator.class)
+			.orderedStream()
+			.iterator();
+		if (!decorators.hasNext()) {
+			return bean;
+		}
+
+		final String cacheName = getCacheName(resolver, beanName);
+		CacheLoader<?, ?> cacheLoader = (CacheLoader<?, ?>) bean;
+		while (decorators.hasNext()) {
+			final CacheStoreDecorator decorator = decorators.next();
+			final CacheLoader<?, ?> decorated = decorator.decorate(cacheLoader, cacheName);
+			Assert.state(decorated != null, () -> decorator + " returned null for cache " + cacheName);
+			Assert.state(!(cacheLoader instanceof CacheStore) || decorated instanceof CacheStore,
+					() -> decorator + " did not return a CacheStore for cache " + cacheName);
+			cacheLoader = decorated;
+		}
+		return cacheLoader;
+	}
+
+	// resolves the {cache-name} parameter, falling back to the given default name
+	private static String getCacheName(ParameterResolver resolver, String defaultName) {
+		final Parameter parameter = (resolver != null) ? resolver.resolve(CACHE_NAME_PARAMETER) : null;
+		if (parameter != null) {
+			final Object cacheName = parameter.evaluate(resolver).get();
+			if (cacheName != null) {
+				return cacheName.toString();
+			}
+		}
+		return defaultName;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+/**
+ * The operations of a Coherence {@link com.tangosol.net.cache.CacheStore}.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ * @see CacheStoreDecorator
+ */
+public enum CacheStoreOperation {
+
+	/**
+	 * {@link com.tangosol.net.cache.CacheLoader#load(Object)}.
+	 */
+	LOAD("load"),
+
+	/**
+	 * {@link com.tangosol.net.cache.CacheLoader#loadAll(java.util.Collection)}.
+	 */
+	LOAD_ALL("loadAll"),
+
+	/**
+	 * {@link com.tangosol.net.cache.CacheStore#store(Object, Object)}.
+	 */
+	STORE("store"),
+
+	/**
+	 * {@link com.tangosol.net.cache.CacheStore#storeAll(java.util.Map)}.
+	 */
+	STORE_ALL("storeAll"),
+
+	/**
+	 * {@link com.tangosol.net.cache.CacheStore#erase(Object)}.
+	 */
+	ERASE("erase"),
+
+	/**
+	 * {@link com.tangosol.net.cache.CacheStore#eraseAll(java.util.Collection)}.
+	 */
+	ERASE_ALL("eraseAll");
+
+	private final String methodName;
+
+	CacheStoreOperation(String methodName) {
+		this.methodName = methodName;
+	}
+
+	/**
+	 * Returns the name of the cache store method of this operation.
+	 * @return the method name, e.g. {@code storeAll}
+	 */
+	public String getMethodName() {
+		return this.methodName;
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import com.oracle.coherence.spring.CoherenceContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Internal helper methods shared by the cache loaders and cache stores.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+final class CacheStoreSupport {
+
+	/**
+	 * The {@link PersistenceUnitUtil} of each {@link ApplicationContext}, weakly
+	 * referenced so that closed contexts can be garbage collected.
+	 */
+	private static final Map<ApplicationContext, PersistenceUnitUtil> PERSISTENCE_UNIT_UTILS =
+			new ConcurrentReferenceHashMap<>(4, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	private CacheStoreSupport() {
+	}
+
+	/**
+	 * Returns the {@link PersistenceUnitUtil} of the {@link EntityManager} of the current
+	 * {@link CoherenceContext#getApplicationContext() application context}. The
+	 * {@link PersistenceUnitUtil} is looked up once per application context and cached.
+	 * @return the {@link PersistenceUnitUtil}, never {@code null}
+	 */
+	static PersistenceUnitUtil getPersistenceUnitUtil() {
+		final ApplicationContext applicationContext = CoherenceContext.getApplicationContext();
+		Assert.state(applicationContext != null, "The CoherenceContext has not been initialized");
+		return PERSISTENCE_UNIT_UTILS.computeIfAbsent(applicationContext, (ctx) -> ctx.getBean(EntityManager.class)
+				.getEntityManagerFactory()
+				.getPersistenceUnitUtil());
+	}
+
+	/**
+	 * Split the given elements into consecutive chunks of at most the given size.
+	 * @param elements the elements to split
+	 * @param chunkSize the maximum number of elements per chunk, values smaller than
+	 * {@code 1} are treated as {@code 1}
+	 * @param <E> the type of the elements
+	 * @return the chunks, empty if there are no elements
+	 */
+	static <E> List<List<E>> partition(Collection<? extends E> elements, int chunkSize) {
+		final int size = Math.max(1, chunkSize);
+		final List<List<E>> chunks = new ArrayList<>((elements.size() + size - 1) / size);
+		List<E> chunk = null;
+		for (E element : elements) {
+			if (chunk == null || chunk.size() == size) {
+				chunk = new ArrayList<>(Math.min(size, elements.size() - chunks.size() * size));
+				chunks.add(chunk);
+			}
+			chunk.add(element);
+		}
+		return chunks;
+	}
+
+	/**
+	 * Remove the processed keys from the collection of keys passed to a bulk operation, so
+	 * that only the remaining keys are retried if the operation fails subsequently.
+	 * @param keys the keys passed to the bulk operation
+	 * @param processed the keys that have been processed
+	 * @return {@code false} if the collection does not support removal, in which case
+	 * further removals should be skipped
+	 */
+	static boolean removeAll(Collection<?> keys, Collection<?> processed) {
+		try {
+			keys.removeAll(new HashSet<>(processed));
+			return true;
+		}
+		catch (UnsupportedOperationException ex) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tangosol.net.cache.CacheStore;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.Assert;
+
+/**
+ * A Coherence {@link CacheStore} that delegates to any Spring Data {@link CrudRepository}
+ * (including {@link org.springframework.data.repository.ListCrudRepository}), e.g. a
+ * Spring Data JDBC or MongoDB repository.
+ * <p>
+ * The bulk operations are mapped onto the bulk methods of the repository and executed in
+ * batches of {@link #getBatchSize()} entries: {@link #loadAll(Collection)} uses
+ * {@link CrudRepository#findAllById(Iterable)}, {@link #storeAll(Map)} uses
+ * {@link CrudRepository#saveAll(Iterable)} and {@link #eraseAll(Collection)} uses
+ * {@link CrudRepository#deleteAllById(Iterable)}. The cache keys of loaded entities are
+ * obtained from the {@link EntityInformation} of the repository. As each batch is
+ * executed by its own repository invocation, the entries of a batch are removed from the
+ * map or collection passed by Coherence once the batch has completed, so that only the
+ * remaining entries are retried if a subsequent batch fails.
+ * <p>
+ * The cache store does not record any statistics itself. Like any other cache store
+ * referenced from the cache configuration, it can be instrumented by a
+ * {@link CacheStoreDecorator}, e.g. the Micrometer metrics of the Spring Boot support.
+ *
+ * @param <T> the domain type the repository manages and the type of values in the cache
+ * @param <ID> the type of the id of the entity the repository manages and the type of the
+ * cache key
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class CrudRepositoryCacheStore<T, ID> implements CacheStore<ID, T> {
+
+	/**
+	 * The default number of entries loaded, stored or erased per batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private final CrudRepository<T, ID> repository;
+
+	private final EntityInformation<T, ID> entityInformation;
+
+	/**
+	 * see {@link #getBatchSize()}.
+	 */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Create a new {@link CrudRepositoryCacheStore}.
+	 * @param repository the repository to delegate to
+	 * @param entityInformation the {@link EntityInformation} used to obtain the id, and
+	 * therefore the cache key, of an entity
+	 */
+	public CrudRepositoryCacheStore(CrudRepository<T, ID> repository, EntityInformation<T, ID> entityInformation) {
+		Assert.notNull(repository, "repository must not be null");
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		this.repository = repository;
+		this.entityInformation = entityInformation;
+	}
+
+	/**
+	 * Create a new {@link CrudRepositoryCacheStore} for the repository of the given domain
+	 * type.
+	 * @param repositories the {@link Repositories} of the application context
+	 * @param domainType the domain type whose repository to delegate to
+	 * @throws IllegalArgumentException if there is no {@link CrudRepository} for the given
+	 * domain type
+	 */
+	@SuppressWarnings("unchecked")
+	public CrudRepositoryCacheStore(Repositories repositories, Class<T> domainType) {
+		this((CrudRepository<T, ID>) repositories.getRepositoryFor(domainType)
+			.filter(CrudRepository.class::isInstance)
+			.orElseThrow(() -> new IllegalArgumentException("No CrudRepository found for " + domainType.getName())),
+				repositories.getEntityInformationFor(domainType));
+	}
+
+	/**
+	 * Returns the maximum number of entries that are loaded, stored or erased per batch.
+	 * @return the batch size, defaults to {@link #DEFAULT_BATCH_SIZE}
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum number of entries that are loaded, stored or erased per batch. As
+	 * many Spring Data modules load and erase a batch using a single {@code in} clause,
+	 * the value should not exceed the maximum number of {@code in} list elements supported
+	 * by the database.
+	 * @param batchSize the batch size, must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public T load(ID key) {
+		return this.repository.findById(key).orElse(null);
+	}
+
+	@Override
+	public Map<ID, T> loadAll(Collection<? extends ID> colKeys) {
+		final Map<ID, T> result = new HashMap<>();
+		for (List<ID> chunk : CacheStoreSupport.<ID>partition(colKeys, this.batchSize)) {
+			this.repository.findAllById(chunk).forEach((v) -> result.put(this.entityInformation.getId(v), v));
+		}
+		return result;
+	}
+
+	@Override
+	public void store(ID key, T value) {
+		this.repository.save(value);
+	}
+
+	@Override
+	public void storeAll(Map<? extends ID, ? extends T> mapEntries) {
+		boolean remove = true;
+		for (List<ID> chunk : CacheStoreSupport.<ID>partition(mapEntries.keySet(), this.batchSize)) {
+			final List<T> values = new ArrayList<>(chunk.size());
+			chunk.forEach((key) -> values.add(mapEntries.get(key)));
+			this.repository.saveAll(values);
+			if (remove) {
+				remove = CacheStoreSupport.removeAll(mapEntries.keySet(), chunk);
+			}
+		}
+	}
+
+	@Override
+	public void erase(ID key) {
+		this.repository.deleteById(key);
+	}
+
+	@Override
+	public void eraseAll(Collection<? extends ID> colKeys) {
+		boolean remove = true;
+		for (List<ID> chunk : CacheStoreSupport.<ID>partition(colKeys, this.batchSize)) {
+			this.repository.deleteAllById(chunk);
+			if (remove) {
+				remove = CacheStoreSupport.removeAll(colKeys, chunk);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CrudRepositoryCacheStore{" + "domainType=" + this.entityInformation.getJavaType().getName()
+				+ ", batchSize=" + this.batchSize + '}';
+	}
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.sql.Statement;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import com.tangosol.net.cache.CacheStore;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A Coherence {@link CacheStore} that uses Spring's {@link NamedParameterJdbcOperations}
+ * to load, store and erase the cache entries in a single database table, without the
+ * overhead of a JPA persistence context.
+ * <p>
+ * Each cache entry is stored as one row of the table, identified by the key column.
+ * Loaded rows are projected onto cache values using the provided {@link RowMapper}.
+ * When storing, the named parameters of the statements are named after the columns and
+ * are, by default, obtained from the bean properties of the cache value, e.g. the
+ * {@code first_name} column is populated from the {@code firstName} property. A custom
+ * mapping may be provided using {@link #setParameterMapper(BiFunction)}.
+ * <p>
+ * The bulk operations are executed in batches of {@link #getBatchSize()} entries:
+ * {@link #loadAll(Collection)} uses one {@code in} query per batch, whereas
+ * {@link #storeAll(Map)} and {@link #eraseAll(Collection)} use one JDBC batch update per
+ * batch. Stores use the upsert statement of the configured {@link JdbcUpsertDialect}. If
+ * no dialect is configured, each batch is first executed as an update and the rows that
+ * did not exist are inserted afterwards. Rows for which the JDBC driver reports
+ * {@link Statement#SUCCESS_NO_INFO} are updated again one at a time to find out whether
+ * they exist.
+ * <p>
+ * The table and column names are included in the generated SQL as is and must therefore
+ * not be derived from untrusted input.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cache values
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class JdbcCacheStore<K, V> implements CacheStore<K, V> {
+
+	/**
+	 * The default number of entries loaded, stored or erased per batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * The name of the parameter holding the keys of the {@code in} clause of
+	 * {@link #loadAll(Collection)}.
+	 */
+	private static final String KEYS_PARAMETER = "keys";
+
+	private final NamedParameterJdbcOperations jdbcOperations;
+
+	private final String tableName;
+
+	private final String keyColumn;
+
+	private final List<String> valueColumns;
+
+	private final RowMapper<V> rowMapper;
+
+	private final String selectSql;
+
+	private final String selectAllSql;
+
+	private final String insertSql;
+
+	private final String updateSql;
+
+	private final String deleteSql;
+
+	/**
+	 * see {@link #getKeyMapper()}.
+	 */
+	private RowMapper<K> keyMapper;
+
+	/**
+	 * see {@link #getParameterMapper()}.
+	 */
+	private BiFunction<? super K, ? super V, SqlParameterSource> parameterMapper;
+
+	/**
+	 * see {@link #getDialect()}.
+	 */
+	private JdbcUpsertDialect dialect;
+
+	/**
+	 * The upsert statement of the configured dialect or {@code null}.
+	 */
+	private String upsertSql;
+
+	/**
+	 * see {@link #getBatchSize()}.
+	 */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Create a new {@link JdbcCacheStore}.
+	 * @param jdbcOperations the {@link NamedParameterJdbcOperations} used to access the
+	 * database
+	 * @param tableName the name of the table holding the cache entries
+	 * @param keyColumn the name of the primary key column, holding the cache keys
+	 * @param valueColumns the names of the columns holding the cache values, must not be
+	 * empty
+	 * @param rowMapper the {@link RowMapper} projecting the selected rows onto the cache
+	 * values
+	 */
+	@SuppressWarnings("unchecked")
+	public JdbcCacheStore(NamedParameterJdbcOperations jdbcOperations, String tableName, String keyColumn,
+			List<String> valueColumns, RowMapper<V> rowMapper) {
+		Assert.notNull(jdbcOperations, "jdbcOperations must not be null");
+		Assert.hasText(tableName, "tableName must not be null or empty");
+		Assert.hasText(keyColumn, "keyColumn must not be null or empty");
+		Assert.notEmpty(valueColumns, "valueColumns must not be null or empty");
+		Assert.notNull(rowMapper, "rowMapper must not be null");
+		this.jdbcOperations = jdbcOperations;
+		this.tableName = tableName;
+		this.keyColumn = keyColumn;
+		this.valueColumns = Collections.unmodifiableList(new ArrayList<>(valueColumns));
+		this.rowMapper = rowMapper;
+		this.keyMapper = (rs, rowNum) -> (K) rs.getObject(keyColumn);
+		this.parameterMapper = this::createParameterSource;
+
+		final String columns = keyColumn + ", " + String.join(", ", this.valueColumns);
+		this.selectSql = "SELECT " + columns + " FROM " + tableName + " WHERE " + keyColumn + " = :" + keyColumn;
+		this.selectAllSql = "SELECT " + columns + " FROM " + tableName + " WHERE " + keyColumn + " IN (:"
+				+ KEYS_PARAMETER + ")";
+		this.insertSql = "INSERT INTO " + tableName + " (" + columns + ") VALUES (:" + keyColumn
+				+ this.valueColumns.stream().map((c) -> ", :" + c).collect(Collectors.joining()) + ")";
+		this.updateSql = "UPDATE " + tableName + " SET "
+				+ this.valueColumns.stream().map((c) -> c + " = :" + c).collect(Collectors.joining(", "))
+				+ " WHERE " + keyColumn + " = :" + keyColumn;
+		this.deleteSql = "DELETE FROM " + tableName + " WHERE " + keyColumn + " = :" + keyColumn;
+	}
+
+	/**
+	 * Returns the {@link RowMapper} used to obtain the cache key of a selected row.
+	 * Defaults to reading the key column using {@link java.sql.ResultSet#getObject(String)}.
+	 * @return the key mapper
+	 */
+	public RowMapper<K> getKeyMapper() {
+		return this.keyMapper;
+	}
+
+	/**
+	 * Set the {@link RowMapper} used to obtain the cache key of a selected row, e.g. to
+	 * convert the JDBC type of the key column to the type of the cache keys.
+	 * @param keyMapper the key mapper, must not be null
+	 */
+	public void setKeyMapper(RowMapper<K> keyMapper) {
+		Assert.notNull(keyMapper, "keyMapper must not be null");
+		this.keyMapper = keyMapper;
+	}
+
+	/**
+	 * Returns the function creating the named statement parameters for a cache entry.
+	 * @return the parameter mapper
+	 */
+	public BiFunction<? super K, ? super V, SqlParameterSource> getParameterMapper() {
+		return this.parameterMapper;
+	}
+
+	/**
+	 * Set the function creating the named statement parameters for a cache entry. The
+	 * returned {@link SqlParameterSource} must provide a value for the key column and for
+	 * each value column, named after the respective column. By default, the key column is
+	 * populated with the cache key and the value columns are populated from the bean
+	 * properties of the cache value.
+	 * @param parameterMapper the parameter mapper, must not be null
+	 */
+	public void setParameterMapper(BiFunction<? super K, ? super V, SqlParameterSource> parameterMapper) {
+		Assert.notNull(parameterMapper, "parameterMapper must not be null");
+		this.parameterMapper = parameterMapper;
+	}
+
+	/**
+	 * Returns the {@link JdbcUpsertDialect} used to store the cache entries.
+	 * @return the dialect or {@code null} if entries are stored using an update followed
+	 * by an insert of the rows that did not exist
+	 */
+	public JdbcUpsertDialect getDialect() {
+		return this.dialect;
+	}
+
+	/**
+	 * Set the {@link JdbcUpsertDialect} used to store the cache entries with a single
+	 * upsert statement.
+	 * @param dialect the dialect or {@code null} to store entries using an update followed
+	 * by an insert of the rows that did not exist
+	 */
+	public void setDialect(JdbcUpsertDialect dialect) {
+		this.dialect = dialect;
+		this.upsertSql = (dialect != null) ? dialect.createUpsertSql(this.tableName, this.keyColumn, this.valueColumns)
+				: null;
+	}
+
+	/**
+	 * Returns the maximum number of entries that are loaded, stored or erased per batch.
+	 * @return the batch size, defaults to {@link #DEFAULT_BATCH_SIZE}
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum number of entries that are loaded, stored or erased per batch. As
+	 * keys are loaded using a single {@code in} clause per batch, the value should not
+	 * exceed the maximum number of {@code in} list elements supported by the database.
+	 * @param batchSize the batch size, must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public V load(K key) {
+		final List<V> values = this.jdbcOperations.query(this.selectSql,
+				new MapSqlParameterSource(this.keyColumn, key), this.rowMapper);
+		return (values.isEmpty()) ? null : values.get(0);
+	}
+
+	@Override
+	public Map<K, V> loadAll(Collection<? extends K> colKeys) {
+		final Map<K, V> result = new HashMap<>();
+		for (List<K> chunk : CacheStoreSupport.<K>partition(colKeys, this.batchSize)) {
+			this.jdbcOperations
+				.query(this.selectAllSql, new MapSqlParameterSource(KEYS_PARAMETER, chunk),
+						(rs, rowNum) -> new AbstractMap.SimpleImmutableEntry<>(this.keyMapper.mapRow(rs, rowNum),
+								this.rowMapper.mapRow(rs, rowNum)))
+				.forEach((entry) -> result.put(entry.getKey(), entry.getValue()));
+		}
+		return result;
+	}
+
+	@Override
+	public void store(K key, V value) {
+		final SqlParameterSource parameters = this.parameterMapper.apply(key, value);
+		if (this.upsertSql != null) {
+			this.jdbcOperations.update(this.upsertSql, parameters);
+		}
+		else if (this.jdbcOperations.update(this.updateSql, parameters) == 0) {
+			this.jdbcOperations.update(this.insertSql, parameters);
+		}
+	}
+
+	@Override
+	public void storeAll(Map<? extends K, ? extends V> mapEntries) {
+		boolean remove = true;
+		for (List<K> chunk : CacheStoreSupport.<K>partition(mapEntries.keySet(), this.batchSize)) {
+			final SqlParameterSource[] batch = new SqlParameterSource[chunk.size()];
+			for (int i = 0; i < batch.length; i++) {
+				final K key = chunk.get(i);
+				batch[i] = this.parameterMapper.apply(key, mapEntries.get(key));
+			}
+			if (this.upsertSql != null) {
+				this.jdbcOperations.batchUpdate(this.upsertSql, batch);
+			}
+			else {
+				insertMissing(batch, this.jdbcOperations.batchUpdate(this.updateSql, batch));
+			}
+			// entries that have been stored are removed, so that only the remaining
+			// entries are retried if a subsequent batch fails
+			if (remove) {
+				remove = CacheStoreSupport.removeAll(mapEntries.keySet(), chunk);
+			}
+		}
+	}
+
+	@Override
+	public void erase(K key) {
+		this.jdbcOperations.update(this.deleteSql, new MapSqlParameterSource(this.keyColumn, key));
+	}
+
+	@Override
+	public void eraseAll(Collection<? extends K> colKeys) {
+		boolean remove = true;
+		for (List<K> chunk : CacheStoreSupport.<K>partition(colKeys, this.batchSize)) {
+			final SqlParameterSource[] batch = chunk.stream()
+				.map((key) -> new MapSqlParameterSource(this.keyColumn, key))
+				.toArray(SqlParameterSource[]::new);
+			this.jdbcOperations.batchUpdate(this.deleteSql, batch);
+			if (remove) {
+				remove = CacheStoreSupport.removeAll(colKeys, chunk);
+			}
+		}
+	}
+
+	// creates the default statement parameters from the key and the bean properties of the value
+	private SqlParameterSource createParameterSource(K key, V value) {
+		final BeanPropertySqlParameterSource properties = new BeanPropertySqlParameterSource(value);
+		final MapSqlParameterSource parameters = new MapSqlParameterSource(this.keyColumn, key);
+		for (String column : this.valueColumns) {
+			parameters.addValue(column, properties.getValue(JdbcUtils.convertUnderscoreNameToPropertyName(column)));
+		}
+		return parameters;
+	}
+
+	// inserts the rows of the batch whose update did not affect any row
+	private void insertMissing(SqlParameterSource[] batch, int[] updateCounts) {
+		final List<SqlParameterSource> missing = new ArrayList<>();
+		for (int i = 0; i < batch.length; i++) {
+			if (updateCounts[i] == 0) {
+				missing.add(batch[i]);
+			}
+			else if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+				// the driver does not report whether the row existed, so update it again on its own
+				if (this.jdbcOperations.update(this.updateSql, batch[i]) == 0) {
+					missing.add(batch[i]);
+				}
+			}
+			else if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+				throw new IllegalStateException("Failed to update row " + i + " of batch in table " + this.tableName);
+			}
+		}
+		if (!missing.isEmpty()) {
+			this.jdbcOperations.batchUpdate(this.insertSql, missing.toArray(new SqlParameterSource[0]));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcCacheStore{" + "tableName='" + this.tableName + '\'' + ", keyColumn='" + this.keyColumn + '\''
+				+ ", valueColumns=" + this.valueColumns + ", dialect=" + this.dialect + ", batchSize=" + this.batchSize
+				+ '}';
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The database specific upsert (insert or update) statements used by the
+ * {@link JdbcCacheStore}. The generated statements use named parameters, where each
+ * parameter is named after its column.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public enum JdbcUpsertDialect {
+
+	/**
+	 * Uses {@code MERGE INTO ... KEY (...) VALUES (...)}, supported by H2.
+	 */
+	H2 {
+		@Override
+		public String createUpsertSql(String tableName, String keyColumn, List<String> valueColumns) {
+			return "MERGE INTO " + tableName + " (" + keyColumn + ", " + String.join(", ", valueColumns) + ") KEY ("
+					+ keyColumn + ") VALUES (" + parameters(keyColumn, valueColumns) + ")";
+		}
+	},
+
+	/**
+	 * Uses {@code INSERT ... ON DUPLICATE KEY UPDATE}, supported by MySQL and MariaDB.
+	 */
+	MYSQL {
+		@Override
+		public String createUpsertSql(String tableName, String keyColumn, List<String> valueColumns) {
+			return "INSERT INTO " + tableName + " (" + keyColumn + ", " + String.join(", ", valueColumns)
+					+ ") VALUES (" + parameters(keyColumn, valueColumns) + ") ON DUPLICATE KEY UPDATE "
+					+ valueColumns.stream().map((c) -> c + " = VALUES(" + c + ")").collect(Collectors.joining(", "));
+		}
+	},
+
+	/**
+	 * Uses {@code MERGE INTO ... USING (SELECT ... FROM DUAL)}, supported by Oracle
+	 * Database.
+	 */
+	ORACLE {
+		@Override
+		public String createUpsertSql(String tableName, String keyColumn, List<String> valueColumns) {
+			return "MERGE INTO " + tableName + " t USING (SELECT :" + keyColumn + " AS " + keyColumn
+					+ valueColumns.stream().map((c) -> ", :" + c + " AS " + c).collect(Collectors.joining())
+					+ " FROM DUAL) s ON (t." + keyColumn + " = s." + keyColumn + ") WHEN MATCHED THEN UPDATE SET "
+					+ valueColumns.stream().map((c) -> "t." + c + " = s." + c).collect(Collectors.joining(", "))
+					+ " WHEN NOT MATCHED THEN INSERT (" + keyColumn + ", " + String.join(", ", valueColumns)
+					+ ") VALUES (s." + keyColumn
+					+ valueColumns.stream().map((c) -> ", s." + c).collect(Collectors.joining()) + ")";
+		}
+	},
+
+	/**
+	 * Uses {@code INSERT ... ON CONFLICT (...) DO UPDATE}, supported by PostgreSQL and
+	 * SQLite.
+	 */
+	POSTGRESQL {
+		@Override
+		public String createUpsertSql(String tableName, String keyColumn, List<String> valueColumns) {
+			return "INSERT INTO " + tableName + " (" + keyColumn + ", " + String.join(", ", valueColumns)
+					+ ") VALUES (" + parameters(keyColumn, valueColumns) + ") ON CONFLICT (" + keyColumn
+					+ ") DO UPDATE SET "
+					+ valueColumns.stream().map((c) -> c + " = EXCLUDED." + c).collect(Collectors.joining(", "));
+		}
+	};
+
+	/**
+	 * Create the upsert statement for the given table.
+	 * @param tableName the name of the table
+	 * @param keyColumn the name of the primary key column
+	 * @param valueColumns the names of the value columns
+	 * @return the upsert statement
+	 */
+	public abstract String createUpsertSql(String tableName, String keyColumn, List<String> valueColumns);
+
+	// returns the comma separated named parameters for the key and value columns
+	private static String parameters(String keyColumn, List<String> valueColumns) {
+		return ":" + keyColumn + valueColumns.stream().map((c) -> ", :" + c).collect(Collectors.joining());
+	}
+
+}
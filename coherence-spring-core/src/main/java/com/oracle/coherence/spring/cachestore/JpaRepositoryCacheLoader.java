@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,11 +8,13 @@ package com.oracle.coherence.spring.cachestore;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
-import com.oracle.coherence.spring.CoherenceContext;
 import com.tangosol.net.cache.CacheLoader;
-import jakarta.persistence.EntityManager;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -21,6 +23,13 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * A Coherence {@link CacheLoader} that is also a {@link JpaRepository} allowing the
  * loader methods to use the repository to load data.
+ * <p>
+ * {@link #loadAll(Collection)} loads the entities in chunks of {@link #getBatchSize()}
+ * keys, so that the {@code in} clause of the generated query stays within the limits of
+ * the database. If {@link #getLoadExecutor()} returns an {@link Executor}, the chunks are
+ * loaded in parallel using that executor. {@link #loadAll(Collection)} does not run in a
+ * transaction of its own, each chunk is loaded in the transaction of
+ * {@link #findAllById(Iterable)}.
  *
  * @param <T> the domain type the repository manages and the type of values in the cache
  * @param <ID> the type of the id of the entity the repository manages and the type of the
@@ -31,6 +40,43 @@ import org.springframework.transaction.annotation.Transactional;
 @NoRepositoryBean
 public interface JpaRepositoryCacheLoader<T, ID> extends JpaRepository<T, ID>, CacheLoader<ID, T> {
 
+	/**
+	 * The default number of entries loaded, stored or erased per batch.
+	 */
+	int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Returns the maximum number of entries that are processed per batch by the bulk
+	 * operations. Repositories may override this method to tune the batch size. As
+	 * batches of keys are passed to the database as a single {@code in} clause, the value
+	 * should not exceed the maximum number of {@code in} list elements supported by the
+	 * database.
+	 * @return the batch size, defaults to {@link #DEFAULT_BATCH_SIZE}
+	 * @since 4.3.2
+	 */
+	default int getBatchSize() {
+		return DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to load the chunks of {@link #loadAll(Collection)}
+	 * in parallel. Repositories may override this method to return a bounded executor,
+	 * e.g. a {@code ThreadPoolTaskExecutor} bean, whose pool size limits the number of
+	 * concurrent queries. Each chunk loaded by the executor runs in its own transaction.
+	 * <p>
+	 * The calling thread does not hold a database connection while it waits for the chunks,
+	 * but every chunk does while it is loaded. The number of threads of the executor, summed
+	 * over all executors loading from the same {@code DataSource}, should therefore be lower
+	 * than the size of its connection pool, so that other transactions are not starved of
+	 * connections.
+	 * @return the executor or {@code null} (the default) to load the chunks sequentially
+	 * on the calling thread
+	 * @since 4.3.2
+	 */
+	default Executor getLoadExecutor() {
+		return null;
+	}
+
 	/**
 	 * Returns the cache key for the given entity value.
 	 * @param value the entity value to obtain the cache key from
@@ -38,8 +84,7 @@ public interface JpaRepositoryCacheLoader<T, ID> extends JpaRepository<T, ID>, C
 	 */
 	@SuppressWarnings("unchecked")
 	default ID getId(T value) {
-		EntityManager em = CoherenceContext.getApplicationContext().getBean(EntityManager.class);
-		return (ID) em.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(value);
+		return (ID) CacheStoreSupport.getPersistenceUnitUtil().getIdentifier(value);
 	}
 
 	@Transactional
@@ -48,13 +93,37 @@ public interface JpaRepositoryCacheLoader<T, ID> extends JpaRepository<T, ID>, C
 		return findById(key).orElse(null);
 	}
 
-	@Transactional
 	@Override
-	@SuppressWarnings("unchecked")
 	default Map<ID, T> loadAll(Collection<? extends ID> colKeys) {
-		Map<ID, T> map = new HashMap<>();
-		Collection<ID> keys = (Collection<ID>) colKeys;
-		findAllById(keys).forEach((v) -> map.put(getId(v), v));
+		final List<List<ID>> chunks = CacheStoreSupport.partition(colKeys, getBatchSize());
+		final Map<ID, T> map = new HashMap<>();
+		final Executor executor = getLoadExecutor();
+		if (executor == null || chunks.size() < 2) {
+			for (List<ID> chunk : chunks) {
+				findAllById(chunk).forEach((v) -> map.put(getId(v), v));
+			}
+			return map;
+		}
+
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.size()];
+		for (int i = 0; i < futures.length; i++) {
+			final List<ID> chunk = chunks.get(i);
+			futures[i] = CompletableFuture.supplyAsync(() -> findAllById(chunk), executor)
+				.thenAccept((values) -> {
+					synchronized (map) {
+						values.forEach((v) -> map.put(getId(v), v));
+					}
+				});
+		}
+		try {
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
 		return map;
 	}
 
@@ -1,13 +1,14 @@
 /*
- * Copyright (c) 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.spring.cachestore;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import com.tangosol.net.cache.CacheStore;
@@ -19,6 +20,14 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * A generic Spring JPA {@link CacheStore} that extends a Spring {@link JpaRepository} for
  * the database operations.
+ * <p>
+ * The bulk operations {@link #storeAll(Map)} and {@link #eraseAll(Collection)} are
+ * executed in batches of {@link #getBatchSize()} entries: each store batch is persisted
+ * using {@link #saveAll(Iterable)} followed by a single {@link #flush()}, and each erase
+ * batch is executed using {@link #deleteAllByIdInBatch(Iterable)}, which neither cascades
+ * deletes nor invokes JPA lifecycle callbacks. In order for the inserts and updates to be
+ * sent to the database as JDBC batches, the JPA provider has to be configured
+ * accordingly, e.g. by setting {@code hibernate.jdbc.batch_size}.
  *
  * @param <T> the domain type the repository manages and the type of values in the cache
  * @param <ID> the type of the id of the entity the repository manages and the type of the
@@ -36,23 +45,33 @@ public interface JpaRepositoryCacheStore<T, ID> extends JpaRepositoryCacheLoader
 		flush();
 	}
 
+	/**
+	 * Erase the entities for the given keys in batches of {@link #getBatchSize()}, using
+	 * {@link #deleteAllByIdInBatch(Iterable)}. The erase is executed within a single
+	 * transaction, hence either all or none of the entities are erased.
+	 * <p>
+	 * As {@link #deleteAllByIdInBatch(Iterable)} issues a bulk delete statement that
+	 * bypasses the persistence context, deletes are not cascaded to associated entities
+	 * and JPA lifecycle callbacks such as {@code @PreRemove} are not invoked. Repositories
+	 * of entities relying on either should override this method, e.g. using
+	 * {@link #deleteAllById(Iterable)}.
+	 * @param colKeys the keys of the entities to erase
+	 */
 	@Transactional
 	@Override
 	default void eraseAll(Collection<? extends ID> colKeys) {
-		boolean fRemove = true;
-		for (Iterator<? extends ID> iter = colKeys.iterator(); iter.hasNext();) {
-			this.deleteById(iter.next());
-			erase(iter.next());
-			if (fRemove) {
-				try {
-					iter.remove();
-				}
-				catch (UnsupportedOperationException ex) {
-					fRemove = false;
-				}
+		final int batchSize = Math.max(1, getBatchSize());
+		List<ID> batch = new ArrayList<>(Math.min(batchSize, colKeys.size()));
+		for (ID key : colKeys) {
+			batch.add(key);
+			if (batch.size() == batchSize) {
+				deleteAllByIdInBatch(batch);
+				batch = new ArrayList<>(batchSize);
 			}
 		}
-		flush();
+		if (!batch.isEmpty()) {
+			deleteAllByIdInBatch(batch);
+		}
 	}
 
 	@Transactional
@@ -61,22 +80,28 @@ public interface JpaRepositoryCacheStore<T, ID> extends JpaRepositoryCacheLoader
 		saveAndFlush(value);
 	}
 
+	/**
+	 * Store the given entities in batches of {@link #getBatchSize()}, using
+	 * {@link #saveAll(Iterable)} followed by a single {@link #flush()} per batch. The store
+	 * is executed within a single transaction, hence either all or none of the entities are
+	 * stored.
+	 * @param entries the entries to store
+	 */
 	@Transactional
 	@Override
 	default void storeAll(Map<? extends ID, ? extends T> entries) {
-		boolean fRemove = true;
-		for (Iterator<? extends Map.Entry<? extends ID, ? extends T>> iter = entries.entrySet().iterator(); iter
-				.hasNext();) {
-			Map.Entry<? extends ID, ? extends T> entry = iter.next();
-			save(entry.getValue());
-			if (fRemove) {
-				try {
-					iter.remove();
-				}
-				catch (UnsupportedOperationException ex) {
-					fRemove = false;
-				}
+		final int batchSize = Math.max(1, getBatchSize());
+		List<T> batch = new ArrayList<>(Math.min(batchSize, entries.size()));
+		for (T value : entries.values()) {
+			batch.add(value);
+			if (batch.size() == batchSize) {
+				saveAll(batch);
+				flush();
+				batch = new ArrayList<>(batchSize);
 			}
+		}
+		if (!batch.isEmpty()) {
+			saveAll(batch);
 			flush();
 		}
 	}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.tangosol.net.cache.NonBlockingEntryStore;
+import com.tangosol.net.cache.StoreObserver;
+import com.tangosol.util.BinaryEntry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.util.Assert;
+
+/**
+ * A Coherence {@link NonBlockingEntryStore} that delegates to a Spring Data
+ * {@link ReactiveCrudRepository}, such as a Spring Data R2DBC {@code R2dbcRepository}.
+ * <p>
+ * Loads and stores subscribe to the reactive repository operations and return
+ * immediately, so that the cache service worker threads are not blocked while the
+ * database I/O is in flight. The provided {@link StoreObserver} is notified once the
+ * repository operation completes. As required by Coherence, {@link #erase(BinaryEntry)}
+ * and {@link #eraseAll(Set)} are synchronous and block until the repository operation
+ * has completed.
+ * <p>
+ * {@link #loadAll(Set)} loads the entities in chunks of {@link #getBatchSize()} keys, and
+ * {@link #storeAll(Set)} saves at most {@link #getConcurrency()} entities concurrently.
+ *
+ * @param <T> the domain type the repository manages and the type of values in the cache
+ * @param <ID> the type of the id of the entity the repository manages and the type of the
+ * cache key
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public class ReactiveRepositoryEntryStore<T, ID> implements NonBlockingEntryStore<ID, T> {
+
+	/**
+	 * The default number of keys loaded per chunk.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * The default maximum number of entities saved concurrently.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+
+	private final ReactiveCrudRepository<T, ID> repository;
+
+	private final Function<? super T, ? extends ID> idExtractor;
+
+	/**
+	 * see {@link #getBatchSize()}.
+	 */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * see {@link #getConcurrency()}.
+	 */
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	/**
+	 * see {@link #getEraseTimeout()}.
+	 */
+	private Duration eraseTimeout;
+
+	/**
+	 * Create a new {@link ReactiveRepositoryEntryStore}.
+	 * @param repository the reactive repository to delegate to
+	 * @param idExtractor the function returning the id, and therefore the cache key, of an
+	 * entity
+	 */
+	public ReactiveRepositoryEntryStore(ReactiveCrudRepository<T, ID> repository,
+			Function<? super T, ? extends ID> idExtractor) {
+		Assert.notNull(repository, "repository must not be null");
+		Assert.notNull(idExtractor, "idExtractor must not be null");
+		this.repository = repository;
+		this.idExtractor = idExtractor;
+	}
+
+	/**
+	 * Returns the maximum number of keys loaded per chunk by {@link #loadAll(Set)}.
+	 * @return the batch size, defaults to {@link #DEFAULT_BATCH_SIZE}
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum number of keys loaded per chunk by {@link #loadAll(Set)}.
+	 * @param batchSize the batch size, must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the maximum number of entities saved concurrently by {@link #storeAll(Set)}
+	 * and chunks loaded concurrently by {@link #loadAll(Set)}.
+	 * @return the concurrency, defaults to {@link #DEFAULT_CONCURRENCY}
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Set the maximum number of entities saved concurrently by {@link #storeAll(Set)} and
+	 * chunks loaded concurrently by {@link #loadAll(Set)}. The value should not exceed the
+	 * size of the underlying connection pool.
+	 * @param concurrency the concurrency, must be greater than zero
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "concurrency must be greater than zero");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Returns the maximum time the synchronous erase operations wait for the repository.
+	 * @return the timeout or {@code null} (the default) to wait indefinitely
+	 */
+	public Duration getEraseTimeout() {
+		return this.eraseTimeout;
+	}
+
+	/**
+	 * Set the maximum time the synchronous erase operations wait for the repository.
+	 * @param eraseTimeout the timeout or {@code null} to wait indefinitely
+	 */
+	public void setEraseTimeout(Duration eraseTimeout) {
+		this.eraseTimeout = eraseTimeout;
+	}
+
+	@Override
+	public void load(BinaryEntry<ID, T> binEntry, StoreObserver<ID, T> observer) {
+		Mono.defer(() -> this.repository.findById(binEntry.getKey()))
+			.subscribe((value) -> binEntry.setValue(value), (ex) -> observer.onError(binEntry, toException(ex)),
+					() -> observer.onNext(binEntry));
+	}
+
+	@Override
+	public void loadAll(Set<? extends BinaryEntry<ID, T>> setBinEntries, StoreObserver<ID, T> observer) {
+		final List<List<BinaryEntry<ID, T>>> chunks = CacheStoreSupport.partition(setBinEntries, this.batchSize);
+		Flux.fromIterable(chunks)
+			.flatMap((chunk) -> loadChunk(chunk, observer), this.concurrency)
+			.subscribe(null, (ex) -> observer.onComplete(), observer::onComplete);
+	}
+
+	@Override
+	public void store(BinaryEntry<ID, T> binEntry, StoreObserver<ID, T> observer) {
+		Mono.defer(() -> this.repository.save(binEntry.getValue())).subscribe(null,
+				(ex) -> observer.onError(binEntry, toException(ex)), () -> observer.onNext(binEntry));
+	}
+
+	@Override
+	public void storeAll(Set<? extends BinaryEntry<ID, T>> setBinEntries, StoreObserver<ID, T> observer) {
+		Flux.fromIterable(setBinEntries)
+			.flatMap((binEntry) -> Mono.defer(() -> this.repository.save(binEntry.getValue()))
+				.then()
+				.doOnSuccess((value) -> observer.onNext(binEntry))
+				.onErrorResume((ex) -> {
+					observer.onError(binEntry, toException(ex));
+					return Mono.empty();
+				}), this.concurrency)
+			.subscribe(null, (ex) -> observer.onComplete(), observer::onComplete);
+	}
+
+	@Override
+	public void erase(BinaryEntry<ID, T> binEntry) {
+		block(this.repository.deleteById(binEntry.getKey()));
+	}
+
+	@Override
+	public void eraseAll(Set<? extends BinaryEntry<ID, T>> setBinEntries) {
+		for (List<ID> chunk : CacheStoreSupport.<ID>partition(
+				setBinEntries.stream().map(BinaryEntry::getKey).collect(Collectors.toList()), this.batchSize)) {
+			block(this.repository.deleteAllById(chunk));
+		}
+	}
+
+	// loads a chunk of entries, notifying the observer of each entry of the chunk
+	private Mono<Void> loadChunk(List<BinaryEntry<ID, T>> chunk, StoreObserver<ID, T> observer) {
+		final Map<ID, BinaryEntry<ID, T>> entries = new HashMap<>();
+		chunk.forEach((binEntry) -> entries.put(binEntry.getKey(), binEntry));
+		return Flux.defer(() -> this.repository.findAllById(entries.keySet()))
+			.doOnNext((value) -> {
+				final BinaryEntry<ID, T> binEntry = entries.get(this.idExtractor.apply(value));
+				if (binEntry != null) {
+					binEntry.setValue(value);
+				}
+			})
+			.then(Mono.fromRunnable(() -> chunk.forEach(observer::onNext)))
+			.onErrorResume((ex) -> {
+				final Exception exception = toException(ex);
+				chunk.forEach((binEntry) -> observer.onError(binEntry, exception));
+				return Mono.empty();
+			})
+			.then();
+	}
+
+	// blocks for the completion of the given erase operation
+	private void block(Mono<Void> operation) {
+		if (this.eraseTimeout != null) {
+			operation.block(this.eraseTimeout);
+		}
+		else {
+			operation.block();
+		}
+	}
+
+	// converts the given error signal into the exception type expected by the observer
+	private static Exception toException(Throwable ex) {
+		return (ex instanceof Exception) ? (Exception) ex : new RuntimeException(ex);
+	}
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.tangosol.net.NamedCache;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MethodInterceptor} backing a {@link CoalescingNamedCache} proxy. Updates are
+ * collected in a bounded buffer that is flushed with a single {@link NamedCache#putAll(Map)}
+ * when the coalescing window elapses, when the buffer is full, or before any operation that
+ * needs to observe the cache contents.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+class CoalescingCacheInterceptor implements MethodInterceptor {
+
+	private static final Log logger = LogFactory.getLog(CoalescingCacheInterceptor.class);
+
+	/**
+	 * Methods that neither read nor modify cache entries and are invoked without flushing.
+	 */
+	private static final Set<String> PASS_THROUGH_METHODS = Set.of("equals", "hashCode", "toString",
+			"getCacheName", "getCacheService", "getService", "getName",
+			"isActive", "isReady", "isReleased", "isDestroyed");
+
+	/**
+	 * Methods that remove all entries and therefore discard buffered updates.
+	 */
+	private static final Set<String> DISCARDING_METHODS = Set.of("clear", "truncate", "destroy");
+
+	private final NamedCache<Object, Object> cache;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final long windowMillis;
+
+	private final int maxPending;
+
+	private final Object lock = new Object();
+
+	private final Object flushLock = new Object();
+
+	private Map<Object, Object> pending = new LinkedHashMap<>();
+
+	private Map<Object, Object> inFlight = Collections.emptyMap();
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	@SuppressWarnings("unchecked")
+	CoalescingCacheInterceptor(NamedCache<?, ?> cache, ScheduledExecutorService scheduler, long windowMillis, int maxPending) {
+		Assert.notNull(cache, "cache must not be null");
+		Assert.notNull(scheduler, "scheduler must not be null");
+		Assert.isTrue(windowMillis > 0, "windowMillis must be greater than 0");
+		Assert.isTrue(maxPending > 0, "maxPending must be greater than 0");
+		this.cache = (NamedCache<Object, Object>) cache;
+		this.scheduler = scheduler;
+		this.windowMillis = windowMillis;
+		this.maxPending = maxPending;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		String name = method.getName();
+		Object[] args = invocation.getArguments();
+
+		if (method.getDeclaringClass() == CoalescingNamedCache.class) {
+			if ("flush".equals(name)) {
+				flush();
+				return null;
+			}
+			if ("getPendingCount".equals(name)) {
+				return getPendingCount();
+			}
+			throw new UnsupportedOperationException("Unsupported CoalescingNamedCache method: " + method);
+		}
+		if (PASS_THROUGH_METHODS.contains(name)) {
+			return invocation.proceed();
+		}
+		if ("put".equals(name) && args.length == 2) {
+			put(args[0], args[1]);
+			return null;
+		}
+		if ("putAll".equals(name) && args.length == 1) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) args[0]).entrySet()) {
+				put(entry.getKey(), entry.getValue());
+			}
+			return null;
+		}
+		if (("get".equals(name) || "containsKey".equals(name)) && args.length == 1) {
+			synchronized (this.lock) {
+				Map<Object, Object> buffered = this.pending.containsKey(args[0]) ? this.pending : this.inFlight;
+				if (buffered.containsKey(args[0])) {
+					return ("get".equals(name)) ? buffered.get(args[0]) : Boolean.TRUE;
+				}
+			}
+			return invocation.proceed();
+		}
+		if (DISCARDING_METHODS.contains(name)) {
+			discard();
+			return invocation.proceed();
+		}
+		flush();
+		return invocation.proceed();
+	}
+
+	/**
+	 * Write all buffered updates to the cache. Flushes are serialized so that batches are
+	 * applied in the order they were collected. If the write fails, the entries that have
+	 * not been superseded in the meantime are returned to the buffer.
+	 */
+	void flush() {
+		synchronized (this.flushLock) {
+			Map<Object, Object> batch;
+			synchronized (this.lock) {
+				cancelScheduledFlush();
+				if (this.pending.isEmpty()) {
+					return;
+				}
+				batch = this.pending;
+				this.pending = new LinkedHashMap<>();
+				this.inFlight = batch;
+			}
+			try {
+				this.cache.putAll(batch);
+			}
+			catch (RuntimeException ex) {
+				synchronized (this.lock) {
+					batch.forEach(this.pending::putIfAbsent);
+				}
+				throw ex;
+			}
+			finally {
+				synchronized (this.lock) {
+					this.inFlight = Collections.emptyMap();
+				}
+			}
+		}
+	}
+
+	int getPendingCount() {
+		synchronized (this.lock) {
+			return this.pending.size();
+		}
+	}
+
+	private void put(Object key, Object value) {
+		boolean flushNow;
+		synchronized (this.lock) {
+			this.pending.put(key, value);
+			flushNow = this.pending.size() >= this.maxPending || this.scheduler.isShutdown();
+			if (!flushNow && this.scheduledFlush == null) {
+				this.scheduledFlush = this.scheduler.schedule(this::scheduledFlush, this.windowMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (flushNow) {
+			flush();
+		}
+	}
+
+	// invoked by the scheduler once the coalescing window has elapsed
+	private void scheduledFlush() {
+		try {
+			flush();
+		}
+		catch (RuntimeException ex) {
+			logger.warn(String.format("Failed to flush coalesced updates to cache '%s', retrying in %d ms",
+					this.cache.getCacheName(), this.windowMillis), ex);
+			synchronized (this.lock) {
+				if (this.scheduledFlush == null && !this.pending.isEmpty() && !this.scheduler.isShutdown()) {
+					this.scheduledFlush = this.scheduler.schedule(this::scheduledFlush, this.windowMillis, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+	}
+
+	private void discard() {
+		synchronized (this.flushLock) {
+			synchronized (this.lock) {
+				cancelScheduledFlush();
+				this.pending = new LinkedHashMap<>();
+			}
+		}
+	}
+
+	// must be called while holding the lock
+	private void cancelScheduledFlush() {
+		if (this.scheduledFlush != null) {
+			this.scheduledFlush.cancel(false);
+			this.scheduledFlush = null;
+		}
+	}
+}
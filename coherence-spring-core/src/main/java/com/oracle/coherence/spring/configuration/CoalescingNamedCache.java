@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration;
+
+import com.tangosol.net.NamedCache;
+
+/**
+ * A {@link NamedCache} that buffers {@code put} and {@code putAll} calls on the client and
+ * writes them to the underlying cache in batches. Updates to the same key within the
+ * coalescing window are merged, so only the latest value is written.
+ * <p>
+ * Reads of a single key via {@code get} or {@code containsKey} see buffered values. Any
+ * other operation flushes the buffer before it is executed, with the exception of
+ * {@code clear}, {@code truncate} and {@code destroy}, which discard it. Because writes are
+ * deferred, {@code put} always returns {@code null} rather than the previous value held by
+ * the cache.
+ * <p>
+ * Instances are injected using the {@link com.oracle.coherence.spring.annotation.Coalesced}
+ * qualifier or by declaring an injection point of this type. Buffered updates are flushed
+ * when the application context is closed.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cache values
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public interface CoalescingNamedCache<K, V> extends NamedCache<K, V> {
+
+	/**
+	 * The default coalescing window in milliseconds.
+	 */
+	long DEFAULT_WINDOW_MILLIS = 50L;
+
+	/**
+	 * The default maximum number of buffered keys.
+	 */
+	int DEFAULT_MAX_PENDING = 1000;
+
+	/**
+	 * Write all buffered updates to the underlying cache.
+	 */
+	void flush();
+
+	/**
+	 * Return the number of keys with buffered updates.
+	 * @return the number of pending keys
+	 */
+	int getPendingCount();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,7 @@ package com.oracle.coherence.spring.configuration;
 import com.oracle.coherence.common.base.Classes;
 import com.oracle.coherence.spring.CoherenceServer;
 import com.oracle.coherence.spring.annotation.Name;
+import com.oracle.coherence.spring.cache.CacheableAllAdvisor;
 import com.oracle.coherence.spring.configuration.support.CoherenceConfigurerCustomizer;
 import com.oracle.coherence.spring.event.CoherenceEventListenerCandidates;
 import com.oracle.coherence.spring.event.CoherenceEventListenerMethodProcessor;
@@ -37,6 +38,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.Role;
 import org.springframework.context.annotation.Scope;
 
 /**
@@ -110,6 +112,13 @@ public class CoherenceSpringConfiguration {
 	 */
 	public static final String COHERENCE_CONFIGURER_BEAN_NAME = "coherenceConfigurer";
 
+	/**
+	 * The name of the optional {@link java.util.concurrent.Executor} bean used to invoke
+	 * {@link com.oracle.coherence.spring.annotation.CoherenceTopicListener} methods and
+	 * asynchronous {@link com.oracle.coherence.spring.event.CoherenceEventListener} methods.
+	 */
+	public static final String COHERENCE_LISTENER_EXECUTOR_BEAN_NAME = "coherenceListenerExecutor";
+
 	@Bean(COHERENCE_BEAN_NAME)
 	@DependsOn(SPRING_SYSTEM_PROPERTY_RESOLVER_BEAN_NAME)
 	public Coherence getCoherence() {
@@ -239,6 +248,17 @@ public class CoherenceSpringConfiguration {
 		return new CoherenceTopicListenerPostProcessor();
 	}
 
+	/**
+	 * Advisor applying batched cache lookups to methods annotated with
+	 * {@link com.oracle.coherence.spring.annotation.CacheableAll}.
+	 * @return the {@link CacheableAllAdvisor}
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public static CacheableAllAdvisor cacheableAllAdvisor() {
+		return new CacheableAllAdvisor();
+	}
+
 	/**
 	 * A factory method to produce the default Java {@link Serializer}.
 	 * @return the default Java {@link Serializer}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -13,8 +13,11 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
+import com.oracle.coherence.spring.annotation.Coalesced;
 import com.oracle.coherence.spring.annotation.ExtractorBinding;
 import com.oracle.coherence.spring.annotation.FilterBinding;
 import com.oracle.coherence.spring.annotation.Name;
@@ -36,25 +39,31 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Scope;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Provides support for injecting Coherence Caches using {@link NamedCache}.
+ * Provides support for injecting Coherence Caches using {@link NamedCache}. Buffered
+ * updates of injected {@link CoalescingNamedCache} instances are flushed when the
+ * application context is closed.
  *
  * @author Gunnar Hillert
  * @since 3.0
  */
 @Configuration
-public class NamedCacheConfiguration {
+public class NamedCacheConfiguration implements ApplicationListener<ContextClosedEvent> {
 
 	protected static final Log logger = LogFactory.getLog(NamedCacheConfiguration.class);
 
@@ -73,6 +82,11 @@ public class NamedCacheConfiguration {
 	 */
 	public static final String COHERENCE_ASYNC_CACHE_BEAN_NAME = "getAsyncCacheProxy";
 
+	/**
+	 * The name of the {@link CoalescingNamedCache} bean.
+	 */
+	public static final String COHERENCE_COALESCING_CACHE_BEAN_NAME = "getCoalescingCacheProxy";
+
 	/**
 	 * The name of the factory bean used to create Coherence caches/maps.
 	 */
@@ -85,10 +99,16 @@ public class NamedCacheConfiguration {
 
 	final Map<CqcId, ContinuousQueryCache> cqcInstances = new ConcurrentHashMap<>();
 
+	final Map<CoalescingId, CoalescingNamedCache<?, ?>> coalescingInstances = new ConcurrentHashMap<>();
+
 	final MapListenerRegistrationBean mapListenerRegistrationBean;
 
 	final BeanFactory beanFactory;
 
+	private final Object schedulerLock = new Object();
+
+	private ScheduledExecutorService coalescingScheduler;
+
 	public NamedCacheConfiguration(FilterService filterService, ExtractorService extractorService, MapListenerRegistrationBean mapListenerRegistrationBean,
 			BeanFactory beanFactory) {
 		this.filterService = filterService;
@@ -124,6 +144,11 @@ public class NamedCacheConfiguration {
 	@Primary
 	@Scope(BeanDefinition.SCOPE_PROTOTYPE)
 	<K, V> NamedCache<K, V> getCacheProxy(InjectionPoint injectionPoint) {
+		boolean isCoalesced = getMergedAnnotations(injectionPoint).isPresent(Coalesced.class)
+				|| CoalescingNamedCache.class.isAssignableFrom(injectionPoint.getDeclaredType());
+		if (isCoalesced) {
+			return getCoalescingCacheProxy(injectionPoint);
+		}
 		boolean isView = hasViewAnnotation(injectionPoint) || ContinuousQueryCache.class.isAssignableFrom(injectionPoint.getDeclaredType());
 		if (isView) {
 			return getViewProxy(injectionPoint);
@@ -142,6 +167,49 @@ public class NamedCacheConfiguration {
 		return (NamedCache<K, V>) pf.getProxy();
 	}
 
+	@Bean(destroyMethod = "flush")
+	@DependsOn(CoherenceSpringConfiguration.COHERENCE_SERVER_BEAN_NAME)
+	@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+	<K, V> CoalescingNamedCache<K, V> getCoalescingCacheProxy(InjectionPoint injectionPoint) {
+		final MergedAnnotations mergedAnnotations = getMergedAnnotations(injectionPoint);
+		final MergedAnnotation<Coalesced> mergedCoalescedAnnotation = mergedAnnotations.get(Coalesced.class);
+		Assert.state(!mergedAnnotations.isPresent(View.class), "A @Coalesced cache cannot be combined with @View");
+
+		final long window = (mergedCoalescedAnnotation.isPresent())
+				? mergedCoalescedAnnotation.synthesize().window() : CoalescingNamedCache.DEFAULT_WINDOW_MILLIS;
+		final int maxPending = (mergedCoalescedAnnotation.isPresent())
+				? mergedCoalescedAnnotation.synthesize().maxPending() : CoalescingNamedCache.DEFAULT_MAX_PENDING;
+		final String cacheName = determineCacheName(injectionPoint, mergedAnnotations.get(Name.class));
+		final String sessionName = determineSessionName(mergedAnnotations.get(SessionName.class));
+
+		// injection points sharing the same cache and settings share one buffer, so that
+		// updates to a key are always written in order
+		CoalescingId coalescingId = new CoalescingId(cacheName, sessionName, window, maxPending);
+		@SuppressWarnings("unchecked")
+		CoalescingNamedCache<K, V> coalescingCache = (CoalescingNamedCache<K, V>) this.coalescingInstances
+			.computeIfAbsent(coalescingId, (id) -> createCoalescingCache(injectionPoint, window, maxPending));
+		return coalescingCache;
+	}
+
+	private CoalescingNamedCache<?, ?> createCoalescingCache(InjectionPoint injectionPoint, long window, int maxPending) {
+		LazyTargetSource targetSource = new LazyTargetSource(
+				(DefaultListableBeanFactory) this.beanFactory,
+				injectionPoint,
+				FACTORY_BEAN_NAME,
+				"getCache", // Name of the factory method
+				false);
+
+		ProxyFactory cachePf = new ProxyFactory();
+		cachePf.setTargetSource(targetSource);
+		cachePf.setInterfaces(NamedCache.class);
+		NamedCache<?, ?> cache = (NamedCache<?, ?>) cachePf.getProxy();
+
+		ProxyFactory pf = new ProxyFactory(cache);
+		pf.setInterfaces(CoalescingNamedCache.class);
+		pf.addAdvice(new CoalescingCacheInterceptor(cache, getCoalescingScheduler(), window, maxPending));
+		return (CoalescingNamedCache<?, ?>) pf.getProxy();
+	}
+
 	@Bean(destroyMethod = "release", autowireCandidate = false)
 	@DependsOn(CoherenceSpringConfiguration.COHERENCE_SERVER_BEAN_NAME)
 	@Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -167,15 +235,8 @@ public class NamedCacheConfiguration {
 		final MergedAnnotation<SessionName> mergedSessionNameAnnotation = mergedAnnotations.get(SessionName.class);
 		final MergedAnnotation<View> mergedViewAnnotation = mergedAnnotations.get(View.class);
 
-		final String sessionName;
 		final String cacheName = this.determineCacheName(injectionPoint, mergedNameAnnotation);
-
-		if (!mergedSessionNameAnnotation.isPresent() || mergedSessionNameAnnotation.synthesize().value().trim().isEmpty()) {
-			sessionName = Coherence.DEFAULT_NAME;
-		}
-		else {
-			sessionName = mergedSessionNameAnnotation.synthesize().value();
-		}
+		final String sessionName = this.determineSessionName(mergedSessionNameAnnotation);
 
 		if (logger.isDebugEnabled()) {
 			logger.debug(String.format("Going to retrieve NamedCache '%s' for session '%s'.", cacheName, sessionName));
@@ -234,6 +295,43 @@ public class NamedCacheConfiguration {
 		return (AsyncNamedCache<K, V>) pf.getProxy();
 	}
 
+	/**
+	 * Flush the buffered updates of all {@link CoalescingNamedCache} instances before the
+	 * Coherence sessions are closed, and stop the scheduler used to flush them.
+	 * @param event the {@link ContextClosedEvent}
+	 */
+	@Override
+	public void onApplicationEvent(ContextClosedEvent event) {
+		if (event.getApplicationContext().getAutowireCapableBeanFactory() != this.beanFactory) {
+			return;
+		}
+		for (CoalescingNamedCache<?, ?> cache : this.coalescingInstances.values()) {
+			try {
+				cache.flush();
+			}
+			catch (RuntimeException ex) {
+				logger.error(String.format("Failed to flush %d coalesced updates to cache '%s'.",
+						cache.getPendingCount(), cache.getCacheName()), ex);
+			}
+		}
+		synchronized (this.schedulerLock) {
+			if (this.coalescingScheduler != null) {
+				this.coalescingScheduler.shutdownNow();
+			}
+		}
+	}
+
+	private ScheduledExecutorService getCoalescingScheduler() {
+		synchronized (this.schedulerLock) {
+			if (this.coalescingScheduler == null) {
+				CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coherence-coalescing-");
+				threadFactory.setDaemon(true);
+				this.coalescingScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			}
+			return this.coalescingScheduler;
+		}
+	}
+
 	private boolean hasViewAnnotation(InjectionPoint injectionPoint) {
 		MergedAnnotations mergedAnnotations = getMergedAnnotations(injectionPoint);
 		MergedAnnotation<View> mergedViewAnnotation = mergedAnnotations.get(View.class);
@@ -295,9 +393,19 @@ public class NamedCacheConfiguration {
 		return cacheName;
 	}
 
+	private String determineSessionName(MergedAnnotation<SessionName> mergedSessionNameAnnotation) {
+		if (!mergedSessionNameAnnotation.isPresent() || mergedSessionNameAnnotation.synthesize().value().trim().isEmpty()) {
+			return Coherence.DEFAULT_NAME;
+		}
+		return mergedSessionNameAnnotation.synthesize().value();
+	}
+
 	record CacheId(String name, String scope, String session) {
 	}
 
 	record CqcId(String name, String scope, String session, Set<Annotation> qualifiers) {
 	}
+
+	record CoalescingId(String name, String session, long window, int maxPending) {
+	}
 }
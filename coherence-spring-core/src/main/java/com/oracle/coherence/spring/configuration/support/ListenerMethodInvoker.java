@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration.support;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Invokes a single argument listener {@link Method}, such as a topic listener, map listener
+ * or event observer method. The method is bound once to a function generated by the
+ * {@link LambdaMetafactory}, so invocations avoid the access checks and argument array of
+ * {@link Method#invoke(Object, Object...)}. If no function can be generated, for example
+ * for static methods or classes in modules that are not open, a {@link MethodHandle} is
+ * used instead.
+ * <p>
+ * Exceptions thrown by the method are wrapped in an {@link InvocationTargetException}, the
+ * same as for {@link Method#invoke(Object, Object...)}, so callers can handle them as before.
+ * A target or argument that does not match the method is rejected with an
+ * {@link IllegalArgumentException} before the method is invoked.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+public final class ListenerMethodInvoker {
+
+	private static final Log logger = LogFactory.getLog(ListenerMethodInvoker.class);
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+	private final Method method;
+
+	private final Class<?> targetType;
+
+	private final Class<?> parameterType;
+
+	private final BiFunction<Object, Object, Object> function;
+
+	private final MethodHandle handle;
+
+	/**
+	 * Create a {@link ListenerMethodInvoker}.
+	 * @param method  the listener method, which must take a single parameter
+	 */
+	public ListenerMethodInvoker(Method method) {
+		Assert.notNull(method, "method must not be null");
+		Assert.isTrue(method.getParameterCount() == 1, () -> "The listener method " + method + " must have a single parameter");
+		this.method = method;
+		this.targetType = Modifier.isStatic(method.getModifiers()) ? null : method.getDeclaringClass();
+		this.parameterType = method.getParameterTypes()[0];
+		ReflectionUtils.makeAccessible(method);
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.lookup().unreflect(method);
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Cannot access listener method " + method, ex);
+		}
+		if (Modifier.isStatic(method.getModifiers())) {
+			// the target is ignored for static methods, as it is by Method.invoke
+			this.function = null;
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		else {
+			this.function = createFunction(method, handle);
+		}
+		this.handle = handle.asType(INVOKER_TYPE);
+	}
+
+	// generate a BiFunction calling the method, which the JIT can inline unlike a non-constant MethodHandle
+	@SuppressWarnings("unchecked")
+	private static BiFunction<Object, Object, Object> createFunction(Method method, MethodHandle handle) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			MethodType type = handle.type().wrap();
+			if (method.getReturnType() == void.class) {
+				// a void method can only implement a BiConsumer
+				CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+						MethodType.methodType(void.class, Object.class, Object.class), handle, type.changeReturnType(void.class));
+				BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+				return (target, argument) -> {
+					consumer.accept(target, argument);
+					return null;
+				};
+			}
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(BiFunction.class),
+					INVOKER_TYPE, handle, type);
+			return (BiFunction<Object, Object, Object>) callSite.getTarget().invokeExact();
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Using a MethodHandle to invoke listener method " + method, ex);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Return the invoked {@link Method}.
+	 * @return the invoked {@link Method}
+	 */
+	public Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Invoke the method.
+	 * @param target    the bean to invoke the method on, ignored for static methods
+	 * @param argument  the method argument
+	 * @return the value returned by the method, or {@code null} for {@code void} methods
+	 * @throws InvocationTargetException if the method throws an exception
+	 * @throws IllegalArgumentException if the target or the argument do not match the method
+	 */
+	public Object invoke(Object target, Object argument) throws InvocationTargetException {
+		if (this.targetType != null && !this.targetType.isInstance(target)) {
+			throw new IllegalArgumentException("Cannot invoke listener method " + this.method + " on "
+					+ ((target != null) ? "an instance of " + target.getClass().getName() : "null"));
+		}
+		if (!ClassUtils.isAssignableValue(this.parameterType, argument)) {
+			throw new IllegalArgumentException("Cannot invoke listener method " + this.method + " with "
+					+ ((argument != null) ? "an argument of type " + argument.getClass().getName() : "a null argument"));
+		}
+		try {
+			return (this.function != null)
+					? this.function.apply(target, argument)
+					: this.handle.invokeExact(target, argument);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.method.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,18 +7,24 @@
 package com.oracle.coherence.spring.event;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.oracle.coherence.spring.annotation.event.Synchronous;
+import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
+import com.oracle.coherence.spring.configuration.support.ListenerMethodInvoker;
 import com.oracle.coherence.spring.event.liveevent.MethodEventObserver;
 import com.oracle.coherence.spring.event.mapevent.MethodMapListener;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A Coherence event observer implementation that wraps an {@link Method}.
@@ -42,6 +48,21 @@ public abstract class BaseMethodObserver {
 	protected final Method method;
 	private ApplicationContext applicationContext;
 
+	/**
+	 * The invoker of the executable method.
+	 */
+	private final ListenerMethodInvoker invoker;
+
+	/**
+	 * The target bean, resolved on first use if it is a singleton.
+	 */
+	private volatile Object targetBean;
+
+	/**
+	 * The {@link Executor} for asynchronous notifications, resolved on first use.
+	 */
+	private volatile Executor executor;
+
 	/**
 	 * Create a {@link MethodEventObserver}.
 	 * @param beanName  the spring bean name that has the executable method
@@ -52,15 +73,39 @@ public abstract class BaseMethodObserver {
 		this.beanName = beanName;
 		this.method = method;
 		this.applicationContext = applicationContext;
+		this.invoker = new ListenerMethodInvoker(method);
 	}
 
 	/**
-	 * Return the target bean instance to use.
+	 * Return the target bean instance to use. A singleton bean is only looked up once.
 	 * @return the actual bean from the {@link ApplicationContext} using {@link #beanName}.
 	 */
 	protected Object getTargetBean() {
-		Assert.notNull(this.applicationContext, "ApplicationContext must no be null");
-		return this.applicationContext.getBean(this.beanName);
+		Object bean = this.targetBean;
+		if (bean == null) {
+			Assert.notNull(this.applicationContext, "ApplicationContext must no be null");
+			bean = this.applicationContext.getBean(this.beanName);
+			if (this.applicationContext.isSingleton(this.beanName)) {
+				this.targetBean = bean;
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Invoke the executable method on the {@link #getTargetBean() target bean}. Exceptions
+	 * are handled the same as by {@link ReflectionUtils#invokeMethod(Method, Object, Object...)}.
+	 * @param argument  the method argument
+	 * @return the value returned by the method
+	 */
+	protected Object invoke(Object argument) {
+		try {
+			return this.invoker.invoke(getTargetBean(), argument);
+		}
+		catch (InvocationTargetException ex) {
+			ReflectionUtils.handleReflectionException(ex);
+			throw new IllegalStateException("Should never get here");
+		}
 	}
 
 	public String getId() {
@@ -76,4 +121,23 @@ public abstract class BaseMethodObserver {
 	public boolean isAsync() {
 		return !this.method.isAnnotationPresent(Synchronous.class);
 	}
+
+	/**
+	 * Return the {@link Executor} used to notify asynchronous observers. This is the
+	 * {@link CoherenceSpringConfiguration#COHERENCE_LISTENER_EXECUTOR_BEAN_NAME listener executor}
+	 * bean if the {@link ApplicationContext} defines one, otherwise the
+	 * {@link CompletableFuture#defaultExecutor() default asynchronous executor}.
+	 * @return the {@link Executor} for asynchronous notifications
+	 */
+	public Executor getExecutor() {
+		Executor executor = this.executor;
+		if (executor == null) {
+			executor = (this.applicationContext != null
+					&& this.applicationContext.containsBean(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME))
+					? this.applicationContext.getBean(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME, Executor.class)
+					: new CompletableFuture<Void>().defaultExecutor();
+			this.executor = executor;
+		}
+		return executor;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
 import com.tangosol.net.events.Event;
 import com.tangosol.util.MapEvent;
 import org.apache.commons.logging.Log;
@@ -106,6 +107,13 @@ public class CoherenceEventListenerMethodProcessor implements BeanFactoryPostPro
 				.setLazyInit(true).getBeanDefinition();
 
 		beanDefinitionRegistry.registerBeanDefinition("coherenceEventListenerCandidates", bd);
+
+		// Coherence delivers events until it is stopped, so the listener executor must be shut down after it
+		if (beanFactory.containsBeanDefinition(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME)
+				&& beanFactory.containsBeanDefinition(CoherenceSpringConfiguration.COHERENCE_SERVER_BEAN_NAME)) {
+			beanFactory.registerDependentBean(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME,
+					CoherenceSpringConfiguration.COHERENCE_SERVER_BEAN_NAME);
+		}
 	}
 
 	private void processBean(final String beanName, final Class<?> targetType) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -12,7 +12,6 @@ import com.oracle.coherence.spring.event.BaseMethodObserver;
 import com.tangosol.net.events.Event;
 
 import org.springframework.context.ApplicationContext;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * A Coherence event observer implementation that wraps a {@link Method}.
@@ -35,7 +34,6 @@ public class MethodEventObserver<E extends Event<?>> extends BaseMethodObserver
 	}
 
 	public void notify(E event) {
-		ReflectionUtils.makeAccessible(this.method); //TODO
-		ReflectionUtils.invokeMethod(this.method, this.getTargetBean(), event);
+		invoke(event);
 	}
 }
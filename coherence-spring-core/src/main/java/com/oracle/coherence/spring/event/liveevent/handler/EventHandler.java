@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -83,7 +83,7 @@ public abstract class EventHandler<E extends Event<T>, T extends Enum<T>>
 					CompletableFuture.supplyAsync(() -> {
 						this.observer.notify(event);
 						return event;
-					});
+					}, this.observer.getExecutor());
 				}
 				else {
 					this.observer.notify(event);
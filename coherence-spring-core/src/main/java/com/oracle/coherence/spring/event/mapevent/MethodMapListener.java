@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -13,7 +13,6 @@ import com.oracle.coherence.spring.event.liveevent.MethodEventObserver;
 import com.tangosol.util.MapEvent;
 
 import org.springframework.context.ApplicationContext;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link BaseMethodObserver} that wraps a map listener {@link Method}.
@@ -41,7 +40,6 @@ public class MethodMapListener<K, V> extends BaseMethodObserver {
 	 * @param event the map event
 	 */
 	void notify(MapEvent<K, V> event) {
-		ReflectionUtils.makeAccessible(this.method); //TODO
-		ReflectionUtils.invokeMethod(this.method, this.getTargetBean(), event);
+		invoke(event);
 	}
 }
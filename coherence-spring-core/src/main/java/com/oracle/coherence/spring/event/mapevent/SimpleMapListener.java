@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -277,7 +277,7 @@ public class SimpleMapListener<K, V> implements MapListener<K, V>, Comparable<Si
 				CompletableFuture.supplyAsync(() -> {
 					this.observer.notify(event);
 					return event;
-				});
+				}, this.observer.getExecutor());
 			}
 			else {
 				this.observer.notify(event);
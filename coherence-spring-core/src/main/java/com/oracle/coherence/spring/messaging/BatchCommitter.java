@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.messaging;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.spring.annotation.CommitStrategy;
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.util.Assert;
+
+/**
+ * Tracks the highest processed position of each channel for a subscriber using
+ * {@link CommitStrategy#BATCH} and commits them together. Positions are committed once a
+ * number of messages has been processed, periodically and when the subscriber is closed.
+ * <p>
+ * Coherence only notifies a subscriber that channels have been revoked or lost once they
+ * are no longer owned by it, when their positions can no longer be committed. The pending
+ * positions of those channels are dropped, so the messages processed since the last commit
+ * are received again by the new owner of the channels.
+ *
+ * @author agent (agent@local)
+ * @since 4.3.2
+ */
+class BatchCommitter implements Subscriber.ChannelOwnershipListener {
+
+	private static final Log logger = LogFactory.getLog(BatchCommitter.class);
+
+	private final int commitEvery;
+
+	private final Map<Integer, Position> pending = new HashMap<>();
+
+	private final Disposable timer;
+
+	private Subscriber<?> subscriber;
+
+	private int processed;
+
+	/**
+	 * Create a {@link BatchCommitter}.
+	 * @param commitEvery     the number of processed messages after which positions are committed
+	 * @param commitInterval  the interval in milliseconds at which positions are committed,
+	 *                        or {@code 0} to only commit by count
+	 * @param scheduler       the scheduler running the periodic commit
+	 */
+	BatchCommitter(int commitEvery, long commitInterval, Scheduler scheduler) {
+		Assert.isTrue(commitEvery > 0, "commitEvery must be greater than 0");
+		Assert.isTrue(commitInterval >= 0, "commitInterval must not be negative");
+		this.commitEvery = commitEvery;
+		this.timer = (commitInterval > 0)
+				? scheduler.schedulePeriodically(this::commit, commitInterval, commitInterval, TimeUnit.MILLISECONDS)
+				: null;
+	}
+
+	/**
+	 * Return the highest position of each channel in the given elements.
+	 * @param elements  the elements
+	 * @return the highest position of each channel
+	 */
+	static Map<Integer, Position> highestPositions(List<? extends Subscriber.Element<?>> elements) {
+		Map<Integer, Position> positions = new HashMap<>();
+		for (Subscriber.Element<?> element : elements) {
+			positions.merge(element.getChannel(), element.getPosition(),
+					(current, position) -> (position.compareTo(current) > 0) ? position : current);
+		}
+		return positions;
+	}
+
+	/**
+	 * Set the {@link Subscriber} to commit positions for. The committer is registered as an
+	 * option of that subscriber, so it can only be set once the subscriber exists.
+	 * @param subscriber  the subscriber
+	 */
+	synchronized void setSubscriber(Subscriber<?> subscriber) {
+		this.subscriber = subscriber;
+	}
+
+	/**
+	 * Record that the given elements have been processed, committing the pending positions
+	 * if enough messages have been processed since the last commit.
+	 * @param elements  the processed elements
+	 */
+	void processed(List<? extends Subscriber.Element<?>> elements) {
+		boolean commit;
+		synchronized (this) {
+			highestPositions(elements).forEach((channel, position) ->
+					this.pending.merge(channel, position, (current, next) -> (next.compareTo(current) > 0) ? next : current));
+			this.processed += elements.size();
+			commit = this.processed >= this.commitEvery;
+		}
+		if (commit) {
+			commit();
+		}
+	}
+
+	/**
+	 * Asynchronously commit all pending positions.
+	 */
+	void commit() {
+		commitAsync(takePending(null));
+	}
+
+	/**
+	 * Stop the periodic commit and commit all pending positions, waiting for the commit to
+	 * complete.
+	 */
+	void close() {
+		if (this.timer != null) {
+			this.timer.dispose();
+		}
+		commitAndWait(takePending(null));
+	}
+
+	@Override
+	public void onChannelsAssigned(Set<Integer> channels) {
+		// nothing has been processed from newly assigned channels yet
+	}
+
+	@Override
+	public void onChannelsRevoked(Set<Integer> channels) {
+		dropPending(channels, "revoked");
+	}
+
+	@Override
+	public void onChannelsLost(Set<Integer> channels) {
+		dropPending(channels, "lost");
+	}
+
+	// the channels are already owned by another subscriber, so their positions cannot be committed
+	private void dropPending(Set<Integer> channels, String reason) {
+		Map<Integer, Position> dropped = takePending(channels);
+		if (!dropped.isEmpty() && logger.isWarnEnabled()) {
+			logger.warn(String.format("Channels %s were %s before positions %s could be committed, messages after the"
+					+ " last committed positions will be received again", channels, reason, dropped));
+		}
+	}
+
+	// remove and return the pending positions of the given channels, or of all channels if null
+	private synchronized Map<Integer, Position> takePending(Set<Integer> channels) {
+		Map<Integer, Position> positions;
+		if (channels == null) {
+			positions = new HashMap<>(this.pending);
+			this.pending.clear();
+			this.processed = 0;
+		}
+		else {
+			positions = new HashMap<>();
+			for (Integer channel : channels) {
+				Position position = this.pending.remove(channel);
+				if (position != null) {
+					positions.put(channel, position);
+				}
+			}
+		}
+		return positions;
+	}
+
+	private CompletableFuture<Void> commitAsync(Map<Integer, Position> positions) {
+		Subscriber<?> subscriber;
+		synchronized (this) {
+			subscriber = this.subscriber;
+		}
+		if (positions.isEmpty() || subscriber == null || !subscriber.isActive()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		try {
+			return subscriber.commitAsync(positions).handle((results, error) -> {
+				if (error != null) {
+					// With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+					logger.error(String.format("Error committing positions %s", positions), error);
+				}
+				else {
+					results.forEach((channel, result) -> {
+						if (!result.isSuccess()) {
+							logger.error(String.format("Failed to commit channel=%s status %s", channel, result));
+						}
+					});
+				}
+				return null;
+			});
+		}
+		catch (Throwable thrown) {
+			logger.error(String.format("Error committing positions %s", positions), thrown);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	private void commitAndWait(Map<Integer, Position> positions) {
+		try {
+			commitAsync(positions).join();
+		}
+		catch (Throwable thrown) {
+			logger.error(String.format("Error committing positions %s", positions), thrown);
+		}
+	}
+}
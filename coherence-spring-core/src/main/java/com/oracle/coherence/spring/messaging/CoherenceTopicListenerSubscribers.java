@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,6 +10,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,7 +18,11 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,13 +33,16 @@ import com.oracle.coherence.spring.annotation.ExtractorBinding;
 import com.oracle.coherence.spring.annotation.FilterBinding;
 import com.oracle.coherence.spring.annotation.SessionName;
 import com.oracle.coherence.spring.annotation.SubscriberGroup;
+import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
 import com.oracle.coherence.spring.configuration.ExtractorService;
 import com.oracle.coherence.spring.configuration.FilterService;
+import com.oracle.coherence.spring.configuration.support.ListenerMethodInvoker;
 import com.oracle.coherence.spring.messaging.exceptions.CoherenceSubscriberException;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
 import com.tangosol.net.events.CoherenceLifecycleEvent;
 import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Position;
 import com.tangosol.net.topic.Publisher;
 import com.tangosol.net.topic.Subscriber;
 import com.tangosol.util.Filter;
@@ -49,13 +57,16 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -73,22 +84,51 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 	private final List<TopicSubscriber<?, ?, ?>> subscribers = new ArrayList<>();
 	private ApplicationContext applicationContext;
 	private final Scheduler scheduler;
+	private final boolean dispatchToScheduler;
 	private boolean subscribed;
 
 	public CoherenceTopicListenerSubscribers(FilterService filterService,
 											ExtractorService extractorService,
 											CoherenceTopicListenerCandidates candidates,
 											@Named("consumers") Optional<ExecutorService> executorService) {
+		this(filterService, extractorService, candidates, executorService, Optional.empty());
+	}
+
+	/**
+	 * Create the bean for {@literal @}{@link CoherenceTopicListener} subscribers. If a
+	 * listener executor is available, every listener method is invoked on it rather than
+	 * on the Coherence thread that completed the receive.
+	 * @param filterService     the service resolving filter bindings
+	 * @param extractorService  the service resolving extractor bindings
+	 * @param candidates        the listener methods to subscribe
+	 * @param executorService   the optional executor for subscriber lanes and {@link SendTo} results
+	 * @param listenerExecutor  the optional executor used to invoke listener methods
+	 */
+	@Autowired
+	public CoherenceTopicListenerSubscribers(FilterService filterService,
+											ExtractorService extractorService,
+											CoherenceTopicListenerCandidates candidates,
+											@Named("consumers") Optional<ExecutorService> executorService,
+											@Named(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME) Optional<Executor> listenerExecutor) {
 		this.filterService = filterService;
 		this.extractorService = extractorService;
 		this.candidates = candidates;
-		this.scheduler = executorService.map(Schedulers::fromExecutor).orElseGet(Schedulers::parallel);
+		this.dispatchToScheduler = listenerExecutor.isPresent();
+		this.scheduler = listenerExecutor.map(Schedulers::fromExecutor)
+				.or(() -> executorService.map(Schedulers::fromExecutor))
+				.orElseGet(Schedulers::parallel);
 	}
 
 	public boolean isSubscribed() {
 		return this.subscribed;
 	}
 
+	List<TopicSubscriber<?, ?, ?>> getSubscribers(String topicName) {
+		return this.subscribers.stream()
+				.filter((subscriber) -> subscriber.getTopicName().equals(topicName))
+				.collect(Collectors.toList());
+	}
+
 	@Override
 	public void onEvent(CoherenceLifecycleEvent event) {
 		if (event.getType() == CoherenceLifecycleEvent.Type.STARTED) {
@@ -186,18 +226,47 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 					}
 				}
 
+				Optional<CoherenceTopicListener> listener = Optional.ofNullable(AnnotationUtils.getAnnotation(method, CoherenceTopicListener.class));
+				boolean batchCommit = listener.map(CoherenceTopicListener::commitStrategy)
+						.filter((strategy) -> strategy == CommitStrategy.BATCH)
+						.isPresent();
+				int concurrency = listener.map(CoherenceTopicListener::concurrency).orElse(1);
+				Assert.isTrue(concurrency > 0, () -> "The concurrency of " + method + " must be greater than 0");
+				if (concurrency > 1 && !subscriberGroupAnn.isPresent()) {
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Ignoring concurrency %d for @CoherenceTopicListener annotated method %s - a @SubscriberGroup is required",
+								concurrency, method));
+					}
+					concurrency = 1;
+				}
+
 				NamedTopic<?> topic = session.getTopic(topicName);
-				Subscriber<?> subscriber = topic.createSubscriber(options.toArray(new Subscriber.Option[0]));
 				Object bean = this.applicationContext.getBean(beanName);
-				TopicSubscriber<?, ?, ?> topicSubscriber = new TopicSubscriber<>(
-						topicName,
-						subscriber,
-						sendToPublishers,
-						bean,
-						method,
-						this.scheduler);
-				this.subscribers.add(topicSubscriber);
-				topicSubscriber.nextMessage();
+				for (int i = 0; i < concurrency; i++) {
+					List<Subscriber.Option> subscriberOptions = new ArrayList<>(options);
+					BatchCommitter committer = null;
+					if (batchCommit) {
+						// the periodic commit needs a time capable scheduler, which an executor based one is not
+						committer = new BatchCommitter(listener.get().commitEvery(), listener.get().commitInterval(), Schedulers.parallel());
+						subscriberOptions.add(Subscriber.ChannelOwnershipListeners.withListener(committer));
+					}
+					// subscribers in the same group share the channels, so each gets its own lane
+					Subscriber<?> subscriber = topic.createSubscriber(subscriberOptions.toArray(new Subscriber.Option[0]));
+					if (committer != null) {
+						committer.setSubscriber(subscriber);
+					}
+					TopicSubscriber<?, ?, ?> topicSubscriber = new TopicSubscriber<>(
+							topicName,
+							subscriber,
+							sendToPublishers,
+							bean,
+							method,
+							this.scheduler,
+							(concurrency > 1 || this.dispatchToScheduler) ? this.scheduler.createWorker() : null,
+							committer);
+					this.subscribers.add(topicSubscriber);
+					topicSubscriber.nextMessage();
+				}
 			}
 		}
 		this.subscribed = true;
@@ -279,11 +348,28 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 */
 		private final Method method;
 
+		/**
+		 * The invoker of the {@link Method}.
+		 */
+		private final ListenerMethodInvoker invoker;
+
 		/**
 		 * The scheduler service.
 		 */
 		private final Scheduler scheduler;
 
+		/**
+		 * The optional worker that serializes invocations of the {@link Method} for this
+		 * subscriber, or {@code null} to invoke it on the thread completing the receive.
+		 */
+		private final Scheduler.Worker lane;
+
+		/**
+		 * The committer tracking processed positions if the commit strategy is
+		 * {@link CommitStrategy#BATCH}, otherwise {@code null}.
+		 */
+		private final BatchCommitter committer;
+
 		/**
 		 * The commit strategy to use to commit received messages.
 		 */
@@ -295,6 +381,32 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 */
 		private final Class<?> paramClass;
 
+		/**
+		 * Whether the {@link Method} accepts a {@link List} of elements or values.
+		 */
+		private final boolean batchListener;
+
+		/**
+		 * Whether a batch {@link Method} accepts a {@link List} of {@link Subscriber.Element elements}.
+		 */
+		private final boolean elementBatch;
+
+		/**
+		 * The maximum number of elements passed to a batch {@link Method}.
+		 */
+		private final int batchSize;
+
+		/**
+		 * The maximum time in milliseconds to wait for a batch to fill up.
+		 */
+		private final long maxWait;
+
+		/**
+		 * A batch receive request that was still outstanding when the previous batch was
+		 * dispatched. Its elements will start the next batch.
+		 */
+		private CompletableFuture<List<Subscriber.Element<E>>> pendingReceive;
+
 		/**
 		 * Create a {@link TopicSubscriber}.
 		 *
@@ -304,23 +416,49 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 * @param bean             the bean declaring the {@link Method}
 		 * @param method           the {@link Method} to forward topic elements to
 		 * @param scheduler        the scheduler service
+		 * @param lane             the optional worker to invoke the {@link Method} on
+		 * @param committer        the committer for the {@link CommitStrategy#BATCH} strategy
 		 */
 		TopicSubscriber(String topicName, Subscriber<E> subscriber, Publisher<?>[] publishers, T bean,
-						Method method, Scheduler scheduler) {
+						Method method, Scheduler scheduler, Scheduler.Worker lane, BatchCommitter committer) {
 			this.topicName = topicName;
 			this.subscriber = subscriber;
 			this.publishers = publishers;
 			this.bean = bean;
 			this.method = method;
+			this.invoker = new ListenerMethodInvoker(method);
 			this.scheduler = scheduler;
-			this.commitStrategy = Optional.ofNullable(AnnotationUtils.getAnnotation(method, CoherenceTopicListener.class))
+			this.lane = lane;
+			this.committer = committer;
+			Optional<CoherenceTopicListener> listener = Optional.ofNullable(AnnotationUtils.getAnnotation(method, CoherenceTopicListener.class));
+			this.commitStrategy = listener
 					.map(CoherenceTopicListener::commitStrategy)
 					.orElse(CommitStrategy.SYNC);
 			this.paramClass = method.getParameterTypes()[0];
+			this.batchListener = List.class.equals(this.paramClass);
+			Class<?> batchElementClass = ResolvableType.forMethodParameter(method, 0).getGeneric(0).resolve();
+			this.elementBatch = this.batchListener && batchElementClass != null
+					&& Subscriber.Element.class.isAssignableFrom(batchElementClass);
+			this.batchSize = listener.map(CoherenceTopicListener::batchSize).orElse(100);
+			this.maxWait = listener.map(CoherenceTopicListener::maxWait).orElse(0L);
+			Assert.isTrue(this.batchSize > 0, () -> "The batchSize of " + method + " must be greater than 0");
+			Assert.isTrue(this.maxWait >= 0, () -> "The maxWait of " + method + " must not be negative");
+		}
+
+		String getTopicName() {
+			return this.topicName;
+		}
+
+		Subscriber<E> getSubscriber() {
+			return this.subscriber;
 		}
 
 		@Override
 		public void close() {
+			if (this.committer != null) {
+				// commit everything processed so far before the subscriber goes away
+				this.committer.close();
+			}
 			try {
 				this.subscriber.close();
 			}
@@ -329,6 +467,9 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 					logger.error(String.format("Error closing subscriber for topic %s",  this.topicName), throwable);
 				}
 			}
+			if (this.lane != null) {
+				this.lane.dispose();
+			}
 		}
 
 		/**
@@ -337,9 +478,15 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 		 * end and the {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
 		 */
 		private void nextMessage() {
-			if (this.subscriber.isActive()) {
-				this.subscriber.receive().handle(this::handleMessage)
-						.handle((v, err) -> {
+			if (this.batchListener) {
+				receiveBatch(new ArrayList<>(this.batchSize), 0L);
+			}
+			else if (this.subscriber.isActive()) {
+				CompletableFuture<Subscriber.Element<E>> receive = this.subscriber.receive();
+				CompletableFuture<Void> handled = (this.lane != null)
+						? receive.handleAsync(this::handleMessage, this::execute)
+						: receive.handle(this::handleMessage);
+				handled.handle((v, err) -> {
 							if (err != null) {
 								if (logger.isErrorEnabled()) {
 									logger.error(String.format("Error requesting message from topic %s for method %s - subscriber will be closed",
@@ -375,7 +522,7 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 					Object value = (Subscriber.Element.class.isAssignableFrom(this.paramClass) && this.paramClass.isAssignableFrom(subscriberElementClass))
 							? element
 							: element.getValue();
-					Object result = this.method.invoke(this.bean, value);
+					Object result = this.invoker.invoke(this.bean, value);
 					handleResult(result);
 				}
 				catch (Throwable thrown) {
@@ -389,7 +536,10 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 			if (error == null) {
 				// message processed successfully, do any commit action
 				try {
-					if (this.commitStrategy != CommitStrategy.MANUAL) {
+					if (this.committer != null) {
+						this.committer.processed(List.of(element));
+					}
+					else if (this.commitStrategy != CommitStrategy.MANUAL) {
 						CompletableFuture<Subscriber.CommitResult> future = element.commitAsync();
 						if (this.commitStrategy == CommitStrategy.ASYNC) {
 							// async commit, so log any failure in a future handler
@@ -429,19 +579,177 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 				action = handleException(this.subscriber, this.method, element, error);
 			}
 
+			proceed(action);
+			return VOID;
+		}
+
+		/**
+		 * <p>Receive elements for a batch listener {@link Method} until the batch is full
+		 * or the {@code maxWait} time has elapsed since its first element was received,
+		 * then pass the batch to {@link #handleBatch(List)}.</p>
+		 * <p>If requesting elements throws an exception the subscription will
+		 * end and the {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
+		 * @param batch     the elements received so far
+		 * @param deadline  the time in milliseconds at which a partial batch is dispatched,
+		 *                  or {@code 0} if the batch is empty
+		 */
+		private void receiveBatch(List<Subscriber.Element<E>> batch, long deadline) {
+			if (!this.subscriber.isActive()) {
+				return;
+			}
+			CompletableFuture<List<Subscriber.Element<E>>> receive = (this.pendingReceive != null)
+					? this.pendingReceive
+					: this.subscriber.receive(this.batchSize - batch.size());
+			this.pendingReceive = receive;
+
+			List<Subscriber.Element<E>> timedOut = new ArrayList<>(0);
+			BiFunction<List<Subscriber.Element<E>>, Throwable, Void> handler = (elements, err) -> {
+				if (err != null) {
+					this.pendingReceive = null;
+					if (!(err instanceof CancellationException) && logger.isErrorEnabled()) {
+						logger.error(String.format("Error requesting messages from topic %s for method %s - subscriber will be closed",
+								this.topicName, this.method), err);
+					}
+					this.subscriber.close();
+					return VOID;
+				}
+				if (elements != timedOut) {
+					// the outstanding receive completed, so its elements belong to this batch
+					this.pendingReceive = null;
+					batch.addAll(elements);
+				}
+				long batchDeadline = (deadline == 0L) ? System.currentTimeMillis() + this.maxWait : deadline;
+				boolean wait = elements != timedOut && batch.size() < this.batchSize
+						&& System.currentTimeMillis() < batchDeadline;
+				if (batch.isEmpty() || wait) {
+					receiveBatch(batch, (batch.isEmpty()) ? 0L : batchDeadline);
+				}
+				else {
+					handleBatch(batch);
+				}
+				return VOID;
+			};
+
+			if (batch.isEmpty() && this.lane == null) {
+				receive.handle(handler);
+			}
+			else if (batch.isEmpty()) {
+				receive.handleAsync(handler, this::execute);
+			}
+			else {
+				// a timeout completes on the JDK's shared delay thread, so hand off to the scheduler
+				receive.copy()
+						.completeOnTimeout(timedOut, Math.max(deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS)
+						.handleAsync(handler, this::execute);
+			}
+		}
+
+		// run a task on this subscriber's lane if it has one, otherwise on the shared scheduler
+		private void execute(Runnable task) {
+			try {
+				if (this.lane != null) {
+					this.lane.schedule(task);
+				}
+				else {
+					this.scheduler.schedule(task);
+				}
+			}
+			catch (RejectedExecutionException ex) {
+				// the lane has been disposed because the subscriber is closing, or the listener executor rejected the task,
+				// so run it here rather than skip the message
+				task.run();
+			}
+		}
+
+		/**
+		 * <p>Pass a batch of elements to the {@link Method} and commit the highest position
+		 * of each channel in the batch, then request the next batch.</p>
+		 * <p>If the call to the {@link Method} throws an exception the batch is not
+		 * committed and the {@link SubscriberExceptionHandler.Action} determines whether the
+		 * subscription continues.</p>
+		 * @param batch  the elements received
+		 */
+		private void handleBatch(List<Subscriber.Element<E>> batch) {
+			SubscriberExceptionHandler.Action action = SubscriberExceptionHandler.Action.Continue;
+			try {
+				List<Object> values = new ArrayList<>(batch.size());
+				for (Subscriber.Element<E> element : batch) {
+					values.add((this.elementBatch) ? element : element.getValue());
+				}
+				Object result = this.invoker.invoke(this.bean, values);
+				handleResult(result);
+				commitBatch(batch);
+			}
+			catch (Throwable thrown) {
+				action = handleException(this.subscriber, this.method, batch.get(batch.size() - 1), thrown);
+			}
+			proceed(action);
+		}
+
+		/**
+		 * Commit the highest position of each channel in a processed batch.
+		 * @param batch  the processed elements
+		 */
+		private void commitBatch(List<Subscriber.Element<E>> batch) {
+			if (this.commitStrategy == CommitStrategy.MANUAL) {
+				return;
+			}
+			if (this.committer != null) {
+				this.committer.processed(batch);
+				return;
+			}
+			Map<Integer, Position> positions = BatchCommitter.highestPositions(batch);
+			try {
+				CompletableFuture<Map<Integer, Subscriber.CommitResult>> future = this.subscriber.commitAsync(positions);
+				if (this.commitStrategy == CommitStrategy.ASYNC) {
+					// async commit, so log any failure in a future handler
+					future.handle((results, commitError) -> {
+						if (commitError != null) {
+							logger.error(String.format("Error committing positions %s", positions), commitError);
+						}
+						else {
+							logCommitFailures(results);
+						}
+						return VOID;
+					});
+				}
+				else {
+					// sync commit so wait for it to complete
+					logCommitFailures(future.join());
+				}
+			}
+			catch (Throwable thrown) {
+				// With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+				logger.error(String.format("Error committing positions %s", positions), thrown);
+			}
+		}
+
+		private void logCommitFailures(Map<Integer, Subscriber.CommitResult> results) {
+			results.forEach((channel, result) -> {
+				if (!result.isSuccess()) {
+					// With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
+					logger.error(String.format("Failed to commit channel=%s status %s", channel, result));
+				}
+			});
+		}
+
+		/**
+		 * Request the next message or batch, or close the subscriber, depending on the
+		 * outcome of handling the previous one.
+		 * @param action  the {@link SubscriberExceptionHandler.Action} to take
+		 */
+		private void proceed(SubscriberExceptionHandler.Action action) {
 			switch (action) {
 				case Continue:
 					nextMessage();
 					break;
 				case Stop:
-					this.subscriber.close();
+					close();
 					break;
 				default:
 					logger.error(String.format("Unknown SubscriberExceptionHandler.Action %s closing subscriber", action));
-					this.subscriber.close();
+					close();
 			}
-
-			return VOID;
 		}
 
 		/**
@@ -473,9 +781,17 @@ public class CoherenceTopicListenerSubscribers implements ApplicationContextAwar
 						});
 			}
 			else {
-				Flux<?> resultFlux = (Publishers.isConvertibleToPublisher(result.getClass()))
-						? Publishers.convertPublisher(result, Flux.class)
-						: Flux.just(result);
+				Flux<?> resultFlux;
+				if (Publishers.isConvertibleToPublisher(result.getClass())) {
+					resultFlux = Publishers.convertPublisher(result, Flux.class);
+				}
+				else if (this.batchListener && result instanceof Collection) {
+					// a batch listener returns one result per element
+					resultFlux = Flux.fromIterable((Collection<?>) result);
+				}
+				else {
+					resultFlux = Flux.just(result);
+				}
 				handleResultFlux(this.method, resultFlux);
 			}
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,7 @@ package com.oracle.coherence.spring.namespace;
 import java.text.ParseException;
 import java.util.Objects;
 
+import com.oracle.coherence.spring.cachestore.CacheStoreDecorators;
 import com.tangosol.coherence.config.ParameterList;
 import com.tangosol.coherence.config.ParameterMacroExpressionParser;
 import com.tangosol.coherence.config.builder.ParameterizedBuilder;
@@ -63,7 +64,8 @@ public class BeanBuilder implements ParameterizedBuilder<Object>, ParameterizedB
 
 		String beanName = this.beanNameExpression.evaluate(parameterResolver);
 		try {
-			return this.context.getBean(beanName);
+			return CacheStoreDecorators.decorate(this.context.getBean(beanName), beanName, this.context,
+					parameterResolver);
 		}
 		catch (Exception ex) {
 			throw new ConfigurationException(String.format("Cannot resolve bean '%s', ", beanName),
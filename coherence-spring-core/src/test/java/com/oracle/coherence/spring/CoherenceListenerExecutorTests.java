@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.coherence.spring.annotation.CoherenceTopicListener;
+import com.oracle.coherence.spring.annotation.Topic;
+import com.oracle.coherence.spring.annotation.event.Inserted;
+import com.oracle.coherence.spring.annotation.event.MapName;
+import com.oracle.coherence.spring.configuration.CoherenceSpringConfiguration;
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.oracle.coherence.spring.configuration.session.SessionConfigurationBean;
+import com.oracle.coherence.spring.configuration.session.SessionType;
+import com.oracle.coherence.spring.event.CoherenceEventListener;
+import com.oracle.coherence.spring.messaging.CoherenceTopicListenerSubscribers;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+import com.tangosol.net.topic.Publisher;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+@SpringJUnitConfig(CoherenceListenerExecutorTests.Config.class)
+@DirtiesContext
+class CoherenceListenerExecutorTests {
+
+	static final String THREAD_NAME_PREFIX = "test-listener-";
+
+	@Inject
+	Coherence coherence;
+
+	@Inject
+	Listeners listeners;
+
+	@Inject
+	CoherenceTopicListenerSubscribers subscribers;
+
+	@Test
+	void shouldInvokeTopicListenerOnListenerExecutor() throws Exception {
+		Eventually.assertDeferred(() -> this.subscribers.isSubscribed(), is(true));
+		try (Publisher<String> publisher = this.coherence.getSession().<String>getTopic("executor-topic").createPublisher()) {
+			publisher.publish("message").get(1, TimeUnit.MINUTES);
+		}
+
+		Eventually.assertDeferred(() -> this.listeners.topicThread, is(notNullValue()));
+		assertThat(this.listeners.topicThread, startsWith(THREAD_NAME_PREFIX));
+	}
+
+	@Test
+	void shouldNotifyAsyncEventObserversOnListenerExecutor() {
+		NamedCache<String, String> cache = this.coherence.getSession().getCache("executor-cache");
+		cache.put("key", "value");
+
+		Eventually.assertDeferred(() -> this.listeners.entryEventThread, is(notNullValue()));
+		assertThat(this.listeners.entryEventThread, startsWith(THREAD_NAME_PREFIX));
+	}
+
+	public static class Listeners {
+
+		volatile String topicThread;
+
+		volatile String entryEventThread;
+
+		@CoherenceTopicListener
+		@Topic("executor-topic")
+		public void onMessage(String message) {
+			this.topicThread = Thread.currentThread().getName();
+		}
+
+		@CoherenceEventListener
+		void onEntryEvent(@Inserted @MapName("executor-cache") EntryEvent<String, String> event) {
+			this.entryEventThread = Thread.currentThread().getName();
+		}
+	}
+
+	@Configuration
+	@EnableCoherence
+	static class Config {
+
+		@Bean
+		Listeners listeners() {
+			return new Listeners();
+		}
+
+		@Bean
+		SessionConfigurationBean sessionConfigurationBeanDefault() {
+			final SessionConfigurationBean sessionConfigurationBean = new SessionConfigurationBean();
+			sessionConfigurationBean.setType(SessionType.SERVER);
+			sessionConfigurationBean.setConfig("coherence-cache-config.xml");
+			sessionConfigurationBean.setName("default");
+			return sessionConfigurationBean;
+		}
+
+		@Bean(CoherenceSpringConfiguration.COHERENCE_LISTENER_EXECUTOR_BEAN_NAME)
+		ThreadPoolTaskExecutor coherenceListenerExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(2);
+			executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+			return executor;
+		}
+	}
+}
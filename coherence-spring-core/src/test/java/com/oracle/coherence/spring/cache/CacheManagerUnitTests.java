@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,15 +7,24 @@
 package com.oracle.coherence.spring.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  *
@@ -51,4 +60,71 @@ public class CacheManagerUnitTests {
 		final CoherenceCacheConfiguration configuredCacheConfiguration = (CoherenceCacheConfiguration) ReflectionTestUtils.getField(cacheManager, "defaultCacheConfiguration");
 		assertThat(configuredCacheConfiguration.getTimeToLive()).isEqualTo(Duration.ofMillis(4444));
 	}
+
+	@Test
+	public void instantiateCacheManagerWithPerCacheConfiguration() {
+		final Coherence coherence = mock(Coherence.class);
+		final Session session = mock(Session.class);
+		when(coherence.getSession()).thenReturn(session);
+		when(session.getCache(anyString())).thenReturn(mock(NamedCache.class));
+
+		final CoherenceCacheConfiguration defaultCacheConfiguration = new CoherenceCacheConfiguration(Duration.ofMinutes(5));
+		final CoherenceCacheConfiguration volatileCacheConfiguration = new CoherenceCacheConfiguration(Duration.ofSeconds(5));
+		volatileCacheConfiguration.setUseLocks(false);
+		volatileCacheConfiguration.setUseCacheNamePrefix(true);
+		volatileCacheConfiguration.setCacheNamePrefix("volatile_");
+
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence, defaultCacheConfiguration,
+				Collections.singletonMap("quotes", volatileCacheConfiguration));
+
+		final CoherenceCache quotesCache = (CoherenceCache) cacheManager.getCache("quotes");
+		final CoherenceCache countriesCache = (CoherenceCache) cacheManager.getCache("countries");
+
+		assertThat(quotesCache.getCacheConfiguration()).isSameAs(volatileCacheConfiguration);
+		assertThat(quotesCache.getCacheConfiguration().getTimeToLive()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(quotesCache.getCacheConfiguration().isUseLocks()).isFalse();
+		assertThat(countriesCache.getCacheConfiguration()).isSameAs(defaultCacheConfiguration);
+		assertThat(cacheManager.getCacheConfiguration("unknown")).isSameAs(defaultCacheConfiguration);
+
+		verify(session).getCache("volatile_quotes");
+		verify(session).getCache("countries");
+	}
+
+	@Test
+	public void cacheCreationCallbackIsInvokedOncePerCache() {
+		final Coherence coherence = mock(Coherence.class);
+		final Session session = mock(Session.class);
+		when(coherence.getSession()).thenReturn(session);
+		when(session.getCache(anyString())).thenReturn(mock(NamedCache.class));
+
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence);
+		final List<CoherenceCache> createdCaches = new ArrayList<>();
+		cacheManager.addCacheCreationCallback(createdCaches::add);
+
+		final Cache quotesCache = cacheManager.getCache("quotes");
+		assertThat(cacheManager.getCache("quotes")).isSameAs(quotesCache);
+		final Cache countriesCache = cacheManager.getCache("countries");
+
+		assertThat(createdCaches).containsExactly((CoherenceCache) quotesCache, (CoherenceCache) countriesCache);
+	}
+
+	@Test
+	public void transactionAwareCacheManagerDecoratesCaches() {
+		final Coherence coherence = mock(Coherence.class);
+		final Session session = mock(Session.class);
+		when(coherence.getSession()).thenReturn(session);
+		when(session.getCache(anyString())).thenReturn(mock(NamedCache.class));
+
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(coherence);
+		cacheManager.setTransactionAware(true);
+		final List<CoherenceCache> createdCaches = new ArrayList<>();
+		cacheManager.addCacheCreationCallback(createdCaches::add);
+
+		final Cache quotesCache = cacheManager.getCache("quotes");
+
+		assertThat(cacheManager.isTransactionAware()).isTrue();
+		assertThat(quotesCache).isInstanceOf(TransactionAwareCoherenceCache.class);
+		assertThat(cacheManager.getCache("quotes")).isSameAs(quotesCache);
+		assertThat(createdCaches).containsExactly(((TransactionAwareCoherenceCache) quotesCache).getTargetCache());
+	}
 }
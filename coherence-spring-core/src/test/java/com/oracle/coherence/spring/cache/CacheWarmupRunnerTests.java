@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+import com.tangosol.net.cache.WrapperNamedCache;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class CacheWarmupRunnerTests {
+
+	@Test
+	public void warmUpCacheInParallelChunks() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new ConcurrentHashMap<>(), "books");
+		final Set<String> loadingThreads = ConcurrentHashMap.newKeySet();
+		final List<Integer> keys = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+
+		final CacheWarmupRunner runner = new CacheWarmupRunner(createCacheManager(namedCache),
+				Collections.singletonList(new TestCacheWarmer(keys, (chunk) -> {
+					loadingThreads.add(Thread.currentThread().getName());
+					return chunk.stream().collect(Collectors.toMap(Function.identity(), (key) -> "book" + key));
+				})));
+		runner.setChunkSize(10);
+		runner.setParallelism(2);
+		runner.start();
+
+		assertThat(runner.isRunning()).isTrue();
+		assertThat(namedCache).hasSize(25).containsEntry(24, "book24");
+		assertThat(runner.getTotalChunkCount()).isEqualTo(3);
+		assertThat(runner.getLoadedChunkCount()).isEqualTo(3);
+		assertThat(runner.getFailedChunkCount()).isZero();
+		assertThat(runner.getLoadedEntryCount()).isEqualTo(25);
+		assertThat(loadingThreads).allMatch((name) -> name.startsWith("coherence-cache-warmup-"));
+	}
+
+	@Test
+	public void failedChunksAreSkipped() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new ConcurrentHashMap<>(), "books");
+		final List<Integer> keys = IntStream.range(0, 4).boxed().collect(Collectors.toList());
+
+		final CacheWarmupRunner runner = new CacheWarmupRunner(createCacheManager(namedCache),
+				Collections.singletonList(new TestCacheWarmer(keys, (chunk) -> {
+					if (chunk.contains(0)) {
+						throw new IllegalStateException("Database unavailable.");
+					}
+					final Map<Integer, String> values = new HashMap<>();
+					chunk.forEach((key) -> values.put(key, "book" + key));
+					return values;
+				})));
+		runner.setChunkSize(2);
+		runner.start();
+
+		assertThat(namedCache).containsOnlyKeys(2, 3);
+		assertThat(runner.getLoadedChunkCount()).isEqualTo(1);
+		assertThat(runner.getFailedChunkCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void chunksFailingWithErrorAreSkipped() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new ConcurrentHashMap<>(), "books");
+		final List<Integer> keys = IntStream.range(0, 4).boxed().collect(Collectors.toList());
+
+		final CacheWarmupRunner runner = new CacheWarmupRunner(createCacheManager(namedCache),
+				Collections.singletonList(new TestCacheWarmer(keys, (chunk) -> {
+					if (chunk.contains(0)) {
+						throw new NoClassDefFoundError("Driver");
+					}
+					return chunk.stream().collect(Collectors.toMap(Function.identity(), (key) -> "book" + key));
+				})));
+		runner.setChunkSize(2);
+		runner.start();
+
+		assertThat(runner.isRunning()).isTrue();
+		assertThat(namedCache).containsOnlyKeys(2, 3);
+		assertThat(runner.getLoadedChunkCount()).isEqualTo(1);
+		assertThat(runner.getFailedChunkCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void outstandingChunksAreCancelledOnTimeout() throws Exception {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new ConcurrentHashMap<>(), "books");
+		final List<Integer> keys = IntStream.range(0, 3).boxed().collect(Collectors.toList());
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final CacheWarmupRunner runner = new CacheWarmupRunner(createCacheManager(namedCache),
+				Collections.singletonList(new TestCacheWarmer(keys, (chunk) -> {
+					if (chunk.contains(0)) {
+						try {
+							release.await(5, TimeUnit.SECONDS);
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+					}
+					return chunk.stream().collect(Collectors.toMap(Function.identity(), (key) -> "book" + key));
+				})));
+		runner.setChunkSize(1);
+		runner.setParallelism(1);
+		runner.setTimeout(Duration.ofMillis(200));
+		try {
+			runner.start();
+		}
+		finally {
+			release.countDown();
+		}
+
+		assertThat(runner.isRunning()).isTrue();
+		assertThat(runner.getTotalChunkCount()).isEqualTo(3);
+		assertThat(runner.getCancelledChunkCount()).isEqualTo(3);
+		assertThat(runner.getLoadedChunkCount()).isZero();
+		assertThat(runner.getFailedChunkCount()).isZero();
+	}
+
+	private static CoherenceCacheManager createCacheManager(NamedCache<Object, Object> namedCache) {
+		final Coherence coherence = mock(Coherence.class);
+		final Session session = mock(Session.class);
+		when(coherence.getSession()).thenReturn(session);
+		when(session.getCache("books")).thenReturn(namedCache);
+		return new CoherenceCacheManager(coherence);
+	}
+
+	static class TestCacheWarmer implements CacheWarmer<Integer, String> {
+
+		private final List<Integer> keys;
+
+		private final Function<Collection<Integer>, Map<Integer, String>> loader;
+
+		TestCacheWarmer(List<Integer> keys, Function<Collection<Integer>, Map<Integer, String>> loader) {
+			this.keys = keys;
+			this.loader = loader;
+		}
+
+		@Override
+		public String getCacheName() {
+			return "books";
+		}
+
+		@Override
+		public Collection<Integer> getKeys() {
+			return this.keys;
+		}
+
+		@Override
+		public Map<Integer, String> loadAll(Collection<Integer> keys) {
+			return this.loader.apply(keys);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.oracle.coherence.spring.annotation.CacheableAll;
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+@SpringJUnitConfig(CacheableAllTests.Config.class)
+@DirtiesContext
+public class CacheableAllTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private BookService bookService;
+
+	@BeforeEach
+	public void setup() {
+		this.coherence.getSession().getCache("books").clear();
+		this.bookService.getRequestedIds().clear();
+	}
+
+	@Test
+	public void testOnlyMissingKeysAreLoaded() {
+		assertThat(AopUtils.isAopProxy(this.bookService)).isTrue();
+
+		final Map<Long, String> firstResult = this.bookService.findBooks(Arrays.asList(1L, 2L));
+		assertThat(firstResult).containsExactly(Map.entry(1L, "Book 1"), Map.entry(2L, "Book 2"));
+
+		final Map<Long, String> secondResult = this.bookService.findBooks(Arrays.asList(1L, 2L, 3L, 404L));
+		assertThat(secondResult).containsExactly(Map.entry(1L, "Book 1"), Map.entry(2L, "Book 2"), Map.entry(3L, "Book 3"));
+
+		assertThat(this.bookService.getRequestedIds()).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L, 404L));
+
+		final NamedCache<Long, String> books = this.coherence.getSession().getCache("books");
+		assertThat(books).hasSize(3);
+	}
+
+	@Test
+	public void testNoInvocationIfAllKeysAreCached() {
+		this.bookService.findBooksAsSet(Set.of(1L));
+		this.bookService.findBooksAsSet(Set.of(1L));
+		assertThat(this.bookService.getRequestedIds()).hasSize(1);
+	}
+
+	@Test
+	public void testCheckedExceptionIsPropagated() {
+		assertThatThrownBy(() -> this.bookService.findBooksFailing(Collections.singletonList(1L)))
+				.isInstanceOf(Exception.class)
+				.hasMessage("No books.");
+	}
+
+	@Test
+	public void testInvalidMethodSignature() {
+		assertThatThrownBy(() -> this.bookService.findBook(1L))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("must declare a single Collection parameter and return a Map");
+	}
+
+	@Configuration
+	@EnableCoherence
+	@EnableCaching
+	static class Config {
+		@Bean
+		CacheManager cacheManager(Coherence coherence) {
+			return new CoherenceCacheManager(coherence, new CoherenceCacheConfiguration(Duration.ofMinutes(1)));
+		}
+
+		@Bean
+		BookService bookService() {
+			return new BookService();
+		}
+	}
+
+	static class BookService {
+
+		private final List<List<Long>> requestedIds = new CopyOnWriteArrayList<>();
+
+		List<List<Long>> getRequestedIds() {
+			return this.requestedIds;
+		}
+
+		@CacheableAll("books")
+		Map<Long, String> findBooks(List<Long> ids) {
+			this.requestedIds.add(ids);
+			final Map<Long, String> books = new HashMap<>();
+			for (Long id : ids) {
+				if (id != 404L) {
+					books.put(id, "Book " + id);
+				}
+			}
+			return books;
+		}
+
+		@CacheableAll("books")
+		Map<Long, String> findBooksAsSet(Set<Long> ids) {
+			return findBooks(List.copyOf(ids));
+		}
+
+		@CacheableAll("books")
+		Map<Long, String> findBooksFailing(List<Long> ids) throws Exception {
+			throw new Exception("No books.");
+		}
+
+		@CacheableAll("books")
+		String findBook(Long id) {
+			return "Book " + id;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -156,6 +156,50 @@ public class CoherenceCacheManagerTests {
 		assertThat(springCache.size()).isEqualTo(0);
 	}
 
+	@Test
+	@Order(8)
+	public void testDestroyReleasesNearCaches() throws Exception {
+
+		final CoherenceCacheConfiguration cacheConfiguration = new CoherenceCacheConfiguration(Duration.ZERO);
+		cacheConfiguration.setNearCacheHighUnits(10);
+		final CoherenceCacheManager cacheManager = new CoherenceCacheManager(this.coherence, cacheConfiguration);
+		final CoherenceCache springCache = (CoherenceCache) cacheManager.getCache("spring");
+		springCache.put("Sabal", "minor");
+		assertThat(springCache.get("Sabal").get()).isEqualTo("minor");
+		assertThat(springCache.getNearCache().getFrontMap()).isNotEmpty();
+
+		cacheManager.destroy();
+
+		assertThat(springCache.getNearCache().getFrontMap()).isEmpty();
+		assertThat(cacheManager.getCacheNames()).isEmpty();
+		final NamedCache<String, String> nativeCache = this.coherence.getSession().getCache("spring");
+		assertThat(nativeCache.isActive()).isTrue();
+		assertThat(nativeCache.get("Sabal")).isEqualTo("minor");
+	}
+
+	@Test
+	@Order(9)
+	public void testLoadingLeasesAreKeptOutOfTheCache() throws Exception {
+
+		final CoherenceCacheConfiguration cacheConfiguration = new CoherenceCacheConfiguration(Duration.ZERO);
+		cacheConfiguration.setUseLoadingLease(true);
+		final CacheManager cacheManager = new CoherenceCacheManager(this.coherence, cacheConfiguration);
+		final CoherenceCache leasedCache = (CoherenceCache) cacheManager.getCache("leased");
+		final NamedCache<String, Object> nativeCache = this.coherence.getSession().getCache("leased");
+		final NamedCache<String, Object> loadingLeases = this.coherence.getSession()
+				.getCache(CoherenceCache.getLoadingLeaseCacheName("leased"));
+
+		final String value = leasedCache.get("Sabal", () -> {
+			assertThat(nativeCache.containsKey("Sabal")).isFalse();
+			assertThat(loadingLeases.get("Sabal")).isInstanceOf(LoadingLease.class);
+			return "minor";
+		});
+
+		assertThat(value).isEqualTo("minor");
+		assertThat(nativeCache.get("Sabal")).isEqualTo("minor");
+		assertThat(loadingLeases.isEmpty()).isTrue();
+	}
+
 	@Configuration
 	@EnableCoherence
 	@EnableCaching
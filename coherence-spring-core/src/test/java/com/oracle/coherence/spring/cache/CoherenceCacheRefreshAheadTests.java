@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.Coherence;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+@SpringJUnitConfig(CoherenceCacheRefreshAheadTests.Config.class)
+@DirtiesContext
+public class CoherenceCacheRefreshAheadTests {
+
+	@Autowired
+	private Coherence coherence;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	public void testRefreshAhead() throws Exception {
+		final CoherenceCache cache = (CoherenceCache) this.cacheManager.getCache("refresh-ahead");
+		final AtomicInteger loads = new AtomicInteger();
+
+		assertThat(cache.get("foo", () -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+		assertThat(cache.get("foo", () -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+		assertThat(loads.get()).isEqualTo(1);
+
+		Thread.sleep(1200);
+
+		assertThat(cache.get("foo", () -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+		await().untilAsserted(() -> assertThat(this.coherence.getSession().getCache("refresh-ahead").get("foo"))
+				.isEqualTo("value2"));
+		assertThat(loads.get()).isEqualTo(2);
+		assertThat(cache.get("foo", () -> "value" + loads.incrementAndGet())).isEqualTo("value2");
+		assertThat(cache.getStatistics().getRefreshAheadLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testSingleRefreshWhileRefreshIsInProgress() throws Exception {
+		final CoherenceCache cache = (CoherenceCache) this.cacheManager.getCache("refresh-ahead-single");
+		final AtomicInteger loads = new AtomicInteger();
+
+		cache.put("foo", "value0");
+		Thread.sleep(1200);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(cache.get("foo", () -> {
+				Thread.sleep(200);
+				return "value" + loads.incrementAndGet();
+			})).isEqualTo("value0");
+		}
+		await().untilAsserted(() -> assertThat(cache.get("foo").get()).isEqualTo("value1"));
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Configuration
+	@EnableCoherence
+	@EnableCaching
+	static class Config {
+		@Bean
+		CacheManager cacheManager(Coherence coherence) {
+			final CoherenceCacheConfiguration cacheConfiguration = new CoherenceCacheConfiguration(Duration.ofSeconds(2));
+			cacheConfiguration.setRefreshAheadFactor(0.5);
+			return new CoherenceCacheManager(coherence, cacheConfiguration);
+		}
+	}
+}
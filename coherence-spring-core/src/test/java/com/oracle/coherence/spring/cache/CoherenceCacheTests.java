@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,18 +7,41 @@
 package com.oracle.coherence.spring.cache;
 
 import java.time.Duration;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.net.cache.NearCache;
+import com.tangosol.net.cache.WrapperNamedCache;
 import com.tangosol.util.ConcurrentMap;
+import com.tangosol.util.Filter;
+import com.tangosol.util.MapListenerSupport;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.cache.Cache;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
@@ -245,6 +268,680 @@ public class CoherenceCacheTests {
 		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
 		final String bar = coherenceCache.get("foo", () -> "bar");
 		assertThat(bar).isEqualTo("bar");
+		verify(namedCache, times(1)).unlock(same(ConcurrentMap.LOCK_ALL));
+		verify(namedCache, never()).unlock("foo");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadingLease() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		final String bar = coherenceCache.get("foo", () -> {
+			assertThat(namedCache.containsKey("foo")).isFalse();
+			assertThat(leaseCache.get("foo")).isInstanceOf(LoadingLease.class);
+			return "bar";
+		});
+		assertThat(bar).isEqualTo("bar");
+		assertThat(namedCache.get("foo")).isEqualTo("bar");
+		assertThat(leaseCache.isEmpty()).isTrue();
+		assertThat(coherenceCache.<String>get("foo", () -> fail("Callable should not have been called."))).isEqualTo("bar");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadingLeaseRequiresLeaseCache() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+
+		assertThatThrownBy(() -> new CoherenceCache(namedCache, null, config))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testGetLoadingLeaseCacheName() {
+		assertThat(CoherenceCache.getLoadingLeaseCacheName("foo_cache")).isEqualTo("foo_cache-loading-leases");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadingLeaseHeldByOtherCaller() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		leaseCache.put("foo", new LoadingLease("other", Long.MAX_VALUE));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		assertThat(coherenceCache.get("foo")).isNull();
+
+		CompletableFuture.runAsync(() -> namedCache.put("foo", "loadedByOther"),
+				CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+		final String value = coherenceCache.get("foo", () -> fail("Callable should not have been called."));
+		assertThat(value).isEqualTo("loadedByOther");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadingLeaseReleasedByOtherCaller() throws Exception {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		leaseCache.put("foo", new LoadingLease("other", Long.MAX_VALUE));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		// the other caller failed to load the value and released its lease
+		CompletableFuture.runAsync(() -> leaseCache.invoke("foo", new ReleaseLoadingLeaseProcessor("other")),
+				CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+		final String value = CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> "bar"))
+				.get(30, TimeUnit.SECONDS);
+		assertThat(value).isEqualTo("bar");
+		assertThat(namedCache.get("foo")).isEqualTo("bar");
+		assertThat(leaseCache.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithExpiredLoadingLease() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		leaseCache.put("foo", new LoadingLease("other", 0L));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		assertThat(coherenceCache.get("foo", () -> "bar")).isEqualTo("bar");
+		assertThat(namedCache.get("foo")).isEqualTo("bar");
+		assertThat(leaseCache.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testGetUsingValueLoaderTakesOverAbandonedLoadingLease() throws Exception {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		// the lease of a caller that died without releasing it, the entry is not evicted
+		leaseCache.put("foo", new LoadingLease("other", System.currentTimeMillis() + 200L));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		config.setLoadingLeaseDuration(Duration.ofMillis(200));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		final String value = CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> "bar"))
+				.get(30, TimeUnit.SECONDS);
+		assertThat(value).isEqualTo("bar");
+		assertThat(namedCache.get("foo")).isEqualTo("bar");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadingLeaseKeepsConcurrentlyPutValue() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		final String value = coherenceCache.get("foo", () -> {
+			namedCache.put("foo", "putConcurrently");
+			return "bar";
+		});
+		assertThat(value).isEqualTo("bar");
+		assertThat(namedCache.get("foo")).isEqualTo("putConcurrently");
+		assertThat(leaseCache.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadingLeaseThrowingException() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final NamedCache<Object, Object> leaseCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache-loading-leases");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadingLease(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, leaseCache, config);
+
+		assertThatThrownBy(() -> coherenceCache.get("foo", () -> {
+			throw new IllegalStateException("No foo.");
+		})).isInstanceOf(Cache.ValueRetrievalException.class)
+				.hasMessageContaining("Value for key 'foo' could not be loaded using");
+		assertThat(namedCache.containsKey("foo")).isFalse();
+		assertThat(leaseCache.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testRetrieve() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final AsyncNamedCache<Object, Object> asyncNamedCache = mock(AsyncNamedCache.class);
+		when(namedCache.async()).thenReturn(asyncNamedCache);
+		when(asyncNamedCache.get("foo")).thenReturn(CompletableFuture.completedFuture("bar"));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+		assertThat(coherenceCache.retrieve("foo").join()).isEqualTo("bar");
+		verify(namedCache, never()).get(any());
+	}
+
+	@Test
+	public void testRetrieveUsingValueLoaderWithValueInCache() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final AsyncNamedCache<Object, Object> asyncNamedCache = mock(AsyncNamedCache.class);
+		when(namedCache.async()).thenReturn(asyncNamedCache);
+		when(asyncNamedCache.get("foo")).thenReturn(CompletableFuture.completedFuture("bar"));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+		final String bar = coherenceCache.<String>retrieve("foo", () -> fail("Supplier should not have been called.")).join();
+		assertThat(bar).isEqualTo("bar");
+		verify(asyncNamedCache, never()).put(any(), any());
+	}
+
+	@Test
+	public void testRetrieveUsingValueLoaderWithTtl() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final AsyncNamedCache<Object, Object> asyncNamedCache = mock(AsyncNamedCache.class);
+		when(namedCache.async()).thenReturn(asyncNamedCache);
+		when(asyncNamedCache.get("foo")).thenReturn(CompletableFuture.completedFuture(null));
+		when(asyncNamedCache.put("foo", "bar", 9999L)).thenReturn(CompletableFuture.completedFuture(null));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ofMillis(9999)));
+		final String bar = coherenceCache.retrieve("foo", () -> CompletableFuture.completedFuture("bar")).join();
+		assertThat(bar).isEqualTo("bar");
+		verify(asyncNamedCache, times(1)).put("foo", "bar", 9999L);
+		verify(namedCache, never()).lock(any(), anyLong());
+	}
+
+	@Test
+	public void testRetrieveWithNullValueCaching() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final AsyncNamedCache<Object, Object> asyncNamedCache = mock(AsyncNamedCache.class);
+		when(namedCache.async()).thenReturn(asyncNamedCache);
+		when(asyncNamedCache.get("foo")).thenReturn(CompletableFuture.completedFuture(CoherenceNullValue.INSTANCE));
+		when(asyncNamedCache.get("bar")).thenReturn(CompletableFuture.completedFuture(null));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setAllowNullValues(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		assertThat(coherenceCache.retrieve("foo").join()).isInstanceOf(Cache.ValueWrapper.class)
+				.extracting((wrapper) -> ((Cache.ValueWrapper) wrapper).get()).isNull();
+		assertThat(coherenceCache.retrieve("bar").join()).isNull();
+		assertThat(coherenceCache.<String>retrieve("foo",
+				() -> fail("Supplier should not have been called.")).join()).isNull();
+	}
+
+	@Test
+	public void testRetrieveUsingValueLoaderThrowingException() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final AsyncNamedCache<Object, Object> asyncNamedCache = mock(AsyncNamedCache.class);
+		when(namedCache.async()).thenReturn(asyncNamedCache);
+		when(asyncNamedCache.get("foo")).thenReturn(CompletableFuture.completedFuture(null));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+		final CompletableFuture<String> result = coherenceCache.retrieve("foo",
+				() -> CompletableFuture.failedFuture(new IllegalStateException("No foo.")));
+		assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+		verify(asyncNamedCache, never()).put(any(), any());
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadCoalescing() throws Exception {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.get("foo")).thenReturn(null);
+		when(namedCache.lock(eq("foo"), anyLong())).thenReturn(true);
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadCoalescing(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		final CountDownLatch loaderLatch = new CountDownLatch(1);
+		final AtomicInteger loaderInvocations = new AtomicInteger();
+		final List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> {
+				loaderInvocations.incrementAndGet();
+				loaderLatch.await();
+				return "bar";
+			})));
+		}
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> coherenceCache.getStatistics().getCoalescedLoadCount() == 4);
+		loaderLatch.countDown();
+
+		for (CompletableFuture<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("bar");
+		}
+		assertThat(loaderInvocations.get()).isEqualTo(1);
+		assertThat(coherenceCache.getStatistics().getLeaderLoadCount()).isEqualTo(1);
+		verify(namedCache, times(1)).lock(eq("foo"), anyLong());
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadCoalescingThrowingException() throws Exception {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.get("foo")).thenReturn(null);
+		when(namedCache.lock(eq("foo"), anyLong())).thenReturn(true);
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadCoalescing(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		final CountDownLatch loaderLatch = new CountDownLatch(1);
+		final CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> {
+			loaderLatch.await();
+			throw new IllegalStateException("No foo.");
+		}));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> coherenceCache.getStatistics().getLeaderLoadCount() == 1);
+		final CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> "bar"));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> coherenceCache.getStatistics().getCoalescedLoadCount() == 1);
+		loaderLatch.countDown();
+
+		assertThatThrownBy(leader::join).hasCauseInstanceOf(Cache.ValueRetrievalException.class);
+		assertThatThrownBy(follower::join).hasCauseInstanceOf(Cache.ValueRetrievalException.class);
+		assertThat(coherenceCache.get("foo", () -> "bar")).isEqualTo("bar");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithLoadCoalescingThrowingError() throws Exception {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.get("foo")).thenReturn(null);
+		when(namedCache.lock(eq("foo"), anyLong())).thenReturn(true);
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLoadCoalescing(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		final CountDownLatch loaderLatch = new CountDownLatch(1);
+		final CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> {
+			loaderLatch.await();
+			throw new AssertionError("No foo.");
+		}));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> coherenceCache.getStatistics().getLeaderLoadCount() == 1);
+		final CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> coherenceCache.get("foo", () -> "bar"));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> coherenceCache.getStatistics().getCoalescedLoadCount() == 1);
+		loaderLatch.countDown();
+
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		verify(namedCache).unlock("foo");
+		assertThat(coherenceCache.get("foo", () -> "bar")).isEqualTo("bar");
+	}
+
+	@Test
+	public void testNearCache() {
+		final NamedCache<Object, Object> backCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache",
+				mock(CacheService.class, RETURNS_DEEP_STUBS));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setNearCacheHighUnits(2);
+		final CoherenceCache coherenceCache = new CoherenceCache(backCache, config);
+
+		assertThat(coherenceCache.getNativeCache()).isSameAs(backCache);
+		final NearCache<Object, Object> nearCache = coherenceCache.getNearCache();
+		assertThat(nearCache.getBackCache()).isSameAs(backCache);
+
+		coherenceCache.put("foo", "bar");
+		assertThat(coherenceCache.get("foo").get()).isEqualTo("bar");
+		assertThat(nearCache.getFrontMap()).containsEntry("foo", "bar");
+
+		backCache.put("foo", "baz");
+		assertThat(nearCache.getFrontMap()).doesNotContainKey("foo");
+		assertThat(coherenceCache.get("foo").get()).isEqualTo("baz");
+
+		coherenceCache.put("key1", "value1");
+		coherenceCache.put("key2", "value2");
+		coherenceCache.put("key3", "value3");
+		coherenceCache.get("key1");
+		coherenceCache.get("key2");
+		coherenceCache.get("key3");
+		assertThat(nearCache.getFrontMap().size()).isLessThanOrEqualTo(2);
+		assertThat(coherenceCache.size()).isEqualTo(4);
+	}
+
+	@Test
+	public void testNearCacheDisabledByDefault() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+		assertThat(coherenceCache.getNativeCache()).isSameAs(namedCache);
+		assertThat(coherenceCache.getNearCache()).isNull();
+	}
+
+	@Test
+	public void testReleaseNearCache() {
+		final NamedCache<Object, Object> backCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache",
+				mock(CacheService.class, RETURNS_DEEP_STUBS));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setNearCacheHighUnits(10);
+		final CoherenceCache coherenceCache = new CoherenceCache(backCache, config);
+		coherenceCache.put("foo", "bar");
+		coherenceCache.get("foo");
+		assertThat(coherenceCache.getNearCache().getFrontMap()).containsEntry("foo", "bar");
+		final MapListenerSupport listenerSupport = ReflectionTestUtils.invokeMethod(backCache, "getMapListenerSupport");
+		assertThat(listenerSupport.isEmpty((Filter<?>) null)).isFalse();
+
+		coherenceCache.release();
+
+		assertThat(coherenceCache.getNearCache().getFrontMap()).isEmpty();
+		assertThat(listenerSupport.isEmpty((Filter<?>) null)).isTrue();
+		assertThat(backCache.isReleased()).isFalse();
+		assertThat(backCache.get("foo")).isEqualTo("bar");
+	}
+
+	@Test
+	public void testNearCacheCannotBeCombinedWithRefreshAhead() {
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofSeconds(60));
+		config.setNearCacheHighUnits(10);
+		config.setRefreshAheadFactor(0.5);
+		assertThatThrownBy(() -> new CoherenceCache(mock(NamedCache.class), config))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testPutIfAbsent() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+
+		assertThat(coherenceCache.putIfAbsent("foo", "bar")).isNull();
+		assertThat(namedCache.get("foo")).isEqualTo("bar");
+
+		final Cache.ValueWrapper existingValue = coherenceCache.putIfAbsent("foo", "baz");
+		assertThat(existingValue).isNotNull();
+		assertThat(existingValue.get()).isEqualTo("bar");
+		assertThat(namedCache.get("foo")).isEqualTo("bar");
+	}
+
+	@Test
+	public void testPutIfAbsentWithNullValue() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+
+		assertThat(coherenceCache.putIfAbsent("foo", null)).isNull();
+		assertThat(namedCache.containsKey("foo")).isFalse();
+	}
+
+	@Test
+	public void testPutIfAbsentWithTtl() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ofMillis(3)));
+		final ArgumentCaptor<PutIfAbsentProcessor> processor = ArgumentCaptor.forClass(PutIfAbsentProcessor.class);
+
+		assertThat(coherenceCache.putIfAbsent("foo", "bar")).isNull();
+		verify(namedCache).invoke(eq("foo"), processor.capture());
+		assertThat(ReflectionTestUtils.getField(processor.getValue(), "value")).isEqualTo("bar");
+		assertThat(ReflectionTestUtils.getField(processor.getValue(), "timeToLiveMillis")).isEqualTo(3L);
+		verify(namedCache, never()).put(any(), any());
+	}
+
+	@Test
+	public void testEvictIfPresent() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		namedCache.put("foo", "bar");
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+
+		assertThat(coherenceCache.evictIfPresent("foo")).isTrue();
+		assertThat(namedCache.containsKey("foo")).isFalse();
+		assertThat(coherenceCache.evictIfPresent("foo")).isFalse();
+	}
+
+	@Test
+	public void testInvalidate() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		namedCache.put("foo", "bar");
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+
+		assertThat(coherenceCache.invalidate()).isTrue();
+		assertThat(namedCache.isEmpty()).isTrue();
+		assertThat(coherenceCache.invalidate()).isFalse();
+	}
+
+	@Test
+	public void testGetAll() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		namedCache.put("foo", "bar");
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+		final List<Collection<String>> loaderInvocations = new ArrayList<>();
+
+		final Map<String, String> values = coherenceCache.getAll(Arrays.asList("foo", "qux", "baz", "missing"),
+				(missingKeys) -> {
+					loaderInvocations.add(new ArrayList<>(missingKeys));
+					final Map<String, String> loadedValues = new HashMap<>();
+					loadedValues.put("qux", "loadedQux");
+					loadedValues.put("baz", "loadedBaz");
+					return loadedValues;
+				});
+
+		assertThat(values).containsExactly(Map.entry("foo", "bar"), Map.entry("qux", "loadedQux"),
+				Map.entry("baz", "loadedBaz"));
+		assertThat(loaderInvocations).containsExactly(Arrays.asList("qux", "baz", "missing"));
+		assertThat(namedCache.get("qux")).isEqualTo("loadedQux");
+		assertThat(namedCache.get("baz")).isEqualTo("loadedBaz");
+		assertThat(namedCache.containsKey("missing")).isFalse();
+	}
+
+	@Test
+	public void testGetAllWithAllValuesInCache() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		namedCache.put("foo", "bar");
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+
+		final Map<String, String> values = coherenceCache.getAll(Collections.singleton("foo"),
+				(missingKeys) -> fail("Value loader should not have been called."));
+		assertThat(values).containsExactly(Map.entry("foo", "bar"));
+	}
+
+	@Test
+	public void testGetAllWithTtl() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final AsyncNamedCache<Object, Object> asyncNamedCache = mock(AsyncNamedCache.class);
+		when(namedCache.getAll(any())).thenReturn(Collections.emptyMap());
+		when(namedCache.async()).thenReturn(asyncNamedCache);
+		when(asyncNamedCache.putAll(any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ofMillis(3)));
+
+		final Map<String, String> values = coherenceCache.getAll(Arrays.asList("foo", "baz"),
+				(missingKeys) -> Map.of("foo", "bar", "baz", "qux"));
+
+		assertThat(values).containsExactly(Map.entry("foo", "bar"), Map.entry("baz", "qux"));
+		verify(namedCache, times(1)).getAll(Arrays.asList("foo", "baz"));
+		verify(asyncNamedCache, times(1)).putAll(eq(Map.of("foo", "bar", "baz", "qux")), eq(3L));
+		verify(namedCache, never()).putAll(any());
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithRefreshAhead() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.aggregate(eq(Collections.singleton("foo")), any(RefreshAheadAggregator.class)))
+				.thenReturn(new RefreshAheadValue("bar"));
+		when(namedCache.invoke(eq("foo"), any(RefreshAheadProcessor.class))).thenReturn(new RefreshAheadValue("bar"));
+		final List<Runnable> refreshes = new ArrayList<>();
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofSeconds(10));
+		config.setRefreshAheadFactor(0.75);
+		config.setRefreshAheadExecutor(refreshes::add);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		assertThat(coherenceCache.get("foo", () -> "baz")).isEqualTo("bar");
+		verify(namedCache, never()).get("foo");
+		verify(namedCache, never()).put(any(), any(), anyLong());
+		assertThat(refreshes).hasSize(1);
+
+		refreshes.get(0).run();
+		verify(namedCache, times(1)).put("foo", "baz", 10000L);
+		assertThat(coherenceCache.getStatistics().getRefreshAheadLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithRefreshAheadNotDue() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.aggregate(eq(Collections.singleton("foo")), any(RefreshAheadAggregator.class))).thenReturn("bar");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofSeconds(10));
+		config.setRefreshAheadFactor(0.75);
+		config.setRefreshAheadExecutor((runnable) -> fail("No refresh expected."));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		assertThat(coherenceCache.<String>get("foo", () -> fail("Callable should not have been called."))).isEqualTo("bar");
+		verify(namedCache, never()).invoke(any(), any());
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithRefreshAheadClaimedByOtherCaller() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.aggregate(eq(Collections.singleton("foo")), any(RefreshAheadAggregator.class)))
+				.thenReturn(new RefreshAheadValue("bar"));
+		when(namedCache.invoke(eq("foo"), any(RefreshAheadProcessor.class))).thenReturn("bar");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofSeconds(10));
+		config.setRefreshAheadFactor(0.75);
+		config.setRefreshAheadExecutor((runnable) -> fail("No refresh expected."));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		assertThat(coherenceCache.<String>get("foo", () -> fail("Callable should not have been called."))).isEqualTo("bar");
+	}
+
+	@Test
+	public void testGetUsingValueLoaderWithRejectedRefreshAhead() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.aggregate(eq(Collections.singleton("foo")), any(RefreshAheadAggregator.class)))
+				.thenReturn(new RefreshAheadValue("bar"));
+		when(namedCache.invoke(eq("foo"), any(RefreshAheadProcessor.class))).thenReturn(new RefreshAheadValue("bar"));
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofSeconds(10));
+		config.setRefreshAheadFactor(0.75);
+		config.setRefreshAheadExecutor((runnable) -> {
+			throw new RejectedExecutionException();
+		});
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		assertThat(coherenceCache.get("foo", () -> "baz")).isEqualTo("bar");
+		assertThat(coherenceCache.getStatistics().getRejectedRefreshAheadLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testRefreshAheadRequiresTtl() {
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setRefreshAheadFactor(0.75);
+		assertThat(config.isUseRefreshAhead()).isFalse();
+		assertThatThrownBy(() -> config.setRefreshAheadFactor(1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testNullValueCaching() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLocks(false);
+		config.setAllowNullValues(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+		final AtomicInteger loaderInvocations = new AtomicInteger();
+
+		assertThat(coherenceCache.get("foo")).isNull();
+		assertThat(coherenceCache.<String>get("foo", () -> {
+			loaderInvocations.incrementAndGet();
+			return null;
+		})).isNull();
+		assertThat(coherenceCache.<String>get("foo", () -> {
+			loaderInvocations.incrementAndGet();
+			return "bar";
+		})).isNull();
+
+		assertThat(loaderInvocations).hasValue(1);
+		assertThat(namedCache.get("foo")).isSameAs(CoherenceNullValue.INSTANCE);
+		assertThat(coherenceCache.get("foo")).isNotNull();
+		assertThat(coherenceCache.get("foo").get()).isNull();
+		assertThat(coherenceCache.get("foo", String.class)).isNull();
+		assertThat(coherenceCache.getStatistics().getHitCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void testNullValueTimeToLive() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofHours(1));
+		config.setAllowNullValues(true);
+		config.setNullValueTimeToLive(Duration.ofSeconds(10));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		coherenceCache.put("foo", null);
+		coherenceCache.put("bar", "baz");
+
+		verify(namedCache).put("foo", CoherenceNullValue.INSTANCE, 10000L);
+		verify(namedCache).put("bar", "baz", 3600000L);
+	}
+
+	@Test
+	public void testNullValueTimeToLiveNeverExpires() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ofHours(1));
+		config.setAllowNullValues(true);
+		config.setNullValueTimeToLive(Duration.ofMillis(-1));
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		coherenceCache.put("foo", null);
+		coherenceCache.put("bar", "baz");
+
+		verify(namedCache).put("foo", CoherenceNullValue.INSTANCE, CacheMap.EXPIRY_NEVER);
+		verify(namedCache).put("bar", "baz", 3600000L);
+	}
+
+	@Test
+	public void testTimeToLiveNeverExpires() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache,
+				new CoherenceCacheConfiguration(Duration.ofMillis(-1)));
+
+		coherenceCache.put("foo", "bar");
+
+		verify(namedCache).put("foo", "bar", CacheMap.EXPIRY_NEVER);
+	}
+
+	@Test
+	public void testGetAllWithNullValueCaching() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setAllowNullValues(true);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+		final List<Collection<String>> requestedKeys = new ArrayList<>();
+
+		final Map<String, String> firstResult = coherenceCache.getAll(Arrays.asList("foo", "bar"), (missingKeys) -> {
+			requestedKeys.add(new ArrayList<>(missingKeys));
+			return Collections.singletonMap("foo", "fooValue");
+		});
+		final Map<String, String> secondResult = coherenceCache.getAll(Arrays.asList("foo", "bar"), (missingKeys) -> {
+			requestedKeys.add(new ArrayList<>(missingKeys));
+			return Collections.emptyMap();
+		});
+
+		assertThat(firstResult).containsExactly(Map.entry("foo", "fooValue"));
+		assertThat(secondResult).containsExactly(Map.entry("foo", "fooValue"));
+		assertThat(requestedKeys).containsExactly(Arrays.asList("foo", "bar"));
+		assertThat(namedCache.get("bar")).isSameAs(CoherenceNullValue.INSTANCE);
+	}
+
+	@Test
+	public void testStatistics() {
+		final NamedCache<Object, Object> namedCache = new WrapperNamedCache<>(new HashMap<>(), "foo_cache");
+		final CoherenceCacheConfiguration config = new CoherenceCacheConfiguration(Duration.ZERO);
+		config.setUseLocks(false);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, config);
+
+		assertThat(coherenceCache.get("foo")).isNull();
+		coherenceCache.put("foo", "bar");
+		assertThat(coherenceCache.get("foo")).isNotNull();
+		assertThat(coherenceCache.get("baz", () -> "qux")).isEqualTo("qux");
+		assertThatThrownBy(() -> coherenceCache.get("fail", () -> {
+			throw new IllegalStateException("No value.");
+		})).isInstanceOf(Cache.ValueRetrievalException.class);
+		coherenceCache.evict("foo");
+		coherenceCache.evict("missing");
+
+		final CoherenceCacheStatistics statistics = coherenceCache.getStatistics();
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(3);
+		assertThat(statistics.getPutCount()).isEqualTo(2);
+		assertThat(statistics.getEvictionCount()).isEqualTo(1);
+		assertThat(statistics.getLoadSuccessCount()).isEqualTo(1);
+		assertThat(statistics.getLoadFailureCount()).isEqualTo(1);
+		assertThat(statistics.getTotalLoadTimeNanos()).isPositive();
+		assertThat(statistics.getLockAttemptCount()).isZero();
+	}
+
+	@Test
+	public void testLockStatistics() {
+		final NamedCache<Object, Object> namedCache = mock(NamedCache.class);
+		when(namedCache.lock("foo", 0L)).thenReturn(true);
+		when(namedCache.lock("bar", 0L)).thenReturn(false);
+		final CoherenceCache coherenceCache = new CoherenceCache(namedCache, new CoherenceCacheConfiguration(Duration.ZERO));
+
+		assertThat(coherenceCache.get("foo", () -> "value")).isEqualTo("value");
+		assertThatThrownBy(() -> coherenceCache.get("bar", () -> "value"))
+				.isInstanceOf(Cache.ValueRetrievalException.class);
+
+		final CoherenceCacheStatistics statistics = coherenceCache.getStatistics();
+		assertThat(statistics.getLockAttemptCount()).isEqualTo(2);
+		assertThat(statistics.getLockTimeoutCount()).isEqualTo(1);
+		assertThat(statistics.getTotalLockWaitTimeNanos()).isPositive();
 	}
 
 	final class FooType {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.lang.reflect.Method;
+
+import com.oracle.coherence.spring.annotation.CacheKeyAssociation;
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.pof.PortableObjectSerializer;
+import com.tangosol.io.pof.SimplePofContext;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class CoherenceKeyGeneratorTests {
+
+	private final CoherenceKeyGenerator keyGenerator = new CoherenceKeyGenerator();
+
+	private final BookService bookService = new BookService();
+
+	@Test
+	public void generateKeyWithoutParameters() {
+		assertThat(generate("findAll")).isSameAs(CoherenceCacheKey.EMPTY);
+	}
+
+	@Test
+	public void generateKeyForSingleParameter() {
+		assertThat(generate("findById", 42L)).isEqualTo(42L);
+	}
+
+	@Test
+	public void generateCompositeKey() {
+		final Object key = generate("findByTitle", "Dune", 1965);
+
+		assertThat(key).isInstanceOf(CoherenceCacheKey.class);
+		assertThat(key).isEqualTo(new CoherenceCacheKey(null, "Dune", 1965));
+		assertThat(key.hashCode()).isEqualTo(new CoherenceCacheKey(null, "Dune", 1965).hashCode());
+		assertThat(key).isNotEqualTo(new CoherenceCacheKey(null, 1965, "Dune"));
+		assertThat(((CoherenceCacheKey) key).getAssociatedKey()).isNull();
+	}
+
+	@Test
+	public void generateAssociatedKey() {
+		final CoherenceCacheKey key = (CoherenceCacheKey) generate("findByAuthor", "Frank Herbert", 2);
+
+		assertThat(key.getAssociatedKey()).isEqualTo("Frank Herbert");
+		assertThat(key.getParams()).containsExactly("Frank Herbert", 2);
+	}
+
+	@Test
+	public void serializeCompositeKeyUsingPof() {
+		final SimplePofContext pofContext = new SimplePofContext();
+		pofContext.registerUserType(1000, CoherenceCacheKey.class, new PortableObjectSerializer(1000));
+		final CoherenceCacheKey key = new CoherenceCacheKey("Frank Herbert", "Frank Herbert", 2, new int[] {1, 2});
+
+		assertRoundTrip(key, pofContext);
+	}
+
+	@Test
+	public void serializeCompositeKeyUsingJavaSerialization() {
+		assertRoundTrip(new CoherenceCacheKey(null, "Dune", 1965), new DefaultSerializer());
+	}
+
+	private static void assertRoundTrip(CoherenceCacheKey key, Serializer serializer) {
+		final Binary binary = ExternalizableHelper.toBinary(key, serializer);
+		final CoherenceCacheKey deserializedKey = ExternalizableHelper.fromBinary(binary, serializer);
+
+		assertThat(deserializedKey).isEqualTo(key);
+		assertThat(deserializedKey.hashCode()).isEqualTo(key.hashCode());
+		assertThat(deserializedKey.getAssociatedKey()).isEqualTo(key.getAssociatedKey());
+	}
+
+	private Object generate(String methodName, Object... params) {
+		final Method method = ReflectionUtils.findMethod(BookService.class, methodName, (Class<?>[]) null);
+		return this.keyGenerator.generate(this.bookService, method, params);
+	}
+
+	static class BookService {
+
+		Object findAll() {
+			return null;
+		}
+
+		Object findById(long id) {
+			return null;
+		}
+
+		Object findByTitle(String title, int year) {
+			return null;
+		}
+
+		Object findByAuthor(@CacheKeyAssociation String author, int page) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class CoherenceSpringPofConfigProviderTests {
+
+	private final ConfigurablePofContext pofContext = new ConfigurablePofContext("pof-config.xml");
+
+	@Test
+	public void testPofTypesAreRegistered() {
+		assertThat(this.pofContext.getUserTypeIdentifier(CoherenceNullValue.class)).isEqualTo(18000);
+		assertThat(this.pofContext.getUserTypeIdentifier(CoherenceCacheKey.class)).isEqualTo(18001);
+		assertThat(this.pofContext.getUserTypeIdentifier(LoadingLease.class)).isEqualTo(18002);
+		assertThat(this.pofContext.getUserTypeIdentifier(AcquireLoadingLeaseProcessor.class)).isEqualTo(18003);
+		assertThat(this.pofContext.getUserTypeIdentifier(ReleaseLoadingLeaseProcessor.class)).isEqualTo(18004);
+		assertThat(this.pofContext.getUserTypeIdentifier(PutIfAbsentProcessor.class)).isEqualTo(18005);
+		assertThat(this.pofContext.getUserTypeIdentifier(EvictIfPresentProcessor.class)).isEqualTo(18006);
+		assertThat(this.pofContext.getUserTypeIdentifier(RefreshAheadProcessor.class)).isEqualTo(18007);
+		assertThat(this.pofContext.getUserTypeIdentifier(RefreshAheadValue.class)).isEqualTo(18008);
+		assertThat(this.pofContext.getUserTypeIdentifier(RefreshAheadAggregator.class)).isEqualTo(18009);
+	}
+
+	@Test
+	public void testPofRoundTrip() {
+		assertThat(roundTrip(CoherenceNullValue.INSTANCE)).isEqualTo(CoherenceNullValue.INSTANCE);
+		assertThat(roundTrip(new CoherenceCacheKey("foo", "bar", 42))).isEqualTo(new CoherenceCacheKey("foo", "bar", 42));
+		assertThat(roundTrip(new LoadingLease("owner", 42L))).isEqualTo(new LoadingLease("owner", 42L));
+		assertThat(roundTrip(new RefreshAheadValue("foo")).getValue()).isEqualTo("foo");
+
+		final PutIfAbsentProcessor putIfAbsent = roundTrip(new PutIfAbsentProcessor("foo", 42L));
+		assertThat(ReflectionTestUtils.getField(putIfAbsent, "value")).isEqualTo("foo");
+		assertThat(ReflectionTestUtils.getField(putIfAbsent, "timeToLiveMillis")).isEqualTo(42L);
+		final ReleaseLoadingLeaseProcessor release = roundTrip(new ReleaseLoadingLeaseProcessor("owner"));
+		assertThat(ReflectionTestUtils.getField(release, "owner")).isEqualTo("owner");
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T roundTrip(T value) {
+		return (T) ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(value, this.pofContext), this.pofContext);
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tangosol.net.NamedCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class TransactionAwareCoherenceCacheTests {
+
+	private NamedCache<Object, Object> namedCache;
+
+	private TransactionAwareCoherenceCache cache;
+
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setup() {
+		this.namedCache = mock(NamedCache.class);
+		this.cache = new TransactionAwareCoherenceCache(
+				new CoherenceCache(this.namedCache, new CoherenceCacheConfiguration(Duration.ZERO)));
+		this.transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void commitAppliesBufferedOperationsInBulk() {
+		final Map<Object, Boolean> evicted = new HashMap<>();
+		evicted.put("bar", Boolean.TRUE);
+		evicted.put("baz", Boolean.FALSE);
+		when(this.namedCache.invokeAll(anyCollection(), any(EvictIfPresentProcessor.class))).thenReturn(evicted);
+
+		this.transactionTemplate.executeWithoutResult((status) -> {
+			this.cache.put("foo", "1");
+			this.cache.put("bar", "2");
+			this.cache.evict("bar");
+			this.cache.evict("baz");
+			this.cache.put("qux", "3");
+
+			verify(this.namedCache, never()).put(any(), any());
+			verify(this.namedCache, never()).remove(any());
+		});
+
+		final ArgumentCaptor<Map<Object, Object>> puts = ArgumentCaptor.forClass(Map.class);
+		final ArgumentCaptor<Collection<Object>> evictions = ArgumentCaptor.forClass(Collection.class);
+		verify(this.namedCache, times(1)).putAll(puts.capture());
+		verify(this.namedCache, times(1)).invokeAll(evictions.capture(), any(EvictIfPresentProcessor.class));
+		verify(this.namedCache, never()).put(any(), any());
+		verify(this.namedCache, never()).remove(any());
+
+		final Map<Object, Object> expectedPuts = new HashMap<>();
+		expectedPuts.put("foo", "1");
+		expectedPuts.put("qux", "3");
+		assertThat(puts.getValue()).isEqualTo(expectedPuts);
+		assertThat(evictions.getValue()).containsExactlyInAnyOrder("bar", "baz");
+		assertThat(this.cache.getTargetCache().getStatistics().getPutCount()).isEqualTo(2);
+		// only "bar" held a value
+		assertThat(this.cache.getTargetCache().getStatistics().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void rollbackDiscardsBufferedOperations() {
+		this.transactionTemplate.executeWithoutResult((status) -> {
+			this.cache.put("foo", "1");
+			this.cache.evict("bar");
+			this.cache.clear();
+			status.setRollbackOnly();
+		});
+
+		verify(this.namedCache, never()).putAll(anyMap());
+		verify(this.namedCache, never()).invokeAll(anyCollection(), any(EvictIfPresentProcessor.class));
+		verify(this.namedCache, never()).clear();
+
+		this.transactionTemplate.executeWithoutResult((status) -> this.cache.put("foo", "2"));
+		verify(this.namedCache).putAll(Collections.singletonMap("foo", "2"));
+	}
+
+	@Test
+	public void clearWithinTransactionIsAppliedBeforeSubsequentOperations() {
+		this.transactionTemplate.executeWithoutResult((status) -> {
+			this.cache.put("foo", "1");
+			this.cache.clear();
+			this.cache.put("bar", "2");
+		});
+
+		verify(this.namedCache).clear();
+		verify(this.namedCache).putAll(Collections.singletonMap("bar", "2"));
+	}
+
+	@Test
+	public void operationsOutsideOfTransactionAreNotBuffered() {
+		this.cache.put("foo", "1");
+		this.cache.evict("bar");
+
+		verify(this.namedCache).put("foo", "1");
+		verify(this.namedCache).remove("bar");
+		verify(this.namedCache, never()).putAll(anyMap());
+	}
+
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.tangosol.coherence.config.ResolvableParameterList;
+import com.tangosol.config.expression.NullParameterResolver;
+import com.tangosol.config.expression.Parameter;
+import com.tangosol.net.cache.CacheLoader;
+import com.tangosol.net.cache.CacheStore;
+import com.tangosol.net.cache.MapCacheStore;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class CacheStoreDecoratorsTests {
+
+	@Test
+	public void cacheStoreIsDecoratedWithCacheName() {
+		final List<String> cacheNames = new ArrayList<>();
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("decorator", (CacheStoreDecorator) (cacheLoader, cacheName) -> {
+			cacheNames.add(cacheName);
+			return new MapCacheStore<>(new HashMap<>());
+		});
+		final ResolvableParameterList resolver = new ResolvableParameterList();
+		resolver.add(new Parameter(CacheStoreDecorators.CACHE_NAME_PARAMETER, "people"));
+		final MapCacheStore<Object, Object> cacheStore = new MapCacheStore<>(new HashMap<>());
+
+		final Object result = CacheStoreDecorators.decorate(cacheStore, "store", beanFactory, resolver);
+
+		assertThat(result).isInstanceOf(CacheStore.class).isNotSameAs(cacheStore);
+		assertThat(cacheNames).containsExactly("people");
+	}
+
+	@Test
+	public void beanNameIsUsedWithoutCacheName() {
+		final List<String> cacheNames = new ArrayList<>();
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("decorator", (CacheStoreDecorator) (cacheLoader, cacheName) -> {
+			cacheNames.add(cacheName);
+			return cacheLoader;
+		});
+
+		CacheStoreDecorators.decorate(new MapCacheStore<>(new HashMap<>()), "store", beanFactory,
+				new NullParameterResolver());
+
+		assertThat(cacheNames).containsExactly("store");
+	}
+
+	@Test
+	public void otherBeansAreNotDecorated() {
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("decorator", (CacheStoreDecorator) (cacheLoader, cacheName) -> {
+			throw new AssertionError("unexpected decoration");
+		});
+		final Object bean = new Object();
+
+		assertThat(CacheStoreDecorators.decorate(bean, "bean", beanFactory, new NullParameterResolver()))
+			.isSameAs(bean);
+	}
+
+	@Test
+	public void decoratorMustPreserveCacheStore() {
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("decorator", (CacheStoreDecorator) (cacheLoader, cacheName) -> (CacheLoader<?, ?>) (key) -> null);
+
+		assertThatThrownBy(() -> CacheStoreDecorators.decorate(new MapCacheStore<>(new HashMap<>()), "store",
+				beanFactory, new NullParameterResolver()))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class CrudRepositoryCacheStoreTests {
+
+	private ListCrudRepository<String, Long> repository;
+
+	private CrudRepositoryCacheStore<String, Long> cacheStore;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.repository = mock(ListCrudRepository.class);
+		final EntityInformation<String, Long> entityInformation = mock(EntityInformation.class);
+		when(entityInformation.getId(any())).thenAnswer((invocation) -> Long
+			.valueOf(invocation.<String>getArgument(0).substring(1)));
+		this.cacheStore = new CrudRepositoryCacheStore<>(this.repository, entityInformation);
+		this.cacheStore.setBatchSize(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAllUsesFindAllByIdPerBatch() {
+		when(this.repository.findAllById(any(Iterable.class))).thenAnswer((invocation) -> StreamSupport
+			.stream(invocation.<Iterable<Long>>getArgument(0).spliterator(), false)
+			.map((id) -> "p" + id)
+			.collect(Collectors.toList()));
+
+		final Map<Long, String> result = this.cacheStore.loadAll(Arrays.asList(1L, 2L, 3L));
+
+		verify(this.repository, times(2)).findAllById(any(Iterable.class));
+		assertThat(result).hasSize(3).containsEntry(3L, "p3");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void storeAllUsesSaveAllPerBatch() {
+		final Map<Long, String> entries = createEntries(5);
+
+		this.cacheStore.storeAll(entries);
+
+		final ArgumentCaptor<Iterable<String>> batches = ArgumentCaptor.forClass(Iterable.class);
+		verify(this.repository, times(3)).saveAll(batches.capture());
+		assertThat(batches.getAllValues()).containsExactly(Arrays.asList("p1", "p2"), Arrays.asList("p3", "p4"),
+				Collections.singletonList("p5"));
+		assertThat(entries).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void storeAllKeepsUnstoredEntries() {
+		when(this.repository.saveAll(any(Iterable.class))).thenReturn(Collections.emptyList())
+			.thenThrow(new IllegalStateException("database down"));
+		final Map<Long, String> entries = createEntries(4);
+
+		assertThatThrownBy(() -> this.cacheStore.storeAll(entries)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(entries).containsOnlyKeys(3L, 4L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void eraseAllUsesDeleteAllByIdPerBatch() {
+		final List<Long> keys = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
+
+		this.cacheStore.eraseAll(keys);
+
+		final ArgumentCaptor<Iterable<Long>> batches = ArgumentCaptor.forClass(Iterable.class);
+		verify(this.repository, times(2)).deleteAllById(batches.capture());
+		assertThat(batches.getAllValues()).containsExactly(Arrays.asList(1L, 2L), Collections.singletonList(3L));
+		assertThat(keys).isEmpty();
+	}
+
+	@Test
+	public void singleEntryOperationsDelegateToRepository() {
+		when(this.repository.findById(1L)).thenReturn(Optional.of("p1"));
+
+		assertThat(this.cacheStore.load(1L)).isEqualTo("p1");
+		this.cacheStore.store(1L, "p1");
+		this.cacheStore.erase(1L);
+
+		verify(this.repository).save("p1");
+		verify(this.repository).deleteById(1L);
+	}
+
+	private static Map<Long, String> createEntries(int count) {
+		final Map<Long, String> entries = new LinkedHashMap<>();
+		for (long i = 1; i <= count; i++) {
+			entries.put(i, "p" + i);
+		}
+		return entries;
+	}
+
+}
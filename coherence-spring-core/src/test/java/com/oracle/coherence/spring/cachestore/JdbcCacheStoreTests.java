@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class JdbcCacheStoreTests {
+
+	private static final String UPDATE_SQL = "UPDATE person SET first_name = :first_name, last_name = :last_name "
+			+ "WHERE id = :id";
+
+	private static final String INSERT_SQL = "INSERT INTO person (id, first_name, last_name) "
+			+ "VALUES (:id, :first_name, :last_name)";
+
+	private static final String DELETE_SQL = "DELETE FROM person WHERE id = :id";
+
+	private NamedParameterJdbcOperations jdbcOperations;
+
+	private JdbcCacheStore<Long, Person> cacheStore;
+
+	@BeforeEach
+	public void setup() {
+		this.jdbcOperations = mock(NamedParameterJdbcOperations.class);
+		final RowMapper<Person> rowMapper = (rs, rowNum) -> new Person(rs.getString("first_name"),
+				rs.getString("last_name"));
+		this.cacheStore = new JdbcCacheStore<>(this.jdbcOperations, "person", "id",
+				Arrays.asList("first_name", "last_name"), rowMapper);
+		this.cacheStore.setBatchSize(2);
+	}
+
+	@Test
+	public void storeAllUsesOneUpsertBatchPerChunk() {
+		this.cacheStore.setDialect(JdbcUpsertDialect.POSTGRESQL);
+		final Map<Long, Person> entries = createEntries(5);
+
+		this.cacheStore.storeAll(entries);
+
+		final ArgumentCaptor<SqlParameterSource[]> batches = ArgumentCaptor.forClass(SqlParameterSource[].class);
+		verify(this.jdbcOperations, times(3)).batchUpdate(eq("INSERT INTO person (id, first_name, last_name) "
+				+ "VALUES (:id, :first_name, :last_name) ON CONFLICT (id) "
+				+ "DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name"), batches.capture());
+		assertThat(batches.getAllValues()).extracting((batch) -> batch.length).containsExactly(2, 2, 1);
+		final SqlParameterSource first = batches.getAllValues().get(0)[0];
+		assertThat(first.getValue("id")).isEqualTo(1L);
+		assertThat(first.getValue("first_name")).isEqualTo("First1");
+		assertThat(first.getValue("last_name")).isEqualTo("Last1");
+		assertThat(entries).isEmpty();
+	}
+
+	@Test
+	public void storeAllWithoutDialectInsertsMissingRows() {
+		when(this.jdbcOperations.batchUpdate(eq(UPDATE_SQL), any(SqlParameterSource[].class)))
+			.thenReturn(new int[] { 1, 0 });
+
+		this.cacheStore.storeAll(createEntries(2));
+
+		final ArgumentCaptor<SqlParameterSource[]> inserts = ArgumentCaptor.forClass(SqlParameterSource[].class);
+		verify(this.jdbcOperations).batchUpdate(eq(UPDATE_SQL), any(SqlParameterSource[].class));
+		verify(this.jdbcOperations).batchUpdate(eq(INSERT_SQL), inserts.capture());
+		assertThat(inserts.getValue()).hasSize(1);
+		assertThat(inserts.getValue()[0].getValue("id")).isEqualTo(2L);
+	}
+
+	@Test
+	public void storeAllWithoutDialectRetriesRowsWithoutUpdateCount() {
+		when(this.jdbcOperations.batchUpdate(eq(UPDATE_SQL), any(SqlParameterSource[].class)))
+			.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+		when(this.jdbcOperations.update(eq(UPDATE_SQL), any(SqlParameterSource.class))).thenReturn(1, 0);
+		final Map<Long, Person> entries = createEntries(2);
+
+		this.cacheStore.storeAll(entries);
+
+		final ArgumentCaptor<SqlParameterSource[]> inserts = ArgumentCaptor.forClass(SqlParameterSource[].class);
+		verify(this.jdbcOperations, times(2)).update(eq(UPDATE_SQL), any(SqlParameterSource.class));
+		verify(this.jdbcOperations).batchUpdate(eq(INSERT_SQL), inserts.capture());
+		assertThat(inserts.getValue()).hasSize(1);
+		assertThat(inserts.getValue()[0].getValue("id")).isEqualTo(2L);
+		assertThat(entries).isEmpty();
+	}
+
+	@Test
+	public void storeAllKeepsUnstoredEntriesOnFailure() {
+		this.cacheStore.setDialect(JdbcUpsertDialect.H2);
+		when(this.jdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+			.thenReturn(new int[] { 1, 1 })
+			.thenThrow(new IllegalStateException("database down"));
+		final Map<Long, Person> entries = createEntries(4);
+
+		assertThatThrownBy(() -> this.cacheStore.storeAll(entries)).isInstanceOf(IllegalStateException.class);
+		assertThat(entries).containsOnlyKeys(3L, 4L);
+	}
+
+	@Test
+	public void storeWithoutDialectInsertsMissingRow() {
+		when(this.jdbcOperations.update(eq(UPDATE_SQL), any(SqlParameterSource.class))).thenReturn(0);
+
+		this.cacheStore.store(1L, new Person("First1", "Last1"));
+
+		verify(this.jdbcOperations).update(eq(INSERT_SQL), any(SqlParameterSource.class));
+	}
+
+	@Test
+	public void storeWithDialectUsesSingleStatement() {
+		this.cacheStore.setDialect(JdbcUpsertDialect.MYSQL);
+
+		this.cacheStore.store(1L, new Person("First1", "Last1"));
+
+		verify(this.jdbcOperations).update(eq("INSERT INTO person (id, first_name, last_name) "
+				+ "VALUES (:id, :first_name, :last_name) ON DUPLICATE KEY UPDATE "
+				+ "first_name = VALUES(first_name), last_name = VALUES(last_name)"), any(SqlParameterSource.class));
+		verify(this.jdbcOperations, times(1)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	public void eraseAllUsesOneDeleteBatchPerChunk() {
+		final List<Long> keys = Arrays.asList(1L, 2L, 3L);
+
+		this.cacheStore.eraseAll(keys);
+
+		final ArgumentCaptor<SqlParameterSource[]> batches = ArgumentCaptor.forClass(SqlParameterSource[].class);
+		verify(this.jdbcOperations, times(2)).batchUpdate(eq(DELETE_SQL), batches.capture());
+		assertThat(batches.getAllValues()).extracting((batch) -> batch.length).containsExactly(2, 1);
+		assertThat(batches.getAllValues().get(1)[0].getValue("id")).isEqualTo(3L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAllQueriesOncePerChunk() {
+		when(this.jdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+			.thenReturn(Collections.emptyList());
+
+		this.cacheStore.loadAll(Arrays.asList(1L, 2L, 3L));
+
+		final ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(this.jdbcOperations, times(2)).query(
+				eq("SELECT id, first_name, last_name FROM person WHERE id IN (:keys)"), parameters.capture(),
+				any(RowMapper.class));
+		assertThat(parameters.getAllValues()).extracting((p) -> (Collection<Long>) p.getValue("keys"))
+			.containsExactly(Arrays.asList(1L, 2L), Collections.singletonList(3L));
+	}
+
+	@Test
+	public void customParameterMapperIsUsed() {
+		this.cacheStore.setDialect(JdbcUpsertDialect.H2);
+		this.cacheStore.setParameterMapper((key, person) -> new MapSqlParameterSource("id", key)
+			.addValue("first_name", person.getFirstName().toUpperCase())
+			.addValue("last_name", person.getLastName()));
+
+		this.cacheStore.store(1L, new Person("First1", "Last1"));
+
+		final ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(this.jdbcOperations).update(eq("MERGE INTO person (id, first_name, last_name) KEY (id) "
+				+ "VALUES (:id, :first_name, :last_name)"), parameters.capture());
+		assertThat(parameters.getValue().getValue("first_name")).isEqualTo("FIRST1");
+		verify(this.jdbcOperations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+
+	@Test
+	public void oracleDialectCreatesMergeStatement() {
+		assertThat(JdbcUpsertDialect.ORACLE.createUpsertSql("person", "id", Arrays.asList("first_name", "last_name")))
+			.isEqualTo("MERGE INTO person t USING (SELECT :id AS id, :first_name AS first_name, "
+					+ ":last_name AS last_name FROM DUAL) s ON (t.id = s.id) WHEN MATCHED THEN UPDATE SET "
+					+ "t.first_name = s.first_name, t.last_name = s.last_name WHEN NOT MATCHED THEN "
+					+ "INSERT (id, first_name, last_name) VALUES (s.id, s.first_name, s.last_name)");
+	}
+
+	private static Map<Long, Person> createEntries(int count) {
+		final Map<Long, Person> entries = new LinkedHashMap<>();
+		for (long i = 1; i <= count; i++) {
+			entries.put(i, new Person("First" + i, "Last" + i));
+		}
+		return entries;
+	}
+
+	public static class Person {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		Person(String firstName, String lastName) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+
+		public String getFirstName() {
+			return this.firstName;
+		}
+
+		public String getLastName() {
+			return this.lastName;
+		}
+
+	}
+
+}
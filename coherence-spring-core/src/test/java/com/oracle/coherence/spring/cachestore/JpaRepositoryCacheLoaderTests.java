@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import com.oracle.coherence.spring.CoherenceContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class JpaRepositoryCacheLoaderTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAllQueriesOncePerChunk() {
+		final PersonRepository repository = createRepository(2, null);
+
+		final Map<Long, String> result = repository.loadAll(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+
+		final ArgumentCaptor<Iterable<Long>> chunks = ArgumentCaptor.forClass(Iterable.class);
+		verify(repository, times(3)).findAllById(chunks.capture());
+		assertThat(chunks.getAllValues()).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L),
+				Collections.singletonList(5L));
+		assertThat(result).hasSize(5).containsEntry(1L, "p1").containsEntry(5L, "p5");
+	}
+
+	@Test
+	public void loadAllWithNoKeysDoesNotQuery() {
+		final PersonRepository repository = createRepository(2, null);
+
+		assertThat(repository.loadAll(Collections.emptyList())).isEmpty();
+		verify(repository, never()).findAllById(any());
+	}
+
+	@Test
+	public void loadAllLoadsChunksInParallel() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2, (runnable) -> new Thread(runnable, "loader"));
+		try {
+			final PersonRepository repository = createRepository(10, executor);
+			final Set<String> threads = ConcurrentHashMap.newKeySet();
+			doAnswer((invocation) -> {
+				threads.add(Thread.currentThread().getName());
+				return toPersons(invocation.getArgument(0));
+			}).when(repository).findAllById(any());
+
+			final List<Long> keys = Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L,
+					16L, 17L, 18L, 19L, 20L, 21L, 22L, 23L, 24L, 25L);
+			final Map<Long, String> result = repository.loadAll(keys);
+
+			verify(repository, times(3)).findAllById(any());
+			assertThat(result).hasSize(25).containsEntry(25L, "p25");
+			assertThat(threads).containsOnly("loader");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void loadAllPropagatesParallelFailure() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final PersonRepository repository = createRepository(1, executor);
+			doThrow(new IllegalStateException("database down")).when(repository).findAllById(any());
+
+			assertThatThrownBy(() -> repository.loadAll(Arrays.asList(1L, 2L)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("database down");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getIdLooksUpPersistenceUnitUtilOnce() {
+		final PersistenceUnitUtil persistenceUnitUtil = mock(PersistenceUnitUtil.class);
+		final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		final EntityManager entityManager = mock(EntityManager.class);
+		final ApplicationContext applicationContext = mock(ApplicationContext.class);
+		when(persistenceUnitUtil.getIdentifier(any())).thenReturn(42L);
+		when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+		when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+		when(applicationContext.getBean(EntityManager.class)).thenReturn(entityManager);
+
+		final ApplicationContext previous = CoherenceContext.getApplicationContext();
+		CoherenceContext.setApplicationContext(applicationContext);
+		try {
+			final PersonRepository repository = mock(PersonRepository.class, CALLS_REAL_METHODS);
+			assertThat(repository.getId("p42")).isEqualTo(42L);
+			assertThat(repository.getId("p42")).isEqualTo(42L);
+			verify(applicationContext, times(1)).getBean(EntityManager.class);
+			verify(persistenceUnitUtil, times(2)).getIdentifier("p42");
+		}
+		finally {
+			CoherenceContext.setApplicationContext(previous);
+		}
+	}
+
+	private static PersonRepository createRepository(int batchSize, ExecutorService executor) {
+		final PersonRepository repository = mock(PersonRepository.class, CALLS_REAL_METHODS);
+		doReturn(batchSize).when(repository).getBatchSize();
+		doReturn(executor).when(repository).getLoadExecutor();
+		doAnswer((invocation) -> Long.valueOf(invocation.<String>getArgument(0).substring(1))).when(repository)
+			.getId(any());
+		doAnswer((invocation) -> toPersons(invocation.getArgument(0))).when(repository).findAllById(any());
+		return repository;
+	}
+
+	private static List<String> toPersons(Iterable<Long> ids) {
+		return StreamSupport.stream(ids.spliterator(), false).map((id) -> "p" + id).collect(Collectors.toList());
+	}
+
+	interface PersonRepository extends JpaRepositoryCacheLoader<String, Long> {
+
+	}
+
+}
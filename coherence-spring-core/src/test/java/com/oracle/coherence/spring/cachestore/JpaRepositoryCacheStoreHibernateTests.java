@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.Version;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.FormatMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the statements that {@link JpaRepositoryCacheStore} sends to the database,
+ * using Hibernate and an embedded HSQLDB database.
+ *
+ * @author agent (agent@local)
+ *
+ */
+@SpringJUnitConfig(JpaRepositoryCacheStoreHibernateTests.Config.class)
+@DirtiesContext
+public class JpaRepositoryCacheStoreHibernateTests {
+
+	private static final AtomicInteger removeCallbacks = new AtomicInteger();
+
+	@Autowired
+	private PersonRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	public void setup() {
+		this.repository.deleteAllInBatch();
+		removeCallbacks.set(0);
+		this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		this.statistics.clear();
+	}
+
+	@Test
+	public void storeAllSendsOneJdbcBatchPerBatch() {
+		this.repository.storeAll(createEntries(5));
+
+		assertThat(this.statistics.getEntityInsertCount()).isEqualTo(5);
+		// one prepared insert statement per flushed batch of 2 entities, no selects
+		assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+		assertThat(this.repository.count()).isEqualTo(5);
+	}
+
+	@Test
+	public void eraseAllSendsOneDeleteStatementPerBatch() {
+		this.repository.storeAll(createEntries(5));
+		this.statistics.clear();
+
+		this.repository.eraseAll(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+
+		assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+		assertThat(this.repository.count()).isZero();
+		// bulk deletes bypass the persistence context, hence no lifecycle callbacks
+		assertThat(this.statistics.getEntityDeleteCount()).isZero();
+		assertThat(removeCallbacks.get()).isZero();
+	}
+
+	@Test
+	public void eraseRemovesEntityUsingPersistenceContext() {
+		this.repository.storeAll(createEntries(1));
+
+		this.repository.erase(1L);
+
+		assertThat(this.repository.count()).isZero();
+		assertThat(removeCallbacks.get()).isEqualTo(1);
+	}
+
+	private static Map<Long, Person> createEntries(int count) {
+		final Map<Long, Person> entries = new LinkedHashMap<>();
+		for (long i = 1; i <= count; i++) {
+			entries.put(i, new Person(i, "Name" + i));
+		}
+		return entries;
+	}
+
+	@Entity
+	public static class Person {
+
+		@Id
+		private Long id;
+
+		@Version
+		private Long version;
+
+		private String name;
+
+		protected Person() {
+		}
+
+		Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@PreRemove
+		void onRemove() {
+			removeCallbacks.incrementAndGet();
+		}
+
+	}
+
+	interface PersonRepository extends JpaRepositoryCacheStore<Person, Long> {
+
+		@Override
+		default int getBatchSize() {
+			return 2;
+		}
+
+	}
+
+	static class UnsupportedFormatMapper implements FormatMapper {
+
+		@Override
+		public <T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableJpaRepositories(considerNestedRepositories = true,
+			includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = PersonRepository.class))
+	static class Config {
+
+		@Bean(destroyMethod = "shutdown")
+		DataSource dataSource() {
+			return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL).generateUniqueName(true).build();
+		}
+
+		@Bean
+		LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+			final Map<String, Object> properties = new HashMap<>();
+			properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+			properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, "50");
+			properties.put(AvailableSettings.GENERATE_STATISTICS, "true");
+			// the Jakarta EE API provides JSON-B without an implementation, which Hibernate would try to use otherwise
+			properties.put(AvailableSettings.JSON_FORMAT_MAPPER, new UnsupportedFormatMapper());
+
+			final LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+			factoryBean.setDataSource(dataSource);
+			factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+			factoryBean.setManagedTypes(PersistenceManagedTypes.of(Person.class.getName()));
+			factoryBean.setJpaPropertyMap(properties);
+			return factoryBean;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+			return new JpaTransactionManager(entityManagerFactory);
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class JpaRepositoryCacheStoreTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void storeAllSavesAndFlushesOncePerBatch() {
+		final PersonRepository repository = createRepository(2);
+		final Map<Long, String> entries = createEntries(5);
+
+		repository.storeAll(entries);
+
+		final ArgumentCaptor<Iterable<String>> batches = ArgumentCaptor.forClass(Iterable.class);
+		final InOrder inOrder = inOrder(repository);
+		for (int i = 0; i < 3; i++) {
+			inOrder.verify(repository).saveAll(batches.capture());
+			inOrder.verify(repository).flush();
+		}
+		assertThat(batches.getAllValues()).containsExactly(Arrays.asList("p1", "p2"), Arrays.asList("p3", "p4"),
+				Collections.singletonList("p5"));
+		verify(repository, never()).save(any());
+		verify(repository, never()).saveAndFlush(any());
+		assertThat(entries).hasSize(5);
+	}
+
+	@Test
+	public void storeAllUsesDefaultBatchSize() {
+		final PersonRepository repository = mock(PersonRepository.class, CALLS_REAL_METHODS);
+
+		repository.storeAll(createEntries(JpaRepositoryCacheStore.DEFAULT_BATCH_SIZE + 1));
+
+		verify(repository, times(2)).saveAll(any());
+		verify(repository, times(2)).flush();
+	}
+
+	@Test
+	public void storeAllWithNoEntriesDoesNotFlush() {
+		final PersonRepository repository = createRepository(2);
+
+		repository.storeAll(Collections.emptyMap());
+
+		verify(repository, never()).saveAll(any());
+		verify(repository, never()).flush();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void eraseAllDeletesOncePerBatch() {
+		final PersonRepository repository = createRepository(2);
+		final List<Long> keys = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+		repository.eraseAll(keys);
+
+		final ArgumentCaptor<Iterable<Long>> batches = ArgumentCaptor.forClass(Iterable.class);
+		verify(repository, times(3)).deleteAllByIdInBatch(batches.capture());
+		assertThat(batches.getAllValues()).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L),
+				Collections.singletonList(5L));
+		verify(repository, never()).deleteById(any());
+		verify(repository, never()).flush();
+	}
+
+	@Test
+	public void eraseAllWithNoKeysDoesNotDelete() {
+		final PersonRepository repository = createRepository(2);
+
+		repository.eraseAll(Collections.emptyList());
+
+		verify(repository, never()).deleteAllByIdInBatch(any());
+	}
+
+	private static PersonRepository createRepository(int batchSize) {
+		final PersonRepository repository = mock(PersonRepository.class, CALLS_REAL_METHODS);
+		doReturn(batchSize).when(repository).getBatchSize();
+		return repository;
+	}
+
+	private static Map<Long, String> createEntries(int count) {
+		final Map<Long, String> entries = new LinkedHashMap<>();
+		for (long i = 1; i <= count; i++) {
+			entries.put(i, "p" + i);
+		}
+		return entries;
+	}
+
+	interface PersonRepository extends JpaRepositoryCacheStore<String, Long> {
+
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.cachestore;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import com.tangosol.net.cache.StoreObserver;
+import com.tangosol.util.BinaryEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class ReactiveRepositoryEntryStoreTests {
+
+	private ReactiveCrudRepository<String, Long> repository;
+
+	private StoreObserver<Long, String> observer;
+
+	private ReactiveRepositoryEntryStore<String, Long> entryStore;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.repository = mock(ReactiveCrudRepository.class);
+		this.observer = mock(StoreObserver.class);
+		this.entryStore = new ReactiveRepositoryEntryStore<>(this.repository,
+				(value) -> Long.valueOf(value.substring(1)));
+	}
+
+	@Test
+	public void loadReturnsBeforeRepositoryCompletes() {
+		final Sinks.One<String> result = Sinks.one();
+		when(this.repository.findById(1L)).thenReturn(result.asMono());
+		final BinaryEntry<Long, String> binEntry = createEntry(1L, null);
+
+		this.entryStore.load(binEntry, this.observer);
+
+		verify(this.observer, never()).onNext(any());
+		result.tryEmitValue("p1");
+		verify(binEntry).setValue("p1");
+		verify(this.observer).onNext(binEntry);
+	}
+
+	@Test
+	public void loadOfMissingEntityCompletesWithoutValue() {
+		when(this.repository.findById(1L)).thenReturn(Mono.empty());
+		final BinaryEntry<Long, String> binEntry = createEntry(1L, null);
+
+		this.entryStore.load(binEntry, this.observer);
+
+		verify(binEntry, never()).setValue(any());
+		verify(this.observer).onNext(binEntry);
+	}
+
+	@Test
+	public void loadFailureIsReportedToObserver() {
+		final IllegalStateException failure = new IllegalStateException("database down");
+		when(this.repository.findById(1L)).thenReturn(Mono.error(failure));
+		final BinaryEntry<Long, String> binEntry = createEntry(1L, null);
+
+		this.entryStore.load(binEntry, this.observer);
+
+		verify(this.observer).onError(binEntry, failure);
+		verify(this.observer, never()).onNext(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAllQueriesOncePerChunk() {
+		when(this.repository.findAllById(any(Iterable.class))).thenAnswer((invocation) -> Flux.fromIterable(
+				StreamSupport.stream(invocation.<Iterable<Long>>getArgument(0).spliterator(), false)
+					.filter((id) -> id != 2L)
+					.map((id) -> "p" + id)
+					.collect(Collectors.toList())));
+		this.entryStore.setBatchSize(2);
+		final List<BinaryEntry<Long, String>> entries = Arrays.asList(createEntry(1L, null), createEntry(2L, null),
+				createEntry(3L, null));
+
+		this.entryStore.loadAll(new LinkedHashSet<>(entries), this.observer);
+
+		verify(this.repository, times(2)).findAllById(any(Iterable.class));
+		verify(entries.get(0)).setValue("p1");
+		verify(entries.get(1), never()).setValue(any());
+		verify(entries.get(2)).setValue("p3");
+		entries.forEach((binEntry) -> verify(this.observer).onNext(binEntry));
+		verify(this.observer).onComplete();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAllFailureIsReportedForEachEntryOfTheChunk() {
+		final IllegalStateException failure = new IllegalStateException("database down");
+		when(this.repository.findAllById(any(Iterable.class))).thenReturn(Flux.error(failure));
+		final BinaryEntry<Long, String> first = createEntry(1L, null);
+		final BinaryEntry<Long, String> second = createEntry(2L, null);
+
+		this.entryStore.loadAll(new LinkedHashSet<>(Arrays.asList(first, second)), this.observer);
+
+		verify(this.observer).onError(first, failure);
+		verify(this.observer).onError(second, failure);
+		verify(this.observer).onComplete();
+	}
+
+	@Test
+	public void storeAllNotifiesObserverPerEntry() {
+		final IllegalStateException failure = new IllegalStateException("constraint violation");
+		when(this.repository.save("p1")).thenReturn(Mono.just("p1"));
+		when(this.repository.save("p2")).thenReturn(Mono.error(failure));
+		final BinaryEntry<Long, String> first = createEntry(1L, "p1");
+		final BinaryEntry<Long, String> second = createEntry(2L, "p2");
+
+		this.entryStore.storeAll(new LinkedHashSet<>(Arrays.asList(first, second)), this.observer);
+
+		verify(this.observer).onNext(first);
+		verify(this.observer).onError(second, failure);
+		verify(this.observer).onComplete();
+	}
+
+	@Test
+	public void storeReturnsBeforeRepositoryCompletes() {
+		final Sinks.One<String> result = Sinks.one();
+		when(this.repository.save("p1")).thenReturn(result.asMono());
+		final BinaryEntry<Long, String> binEntry = createEntry(1L, "p1");
+
+		this.entryStore.store(binEntry, this.observer);
+
+		verify(this.observer, never()).onNext(any());
+		result.tryEmitValue("p1");
+		verify(this.observer).onNext(binEntry);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void eraseAllDeletesOncePerChunk() {
+		when(this.repository.deleteAllById(any(Iterable.class))).thenReturn(Mono.empty());
+		this.entryStore.setBatchSize(2);
+		final Set<BinaryEntry<Long, String>> entries = new LinkedHashSet<>(
+				Arrays.asList(createEntry(1L, null), createEntry(2L, null), createEntry(3L, null)));
+
+		this.entryStore.eraseAll(entries);
+
+		final ArgumentCaptor<Iterable<Long>> chunks = ArgumentCaptor.forClass(Iterable.class);
+		verify(this.repository, times(2)).deleteAllById(chunks.capture());
+		assertThat(chunks.getAllValues()).containsExactly(Arrays.asList(1L, 2L), Collections.singletonList(3L));
+	}
+
+	@Test
+	public void eraseBlocksForRepository() {
+		when(this.repository.deleteById(1L)).thenReturn(Mono.empty());
+
+		this.entryStore.erase(createEntry(1L, null));
+
+		verify(this.repository).deleteById(eq(1L));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BinaryEntry<Long, String> createEntry(Long key, String value) {
+		final BinaryEntry<Long, String> binEntry = mock(BinaryEntry.class);
+		when(binEntry.getKey()).thenReturn(key);
+		when(binEntry.getValue()).thenReturn(value);
+		return binEntry;
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.tangosol.net.NamedCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class CoalescingCacheInterceptorTests {
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@AfterEach
+	public void shutdown() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldWriteMergedUpdatesWithSinglePutAll() {
+		NamedCache<String, String> cache = mock(NamedCache.class);
+		CoalescingNamedCache<String, String> coalescing = createProxy(cache, 10);
+
+		assertThat(coalescing.put("a", "1")).isNull();
+		assertThat(coalescing.put("a", "2")).isNull();
+		coalescing.putAll(Map.of("b", "3", "a", "4"));
+		verifyNoInteractions(cache);
+
+		coalescing.flush();
+
+		ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(cache, times(1)).putAll(captor.capture());
+		assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of("a", "4", "b", "3"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldKeepNewerUpdatesWhenFlushFails() {
+		NamedCache<String, String> cache = mock(NamedCache.class);
+		CoalescingNamedCache<String, String> coalescing = createProxy(cache, 10);
+		doThrow(new IllegalStateException("boom")).when(cache).putAll(anyMap());
+
+		coalescing.put("a", "1");
+		coalescing.put("b", "2");
+
+		assertThatThrownBy(coalescing::flush).isInstanceOf(IllegalStateException.class);
+		assertThat(coalescing.getPendingCount()).isEqualTo(2);
+		assertThat(coalescing.get("a")).isEqualTo("1");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldFlushInCallingThreadWhenFull() {
+		NamedCache<String, String> cache = mock(NamedCache.class);
+		CoalescingNamedCache<String, String> coalescing = createProxy(cache, 2);
+
+		coalescing.put("a", "1");
+		verifyNoInteractions(cache);
+		coalescing.put("b", "2");
+
+		verify(cache).putAll(Map.of("a", "1", "b", "2"));
+		assertThat(coalescing.getPendingCount()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	private CoalescingNamedCache<String, String> createProxy(NamedCache<String, String> cache, int maxPending) {
+		ProxyFactory pf = new ProxyFactory(cache);
+		pf.setInterfaces(CoalescingNamedCache.class);
+		pf.addAdvice(new CoalescingCacheInterceptor(cache, this.scheduler, 60000L, maxPending));
+		return (CoalescingNamedCache<String, String>) pf.getProxy();
+	}
+}
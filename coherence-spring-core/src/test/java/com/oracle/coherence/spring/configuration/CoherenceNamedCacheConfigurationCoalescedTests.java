@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.oracle.coherence.spring.annotation.Coalesced;
+import com.oracle.coherence.spring.annotation.Name;
+import com.oracle.coherence.spring.configuration.annotation.CoherenceCache;
+import com.oracle.coherence.spring.configuration.annotation.EnableCoherence;
+import com.tangosol.net.NamedCache;
+import jakarta.annotation.Resource;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static com.oracle.coherence.spring.configuration.NamedCacheConfiguration.COHERENCE_COALESCING_CACHE_BEAN_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+@SpringJUnitConfig(CoherenceNamedCacheConfigurationCoalescedTests.Config.class)
+@DirtiesContext
+class CoherenceNamedCacheConfigurationCoalescedTests {
+
+	@Inject
+	ApplicationContext ctx;
+
+	@Test
+	void shouldInjectCoalescingNamedCache() {
+		CoalescedBean bean = this.ctx.getBean(CoalescedBean.class);
+		assertThat(bean.getBuffered()).isInstanceOf(CoalescingNamedCache.class);
+		assertThat(bean.getBuffered().getCacheName()).isEqualTo("buffered");
+		assertThat(bean.getDefaults().getCacheName()).isEqualTo("defaults");
+		assertThat(bean.getPlain()).isNotInstanceOf(CoalescingNamedCache.class);
+	}
+
+	@Test
+	void shouldShareBufferForSameCacheAndSettings() {
+		CoalescedBean bean = this.ctx.getBean(CoalescedBean.class);
+		assertThat(bean.getSameBuffer()).isSameAs(bean.getBuffered());
+		assertThat(bean.getDefaults()).isNotSameAs(bean.getBuffered());
+	}
+
+	@Test
+	void shouldMergeUpdatesUntilFlushed() {
+		CoalescedBean bean = this.ctx.getBean(CoalescedBean.class);
+		NamedCache<String, String> buffered = bean.getBuffered();
+		buffered.put("key", "one");
+		buffered.put("key", "two");
+		buffered.putAll(Map.of("key", "three", "other", "value"));
+
+		assertThat(bean.getSameBuffer().getPendingCount()).isEqualTo(2);
+		assertThat(buffered.get("key")).isEqualTo("three");
+		assertThat(buffered.containsKey("other")).isTrue();
+		assertThat(bean.getPlain().containsKey("key")).isFalse();
+
+		bean.getSameBuffer().flush();
+
+		assertThat(bean.getSameBuffer().getPendingCount()).isZero();
+		assertThat(bean.getPlain().get("key")).isEqualTo("three");
+		assertThat(bean.getPlain().get("other")).isEqualTo("value");
+	}
+
+	@Test
+	void shouldFlushBeforeOtherOperations() {
+		CoalescedBean bean = this.ctx.getBean(CoalescedBean.class);
+		CoalescingNamedCache<String, String> cache = bean.getDefaults();
+		cache.put("a", "1");
+		cache.put("b", "2");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getPendingCount()).isZero();
+
+		cache.put("c", "3");
+		cache.clear();
+
+		assertThat(cache.getPendingCount()).isZero();
+		assertThat(cache.isEmpty()).isTrue();
+	}
+
+	@Test
+	void shouldFlushWhenBufferIsFull() {
+		CoalescedBean bean = this.ctx.getBean(CoalescedBean.class);
+		CoalescingNamedCache<String, String> bounded = (CoalescingNamedCache<String, String>) bean.getBounded();
+		bounded.put("a", "1");
+		bounded.put("b", "2");
+		assertThat(bounded.getPendingCount()).isEqualTo(2);
+
+		bounded.put("c", "3");
+
+		assertThat(bounded.getPendingCount()).isZero();
+		assertThat(bean.getBoundedPlain().size()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldFlushWhenWindowElapses() {
+		CoalescedBean bean = this.ctx.getBean(CoalescedBean.class);
+		bean.getTimed().put("key", "value");
+
+		await().atMost(Duration.ofSeconds(10))
+				.untilAsserted(() -> assertThat(bean.getTimedPlain().get("key")).isEqualTo("value"));
+	}
+
+	@Configuration
+	@EnableCoherence
+	static class Config {
+
+		@Bean
+		CoalescedBean coalescedBean() {
+			return new CoalescedBean();
+		}
+	}
+
+	static class CoalescedBean {
+
+		@CoherenceCache
+		@Coalesced(window = 60000)
+		private NamedCache<String, String> buffered;
+
+		@Resource(name = COHERENCE_COALESCING_CACHE_BEAN_NAME)
+		@Name("buffered")
+		@Coalesced(window = 60000)
+		private CoalescingNamedCache<String, String> sameBuffer;
+
+		@CoherenceCache("buffered")
+		private NamedCache<String, String> plain;
+
+		@Resource(name = COHERENCE_COALESCING_CACHE_BEAN_NAME)
+		private CoalescingNamedCache<String, String> defaults;
+
+		@CoherenceCache
+		@Coalesced(window = 60000, maxPending = 3)
+		private NamedCache<String, String> bounded;
+
+		@CoherenceCache("bounded")
+		private NamedCache<String, String> boundedPlain;
+
+		@CoherenceCache
+		@Coalesced(window = 20)
+		private NamedCache<String, String> timed;
+
+		@CoherenceCache("timed")
+		private NamedCache<String, String> timedPlain;
+
+		NamedCache<String, String> getBuffered() {
+			return this.buffered;
+		}
+
+		CoalescingNamedCache<String, String> getSameBuffer() {
+			return this.sameBuffer;
+		}
+
+		NamedCache<String, String> getPlain() {
+			return this.plain;
+		}
+
+		CoalescingNamedCache<String, String> getDefaults() {
+			return this.defaults;
+		}
+
+		NamedCache<String, String> getBounded() {
+			return this.bounded;
+		}
+
+		NamedCache<String, String> getBoundedPlain() {
+			return this.boundedPlain;
+		}
+
+		NamedCache<String, String> getTimed() {
+			return this.timed;
+		}
+
+		NamedCache<String, String> getTimedPlain() {
+			return this.timedPlain;
+		}
+	}
+}
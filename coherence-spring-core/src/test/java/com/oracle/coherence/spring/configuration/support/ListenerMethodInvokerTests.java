@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.configuration.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class ListenerMethodInvokerTests {
+
+	@Test
+	public void shouldInvokeMethodReturningValue() throws Exception {
+		ListenerMethodInvoker invoker = invoker("upperCase", String.class);
+		assertThat(invoker.invoke(new Listener(), "foo")).isEqualTo("FOO");
+	}
+
+	@Test
+	public void shouldInvokeVoidMethod() throws Exception {
+		Listener listener = new Listener();
+		ListenerMethodInvoker invoker = invoker("onMessage", String.class);
+
+		assertThat(invoker.invoke(listener, "foo")).isNull();
+		assertThat(listener.messages).containsExactly("foo");
+	}
+
+	@Test
+	public void shouldInvokeMethodWithPrimitiveParameter() throws Exception {
+		ListenerMethodInvoker invoker = invoker("increment", int.class);
+		assertThat(invoker.invoke(new Listener(), 41)).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldInvokeStaticMethod() throws Exception {
+		ListenerMethodInvoker invoker = invoker("length", String.class);
+		assertThat(invoker.invoke(null, "foo")).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldWrapExceptionThrownByMethod() {
+		ListenerMethodInvoker invoker = invoker("fail", String.class);
+		assertThatThrownBy(() -> invoker.invoke(new Listener(), "foo"))
+				.isInstanceOf(InvocationTargetException.class)
+				.cause().isInstanceOf(IllegalStateException.class).hasMessage("foo");
+	}
+
+	@Test
+	public void shouldRejectArgumentOfWrongType() {
+		ListenerMethodInvoker invoker = invoker("upperCase", String.class);
+		assertThatIllegalArgumentException().isThrownBy(() -> invoker.invoke(new Listener(), 42));
+	}
+
+	@Test
+	public void shouldRejectNullArgumentOfPrimitiveParameter() {
+		ListenerMethodInvoker invoker = invoker("increment", int.class);
+		assertThatIllegalArgumentException().isThrownBy(() -> invoker.invoke(new Listener(), null));
+	}
+
+	@Test
+	public void shouldRejectTargetOfWrongType() {
+		ListenerMethodInvoker invoker = invoker("upperCase", String.class);
+		assertThatIllegalArgumentException().isThrownBy(() -> invoker.invoke("listener", "foo"));
+		assertThatIllegalArgumentException().isThrownBy(() -> invoker.invoke(null, "foo"));
+	}
+
+	@Test
+	public void shouldRejectMethodWithoutSingleParameter() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new ListenerMethodInvoker(ReflectionUtils.findMethod(Listener.class, "toString")));
+	}
+
+	private static ListenerMethodInvoker invoker(String name, Class<?> parameterType) {
+		return new ListenerMethodInvoker(ReflectionUtils.findMethod(Listener.class, name, parameterType));
+	}
+
+	private static final class Listener {
+
+		private final List<String> messages = new ArrayList<>();
+
+		private String upperCase(String value) {
+			return value.toUpperCase();
+		}
+
+		private void onMessage(String value) {
+			this.messages.add(value);
+		}
+
+		private int increment(int value) {
+			return value + 1;
+		}
+
+		private static int length(String value) {
+			return value.length();
+		}
+
+		private void fail(String value) {
+			throw new IllegalStateException(value);
+		}
+
+		@Override
+		public String toString() {
+			return "Listener";
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.spring.messaging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author agent (agent@local)
+ *
+ */
+public class BatchCommitterTests {
+
+	private Subscriber<String> subscriber;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.subscriber = mock(Subscriber.class);
+		when(this.subscriber.isActive()).thenReturn(true);
+		when(this.subscriber.commitAsync(anyMap())).thenReturn(CompletableFuture.completedFuture(Map.of()));
+	}
+
+	@Test
+	public void shouldCommitHighestPositionPerChannelAfterCount() {
+		BatchCommitter committer = createCommitter(3);
+
+		committer.processed(List.of(element(0, 1, 1), element(1, 1, 5)));
+		verify(this.subscriber, never()).commitAsync(anyMap());
+
+		committer.processed(List.of(element(0, 2, 0)));
+		verify(this.subscriber).commitAsync(Map.of(0, new PagedPosition(2, 0), 1, new PagedPosition(1, 5)));
+	}
+
+	@Test
+	public void shouldCommitPendingPositionsOnClose() {
+		BatchCommitter committer = createCommitter(100);
+		committer.processed(List.of(element(0, 1, 1)));
+
+		committer.close();
+
+		verify(this.subscriber).commitAsync(Map.of(0, new PagedPosition(1, 1)));
+	}
+
+	@Test
+	public void shouldDropRevokedAndLostChannels() {
+		BatchCommitter committer = createCommitter(100);
+		committer.processed(List.of(element(0, 1, 1), element(1, 1, 2), element(2, 1, 3)));
+
+		committer.onChannelsRevoked(Set.of(0));
+		committer.onChannelsLost(Set.of(1));
+		verify(this.subscriber, never()).commitAsync(anyMap());
+
+		committer.close();
+		verify(this.subscriber).commitAsync(Map.of(2, new PagedPosition(1, 3)));
+	}
+
+	private BatchCommitter createCommitter(int commitEvery) {
+		BatchCommitter committer = new BatchCommitter(commitEvery, 0L, Schedulers.parallel());
+		committer.setSubscriber(this.subscriber);
+		return committer;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Subscriber.Element<String> element(int channel, long page, int offset) {
+		Subscriber.Element<String> element = mock(Subscriber.Element.class);
+		Position position = new PagedPosition(page, offset);
+		when(element.getChannel()).thenReturn(channel);
+		when(element.getPosition()).thenReturn(position);
+		return element;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,9 +8,13 @@ package com.oracle.coherence.spring.messaging;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,6 +49,7 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -56,6 +61,9 @@ class CoherenceTopicListenerTests {
 	@Inject
 	Coherence coherence;
 
+	@Inject
+	CoherenceTopicListenerSubscribers topicListenerSubscribers;
+
 	@Inject
 	ListenerOne listenerOne;
 
@@ -74,6 +82,15 @@ class CoherenceTopicListenerTests {
 	@Inject
 	ListenerSix listenerSix;
 
+	@Inject
+	ListenerSeven listenerSeven;
+
+	@Inject
+	ListenerEight listenerEight;
+
+	@Inject
+	ListenerNine listenerNine;
+
 	@Autowired
 	CoherenceTopicListenerSubscribers processor;
 
@@ -309,6 +326,129 @@ class CoherenceTopicListenerTests {
 		}
 	}
 
+	@Test
+	void shouldReceiveValuesInBatches() throws Exception {
+		try (Publisher<String> publisher = getPublisher("TwentyOne")) {
+			publishAll(publisher, 20);
+
+			Eventually.assertDeferred(() -> this.listenerSeven.values.size(), is(20));
+			assertThat(this.listenerSeven.maxValueBatch.get() <= ListenerSeven.BATCH_SIZE, is(true));
+			assertThat(this.listenerSeven.maxValueBatch.get() > 1, is(true));
+			NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentyOne");
+			Eventually.assertDeferred(() -> topic.getRemainingMessages(ListenerSeven.GROUP_ID), is(0));
+		}
+	}
+
+	@Test
+	void shouldReceiveElementsInBatches() throws Exception {
+		try (Publisher<String> publisher = getPublisher("TwentyTwo")) {
+			publishAll(publisher, 20);
+
+			Eventually.assertDeferred(() -> this.listenerSeven.elements.size(), is(20));
+			assertThat(this.listenerSeven.maxElementBatch.get() <= ListenerSeven.BATCH_SIZE, is(true));
+			assertThat(this.listenerSeven.maxElementBatch.get() > 1, is(true));
+			NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentyTwo");
+			Eventually.assertDeferred(() -> topic.getRemainingMessages(ListenerSeven.GROUP_ID), is(0));
+		}
+	}
+
+	@Test
+	void shouldDispatchPartialBatchAfterMaxWait() throws Exception {
+		try (Publisher<String> publisher = getPublisher("TwentySeven")) {
+			long start = System.currentTimeMillis();
+			publishAll(publisher, 2);
+
+			Eventually.assertDeferred(() -> this.listenerSeven.partialBatches.size(), is(1));
+			assertThat(this.listenerSeven.partialBatches.get(0), is(2));
+			assertThat(this.listenerSeven.partialBatchTime - start >= ListenerSeven.MAX_WAIT, is(true));
+		}
+	}
+
+	// publish without waiting for each message, so that the messages are available to the same receive
+	private static void publishAll(Publisher<String> publisher, int count) throws Exception {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+		for (int i = 0; i < count; i++) {
+			futures[i] = publisher.publish("message-" + i);
+		}
+		CompletableFuture.allOf(futures).get(1, TimeUnit.MINUTES);
+	}
+
+	@Test
+	void shouldReceiveInChannelOrderWithConcurrentSubscribers() throws Exception {
+		try (Publisher<Integer> publisher = getPublisher("TwentyThree", Publisher.OrderByValue.value(Integer::intValue))) {
+			int channelCount = publisher.getChannelCount();
+			int expected = channelCount * 10;
+			for (int i = 0; i < expected; i++) {
+				publisher.publish(i).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listenerEight.count.get(), is(expected));
+			for (List<Integer> values : this.listenerEight.received.values()) {
+				List<Integer> sorted = new ArrayList<>(values);
+				sorted.sort(null);
+				assertThat(values, is(sorted));
+			}
+
+			// each message was received by the subscriber owning its channel
+			List<CoherenceTopicListenerSubscribers.TopicSubscriber<?, ?, ?>> subscribers =
+					this.topicListenerSubscribers.getSubscribers("TwentyThree");
+			assertThat(subscribers.size(), is(ListenerEight.CONCURRENCY));
+			long consumingSubscribers = subscribers.stream()
+					.filter((subscriber) -> Arrays.stream(subscriber.getSubscriber().getChannels())
+							.anyMatch(this.listenerEight.received::containsKey))
+					.count();
+			assertThat(consumingSubscribers > 1, is(true));
+		}
+	}
+
+	@Test
+	void shouldCommitWithBatchStrategyAfterCount() throws Exception {
+		NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentyFour");
+		try (Publisher<String> publisher = getPublisher("TwentyFour")) {
+			for (int i = 0; i < ListenerNine.COMMIT_EVERY; i++) {
+				publisher.publish("message-" + i).get(1, TimeUnit.MINUTES);
+			}
+
+			Eventually.assertDeferred(() -> this.listenerNine.countByCount.get(), is(ListenerNine.COMMIT_EVERY));
+			Eventually.assertDeferred(() -> topic.getRemainingMessages(ListenerNine.GROUP_ID), is(0));
+		}
+	}
+
+	@Test
+	void shouldCommitWithBatchStrategyAfterInterval() throws Exception {
+		NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentyFive");
+		try (Publisher<String> publisher = getPublisher("TwentyFive")) {
+			publisher.publish("message").get(1, TimeUnit.MINUTES);
+
+			Eventually.assertDeferred(() -> this.listenerNine.countByInterval.get(), is(1));
+			Eventually.assertDeferred(() -> topic.getRemainingMessages(ListenerNine.GROUP_ID), is(0));
+		}
+	}
+
+	@Test
+	void shouldKeepBatchCommittedPositionsWhenSubscriberGroupRebalances() throws Exception {
+		NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentySix");
+		try (Publisher<String> publisher = getPublisher("TwentySix")) {
+			for (int i = 0; i < ListenerNine.COMMIT_EVERY; i++) {
+				publisher.publish("message-" + i).get(1, TimeUnit.MINUTES);
+			}
+			Eventually.assertDeferred(() -> this.listenerNine.countByRebalance.get(), is(ListenerNine.COMMIT_EVERY));
+			Eventually.assertDeferred(() -> topic.getRemainingMessages(ListenerNine.GROUP_ID), is(0));
+
+			try (Subscriber<String> second = topic.createSubscriber(Subscriber.inGroup(ListenerNine.GROUP_ID))) {
+				// the channels are shared with the new subscriber, which must not receive committed messages again
+				Eventually.assertDeferred(() -> second.getChannels().length > 0, is(true));
+				Subscriber.Element<String> element = second.receive()
+						.completeOnTimeout(null, 2, TimeUnit.SECONDS)
+						.get(1, TimeUnit.MINUTES);
+
+				assertThat(element, is(nullValue()));
+				assertThat(topic.getRemainingMessages(ListenerNine.GROUP_ID), is(0));
+				assertThat(this.listenerNine.countByRebalance.get(), is(ListenerNine.COMMIT_EVERY));
+			}
+		}
+	}
+
 //	@Test
 //	void shouldCommitWithDefaultStrategy() throws Exception {
 //		NamedTopic<String> topic = this.coherence.getSession().getTopic("TwentyDefault");
@@ -655,6 +795,96 @@ class CoherenceTopicListenerTests {
 		}
 	}
 
+	@Singleton
+	static class ListenerSeven {
+		public static final String GROUP_ID = "batch";
+
+		public static final int BATCH_SIZE = 5;
+
+		public static final long MAX_WAIT = 1000L;
+
+		private final List<String> values = new CopyOnWriteArrayList<>();
+		private final List<String> elements = new CopyOnWriteArrayList<>();
+		private final AtomicInteger maxValueBatch = new AtomicInteger();
+		private final AtomicInteger maxElementBatch = new AtomicInteger();
+		private final List<Integer> partialBatches = new CopyOnWriteArrayList<>();
+		private volatile long partialBatchTime;
+
+		@Topic("TwentyOne")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(batchSize = BATCH_SIZE, maxWait = 100)
+		void values(List<String> batch) {
+			this.maxValueBatch.accumulateAndGet(batch.size(), Math::max);
+			this.values.addAll(batch);
+		}
+
+		@Topic("TwentyTwo")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(batchSize = BATCH_SIZE, maxWait = 100)
+		void elements(List<Subscriber.Element<String>> batch) {
+			this.maxElementBatch.accumulateAndGet(batch.size(), Math::max);
+			batch.forEach((element) -> this.elements.add(element.getValue()));
+		}
+
+		@Topic("TwentySeven")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(batchSize = BATCH_SIZE, maxWait = MAX_WAIT)
+		void partial(List<String> batch) {
+			this.partialBatchTime = System.currentTimeMillis();
+			this.partialBatches.add(batch.size());
+		}
+	}
+
+	@Singleton
+	static class ListenerEight {
+
+		public static final int CONCURRENCY = 3;
+
+		private final Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Topic("TwentyThree")
+		@SubscriberGroup("concurrent")
+		@CoherenceTopicListener(concurrency = CONCURRENCY)
+		void receive(Subscriber.Element<Integer> element) {
+			this.received.computeIfAbsent(element.getChannel(), (channel) -> new CopyOnWriteArrayList<>())
+					.add(element.getValue());
+			this.count.incrementAndGet();
+		}
+	}
+
+	@Singleton
+	static class ListenerNine {
+		public static final String GROUP_ID = "batch-commit";
+
+		public static final int COMMIT_EVERY = 5;
+
+		private final AtomicInteger countByCount = new AtomicInteger();
+		private final AtomicInteger countByInterval = new AtomicInteger();
+		private final AtomicInteger countByRebalance = new AtomicInteger();
+
+		@Topic("TwentyFour")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(commitStrategy = CommitStrategy.BATCH, commitEvery = COMMIT_EVERY, commitInterval = 0)
+		void byCount(String value) {
+			this.countByCount.incrementAndGet();
+		}
+
+		@Topic("TwentyFive")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(commitStrategy = CommitStrategy.BATCH, commitEvery = 1000, commitInterval = 100)
+		void byInterval(String value) {
+			this.countByInterval.incrementAndGet();
+		}
+
+		@Topic("TwentySix")
+		@SubscriberGroup(GROUP_ID)
+		@CoherenceTopicListener(commitStrategy = CommitStrategy.BATCH, commitEvery = COMMIT_EVERY, commitInterval = 0)
+		void byCountBeforeRebalance(String value) {
+			this.countByRebalance.incrementAndGet();
+		}
+	}
+
 	@Configuration
 	@EnableCoherence
 	@EnableCaching
@@ -688,6 +918,21 @@ class CoherenceTopicListenerTests {
 		ListenerSix getListenerSix() {
 			return new ListenerSix();
 		}
+
+		@Bean
+		ListenerSeven getListenerSeven() {
+			return new ListenerSeven();
+		}
+
+		@Bean
+		ListenerEight getListenerEight() {
+			return new ListenerEight();
+		}
+
+		@Bean
+		ListenerNine getListenerNine() {
+			return new ListenerNine();
+		}
 	}
 
 }